@@ -0,0 +1,142 @@
+package io.github.jaymorelli.cache;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks the throughput of the caches in this package against an access-ordered LinkedHashMap on a Zipfian key stream,
+ * where a few keys take most of the requests. Each operation reads a key and puts it on a miss, as a read-through cache would.
+ * The hit rate of each trial is printed at the end, since the policies trade speed for hit rate.
+ * @author Jean Morelli
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CacheBenchmark {
+    private static final int KEY_SPACE = 1 << 20;
+    //Power of two, so the stream can wrap around with a mask
+    private static final int STREAM_LENGTH = 1 << 22;
+
+    @Param({"LRU", "LFU", "SLRU", "LinkedHashMap"})
+    String policy;
+
+    @Param({"1000", "100000"})
+    int maximumSize;
+
+    @Param({"0.99"})
+    double skew;
+
+    Cache<Integer, Integer> cache;
+    Integer[] keys;
+    int cursor;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        cache = create(policy, maximumSize);
+        keys = zipfian(KEY_SPACE, skew, STREAM_LENGTH, new SplittableRandom(42));
+        cursor = 0;
+    }
+
+    @TearDown(Level.Trial)
+    public void printStats() {
+        System.out.println();
+        System.out.println(policy + " " + cache.stats());
+    }
+
+    @Benchmark
+    public Integer getOrPut() {
+        Integer key = keys[cursor++ & (STREAM_LENGTH - 1)];
+        Integer value = cache.get(key);
+        if(value == null) {
+            cache.put(key, key);
+            return key;
+        }
+        return value;
+    }
+
+    static Cache<Integer, Integer> create(String policy, int maximumSize) {
+        switch (policy) {
+            case "LRU": return new LruCache<>(maximumSize);
+            case "LFU": return new LfuCache<>(maximumSize);
+            case "SLRU": return new SlruCache<>(maximumSize);
+            case "LinkedHashMap": return new LinkedHashMapCache<>(maximumSize);
+            default: throw new IllegalArgumentException(policy);
+        }
+    }
+
+    /**
+     * Returns a stream of keys in [0, keySpace) where key k is drawn with a probability proportional to 1 / (k + 1)^skew.
+     * Draws use the inverse of the cumulative distribution with a binary search.
+     */
+    static Integer[] zipfian(int keySpace, double skew, int length, SplittableRandom random) {
+        double[] cumulative = new double[keySpace];
+        double sum = 0;
+        for (int k = 0; k < keySpace; k++) {
+            sum += 1 / Math.pow(k + 1, skew);
+            cumulative[k] = sum;
+        }
+
+        Integer[] keys = new Integer[length];
+        for (int i = 0; i < length; i++) {
+            int k = Arrays.binarySearch(cumulative, random.nextDouble() * sum);
+            keys[i] = Math.min(keySpace - 1, k >= 0 ? k : -k - 1);
+        }
+        return keys;
+    }
+
+    /**
+     * LRU baseline built on an access-ordered LinkedHashMap that drops its eldest entry when full.
+     */
+    static class LinkedHashMapCache<K, V> implements Cache<K, V> {
+        private final Map<K, V> delegate;
+        private long hitCount;
+        private long missCount;
+        private long evictionCount;
+
+        LinkedHashMapCache(int maximumSize) {
+            this.delegate = new LinkedHashMap<>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<K, V> eldest) {
+                    boolean full = size() > maximumSize;
+                    if(full) evictionCount++;
+                    return full;
+                }
+            };
+        }
+
+        public V get(K key) {
+            V value = delegate.get(key);
+            if(value == null) missCount++;
+            else hitCount++;
+            return value;
+        }
+
+        public boolean containsKey(K key) { return delegate.containsKey(key); }
+        public void put(K key, V value) { delegate.put(key, value); }
+        public V remove(K key) { return delegate.remove(key); }
+        public int size() { return delegate.size(); }
+        public long weightedSize() { return delegate.size(); }
+        public void clear() { delegate.clear(); }
+        public CacheStats stats() { return new CacheStats(hitCount, missCount, evictionCount); }
+    }
+}
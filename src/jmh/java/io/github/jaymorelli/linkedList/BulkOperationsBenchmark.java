@@ -0,0 +1,85 @@
+package io.github.jaymorelli.linkedList;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks inserting a batch of elements in the middle of a list and removing it again,
+ * once with addAll and removeRange and once element by element with add(i, e) and remove(i).
+ * @author Jean Morelli
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BulkOperationsBenchmark {
+
+    @Param({"LinkedList", "DoublyLinkedList", "UnrolledLinkedList", "java.util.LinkedList"})
+    String implementation;
+
+    @Param({"1000", "100000"})
+    int size;
+
+    @Param({"100"})
+    int batchSize;
+
+    SimpleList<Integer> list;
+    List<Integer> batch;
+    int middle;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        list = SimpleListBenchmark.create(implementation);
+        Integer[] elements = new Integer[size];
+        for (int i = 0; i < size; i++) {
+            elements[i] = i;
+        }
+        list.addAll(Arrays.asList(elements));
+        batch = new ArrayList<>();
+        for (int i = 0; i < batchSize; i++) {
+            batch.add(-i);
+        }
+        middle = size / 2;
+    }
+
+    @Benchmark
+    public int addAllThenRemoveRange() {
+        list.addAll(middle, batch);
+        list.removeRange(middle, middle + batchSize);
+        return list.size();
+    }
+
+    @Benchmark
+    public int addEachThenRemoveEach() {
+        int i = middle;
+        for (Integer e : batch) {
+            list.add(i++, e);
+        }
+        for (int j = 0; j < batchSize; j++) {
+            list.remove(middle);
+        }
+        return list.size();
+    }
+
+    @Benchmark
+    public Object[] toArray() {
+        return list.toArray();
+    }
+}
@@ -0,0 +1,118 @@
+package io.github.jaymorelli.linkedList;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks contended producer/consumer traffic on both ends of a shared list:
+ * producers add at the tail and at the head while consumers remove from the head and from the tail.
+ * ConcurrentDoublyLinkedList is compared against DoublyLinkedList guarded by synchronized.
+ * @author Jean Morelli
+ */
+@State(Scope.Group)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ConcurrentDequeBenchmark {
+
+    @Param({"ConcurrentDoublyLinkedList", "synchronized DoublyLinkedList"})
+    String implementation;
+
+    Deque<Integer> list;
+    Integer element;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        if("ConcurrentDoublyLinkedList".equals(implementation)) {
+            ConcurrentDoublyLinkedList<Integer> concurrent = new ConcurrentDoublyLinkedList<>();
+            list = new Deque<>() {
+                public void add(Integer e) { concurrent.add(e); }
+                public void addFirst(Integer e) { concurrent.addFirst(e); }
+                public Integer pollFirst() { return concurrent.pollFirst(); }
+                public Integer pollLast() { return concurrent.pollLast(); }
+            };
+        } else {
+            DoublyLinkedList<Integer> locked = new DoublyLinkedList<>();
+            list = new Deque<>() {
+                public void add(Integer e) {
+                    synchronized (locked) { locked.add(e); }
+                }
+                public void addFirst(Integer e) {
+                    synchronized (locked) { locked.addFirst(e); }
+                }
+                public Integer pollFirst() {
+                    synchronized (locked) {
+                        if(locked.isEmpty()) return null;
+                        Integer result = locked.getFirst();
+                        locked.removeFirst();
+                        return result;
+                    }
+                }
+                public Integer pollLast() {
+                    synchronized (locked) {
+                        if(locked.isEmpty()) return null;
+                        Integer result = locked.getLast();
+                        locked.removeLast();
+                        return result;
+                    }
+                }
+            };
+        }
+        element = 1;
+    }
+
+    @Benchmark
+    @Group("bothEnds")
+    @GroupThreads(2)
+    public void addLast() {
+        list.add(element);
+    }
+
+    @Benchmark
+    @Group("bothEnds")
+    @GroupThreads(2)
+    public void addFirst() {
+        list.addFirst(element);
+    }
+
+    @Benchmark
+    @Group("bothEnds")
+    @GroupThreads(2)
+    public Integer pollFirst() {
+        return list.pollFirst();
+    }
+
+    @Benchmark
+    @Group("bothEnds")
+    @GroupThreads(2)
+    public Integer pollLast() {
+        return list.pollLast();
+    }
+
+    /**
+     * Common view over the benchmarked lists.
+     * @param <E> Element - any object
+     */
+    interface Deque<E> {
+        void add(E e);
+        void addFirst(E e);
+        E pollFirst();
+        E pollLast();
+    }
+}
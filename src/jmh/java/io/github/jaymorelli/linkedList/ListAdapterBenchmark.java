@@ -0,0 +1,69 @@
+package io.github.jaymorelli.linkedList;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks handing a list to JDK code: copying it element by element through get(i), as callers had to before,
+ * against copying it and searching it through its java.util.List view.
+ * @author Jean Morelli
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ListAdapterBenchmark {
+
+    @Param({"LinkedList", "DoublyLinkedList"})
+    String implementation;
+
+    @Param({"1000", "10000"})
+    int size;
+
+    SimpleList<Integer> list;
+    List<Integer> view;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        list = "LinkedList".equals(implementation) ? new LinkedList<>() : new DoublyLinkedList<>();
+        for (int i = 0; i < size; i++) {
+            list.add(i);
+        }
+        view = list.asList();
+    }
+
+    @Benchmark
+    public List<Integer> copyThroughGet() {
+        List<Integer> copy = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            copy.add(list.get(i));
+        }
+        return copy;
+    }
+
+    @Benchmark
+    public List<Integer> copyThroughView() {
+        return new ArrayList<>(view);
+    }
+
+    @Benchmark
+    public int indexOfLastThroughView() {
+        return view.indexOf(size - 1);
+    }
+}
@@ -0,0 +1,116 @@
+package io.github.jaymorelli.linkedList;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks the operations on both ends of the list (addFirst, removeFirst, add and removeLast)
+ * against java.util.LinkedList and ArrayDeque.
+ * Each benchmark adds and removes one element so the list keeps the same size between invocations.
+ * Run with -prof gc to compare the bytes allocated per operation, which drop to zero with the pooled DoublyLinkedList.
+ * @author Jean Morelli
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ListEndsBenchmark {
+    private static final int NODE_POOL_CAPACITY = 1024;
+
+    @Param({"LinkedList", "DoublyLinkedList", "DoublyLinkedList-pooled", "java.util.LinkedList", "ArrayDeque"})
+    String implementation;
+
+    @Param({"10", "1000", "100000", "10000000"})
+    int size;
+
+    Ends<Integer> list;
+    Integer element;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        list = create(implementation);
+        for (int i = size - 1; i >= 0; i--) {
+            list.addFirst(i);
+        }
+        element = -1;
+    }
+
+    @Benchmark
+    public boolean addFirstThenRemoveFirst() {
+        list.addFirst(element);
+        return list.removeFirst();
+    }
+
+    @Benchmark
+    public boolean addThenRemoveLast() {
+        list.addLast(element);
+        return list.removeLast();
+    }
+
+    static Ends<Integer> create(String implementation) {
+        switch (implementation) {
+            case "LinkedList": {
+                LinkedList<Integer> list = new LinkedList<>();
+                return new Ends<>() {
+                    public void addFirst(Integer e) { list.addFirst(e); }
+                    public void addLast(Integer e) { list.add(e); }
+                    public boolean removeFirst() { return list.removeFirst(); }
+                    public boolean removeLast() { return list.removeLast(); }
+                };
+            }
+            case "DoublyLinkedList":
+            case "DoublyLinkedList-pooled": {
+                DoublyLinkedList<Integer> list = implementation.endsWith("-pooled") ? new DoublyLinkedList<>(NODE_POOL_CAPACITY) : new DoublyLinkedList<>();
+                return new Ends<>() {
+                    public void addFirst(Integer e) { list.addFirst(e); }
+                    public void addLast(Integer e) { list.add(e); }
+                    public boolean removeFirst() { return list.removeFirst(); }
+                    public boolean removeLast() { return list.removeLast(); }
+                };
+            }
+            case "java.util.LinkedList": return new JdkEnds<>(new java.util.LinkedList<>());
+            case "ArrayDeque": return new JdkEnds<>(new ArrayDeque<>());
+            default: throw new IllegalArgumentException(implementation);
+        }
+    }
+
+    /**
+     * Common view over the operations on both ends of the benchmarked structures.
+     * @param <E> Element - any object
+     */
+    interface Ends<E> {
+        void addFirst(E e);
+        void addLast(E e);
+        boolean removeFirst();
+        boolean removeLast();
+    }
+
+    static class JdkEnds<E> implements Ends<E> {
+        private final Deque<E> delegate;
+
+        JdkEnds(Deque<E> delegate) {
+            this.delegate = delegate;
+        }
+
+        public void addFirst(E e) { delegate.addFirst(e); }
+        public void addLast(E e) { delegate.addLast(e); }
+        public boolean removeFirst() { return delegate.removeFirst() != null; }
+        public boolean removeLast() { return delegate.removeLast() != null; }
+    }
+}
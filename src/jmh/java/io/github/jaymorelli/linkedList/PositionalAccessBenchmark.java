@@ -0,0 +1,79 @@
+package io.github.jaymorelli.linkedList;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks get, add and remove at random positions of large lists, where DoublyLinkedList walks O(n) nodes
+ * and IndexableSkipList O(log n), and a get(i) loop over consecutive indexes, where DoublyLinkedList walks
+ * a single node from its finger while java.util.LinkedList walks from the closest end every time.
+ * Add and remove are measured as a pair so the list keeps its size.
+ * @author Jean Morelli
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class PositionalAccessBenchmark {
+
+    @Param({"DoublyLinkedList", "IndexableSkipList", "java.util.LinkedList"})
+    String implementation;
+
+    @Param({"10000", "1000000", "10000000"})
+    int size;
+
+    @Param({"1"})
+    int stride;
+
+    SimpleList<Integer> list;
+    SplittableRandom random;
+    Integer element;
+    int cursor;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        list = "IndexableSkipList".equals(implementation) ? new IndexableSkipList<>() : SimpleListBenchmark.create(implementation);
+        for (int i = 0; i < size; i++) {
+            list.add(i);
+        }
+        random = new SplittableRandom(42);
+        element = -1;
+    }
+
+    @Benchmark
+    public Integer getRandom() {
+        return list.get(random.nextInt(size));
+    }
+
+    /**
+     * One step of a loop like for(i...) list.get(i), moving stride positions at a time and wrapping at the end.
+     */
+    @Benchmark
+    public Integer getSequential() {
+        cursor += stride;
+        if(cursor >= size) cursor -= size;
+        return list.get(cursor);
+    }
+
+    @Benchmark
+    public boolean addThenRemoveRandom() {
+        int i = random.nextInt(size);
+        list.add(i, element);
+        return list.remove(i);
+    }
+}
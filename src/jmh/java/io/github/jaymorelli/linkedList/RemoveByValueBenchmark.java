@@ -0,0 +1,59 @@
+package io.github.jaymorelli.linkedList;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks removing a random element by value and adding it back at the tail, as a dedup or cancellation path does,
+ * where DoublyLinkedList scans with equals and LinkedHashList looks the node up in its hash index.
+ * @author Jean Morelli
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RemoveByValueBenchmark {
+
+    @Param({"DoublyLinkedList", "LinkedHashList", "java.util.LinkedList"})
+    String implementation;
+
+    @Param({"1000", "100000", "1000000"})
+    int size;
+
+    SimpleList<Integer> list;
+    Integer[] elements;
+    SplittableRandom random;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        list = SimpleListBenchmark.create(implementation);
+        elements = new Integer[size];
+        for (int i = 0; i < size; i++) {
+            elements[i] = i;
+            list.add(elements[i]);
+        }
+        random = new SplittableRandom(42);
+    }
+
+    @Benchmark
+    public boolean removeThenAdd() {
+        Integer element = elements[random.nextInt(size)];
+        list.remove(element);
+        return list.add(element);
+    }
+}
@@ -0,0 +1,178 @@
+package io.github.jaymorelli.linkedList;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks the {@link SimpleList} operations of every implementation in this module against java.util.LinkedList.
+ * Mutating benchmarks undo their own change (e.g. add followed by remove) so that every invocation sees a list of the same size,
+ * which means the reported time is the cost of the pair.
+ * @author Jean Morelli
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SimpleListBenchmark {
+
+    @Param({"LinkedList", "DoublyLinkedList", "UnrolledLinkedList", "CompactDoublyLinkedList", "java.util.LinkedList"})
+    String implementation;
+
+    @Param({"10", "1000", "100000", "10000000"})
+    int size;
+
+    SimpleList<Integer> list;
+    int middle;
+    Integer middleElement;
+    Integer element;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        list = create(implementation);
+        //Filled from the back with add(0, e) because LinkedList.add(e) walks to the last node on every call
+        for (int i = size - 1; i >= 0; i--) {
+            list.add(0, i);
+        }
+        middle = size / 2;
+        middleElement = middle;
+        element = -1;
+    }
+
+    @Benchmark
+    public boolean addThenRemoveLast() {
+        list.add(element);
+        return list.remove(size);
+    }
+
+    @Benchmark
+    public boolean addAtMiddleThenRemove() {
+        list.add(middle, element);
+        return list.remove(middle);
+    }
+
+    @Benchmark
+    public Integer getMiddle() {
+        return list.get(middle);
+    }
+
+    @Benchmark
+    public long iterate() {
+        long sum = 0;
+        for (Integer e : list) {
+            sum += e;
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public boolean removeAtMiddleThenAdd() {
+        list.remove(middle);
+        return list.add(middle, middleElement);
+    }
+
+    @Benchmark
+    public boolean removeElementThenAdd() {
+        list.remove(middleElement);
+        return list.add(middle, middleElement);
+    }
+
+    static SimpleList<Integer> create(String implementation) {
+        switch (implementation) {
+            case "LinkedList": return new LinkedList<>();
+            case "DoublyLinkedList": return new DoublyLinkedList<>();
+            case "UnrolledLinkedList": return new UnrolledLinkedList<>();
+            case "CompactDoublyLinkedList": return new CompactDoublyLinkedList<>();
+            case "LinkedHashList": return new LinkedHashList<>();
+            case "java.util.LinkedList": return new JdkList<>(new java.util.LinkedList<>());
+            default: throw new IllegalArgumentException(implementation);
+        }
+    }
+
+    /**
+     * Exposes a java.util.List through the SimpleList contract so it can be used as a baseline.
+     * @param <E> Element - any object
+     */
+    static class JdkList<E> implements SimpleList<E> {
+        private final java.util.List<E> delegate;
+
+        JdkList(java.util.List<E> delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public int size() {
+            return delegate.size();
+        }
+
+        @Override
+        public boolean isEmpty() {
+            return delegate.isEmpty();
+        }
+
+        @Override
+        public void clear() {
+            delegate.clear();
+        }
+
+        @Override
+        public E get(int i) {
+            return delegate.get(i);
+        }
+
+        @Override
+        public boolean add(E e) {
+            return delegate.add(e);
+        }
+
+        @Override
+        public boolean add(int i, E e) {
+            delegate.add(i, e);
+            return true;
+        }
+
+        @Override
+        public boolean remove(int i) {
+            delegate.remove(i);
+            return true;
+        }
+
+        @Override
+        public boolean remove(E e) {
+            return delegate.remove(e);
+        }
+
+        @Override
+        public boolean addAll(int i, java.util.Collection<? extends E> c) {
+            return delegate.addAll(i, c);
+        }
+
+        @Override
+        public void removeRange(int from, int to) {
+            delegate.subList(from, to).clear();
+        }
+
+        @Override
+        public Object[] toArray() {
+            return delegate.toArray();
+        }
+
+        @Override
+        public java.util.ListIterator<E> listIterator(int i) {
+            return delegate.listIterator(i);
+        }
+    }
+}
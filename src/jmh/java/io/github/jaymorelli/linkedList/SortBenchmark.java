@@ -0,0 +1,120 @@
+package io.github.jaymorelli.linkedList;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks sorting a list of Integers in place: the merge sort of LinkedList and DoublyLinkedList, sequential and parallel,
+ * against java.util.LinkedList.sort, which copies the elements into an array, sorts it and writes them back.
+ * "nearlySorted" swaps 1% of the elements of a sorted list. The list is refilled before each invocation.
+ * @author Jean Morelli
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class SortBenchmark {
+
+    @Param({"LinkedList", "DoublyLinkedList", "java.util.LinkedList"})
+    String implementation;
+
+    @Param({"1000000"})
+    int size;
+
+    @Param({"random", "nearlySorted"})
+    String data;
+
+    Integer[] elements;
+    LinkedList<Integer> linkedList;
+    DoublyLinkedList<Integer> doublyLinkedList;
+    java.util.LinkedList<Integer> jdkList;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Random random = new Random(42);
+        elements = new Integer[size];
+        for (int i = 0; i < size; i++) {
+            elements[i] = "random".equals(data) ? random.nextInt() : i;
+        }
+        if("nearlySorted".equals(data)) {
+            for (int k = 0; k < size / 100; k++) {
+                int i = random.nextInt(size);
+                int j = random.nextInt(size);
+                Integer swap = elements[i];
+                elements[i] = elements[j];
+                elements[j] = swap;
+            }
+        }
+        linkedList = new LinkedList<>();
+        doublyLinkedList = new DoublyLinkedList<>();
+        jdkList = new java.util.LinkedList<>();
+    }
+
+    @Setup(Level.Invocation)
+    public void refill() {
+        switch (implementation) {
+            case "LinkedList":
+                linkedList = LinkedList.fromArray(elements);
+                break;
+            case "DoublyLinkedList":
+                doublyLinkedList = DoublyLinkedList.fromArray(elements);
+                break;
+            default:
+                jdkList = new java.util.LinkedList<>(Arrays.asList(elements));
+        }
+    }
+
+    @Benchmark
+    public Object sort() {
+        switch (implementation) {
+            case "LinkedList":
+                linkedList.sort(Comparator.naturalOrder());
+                return linkedList;
+            case "DoublyLinkedList":
+                doublyLinkedList.sort(Comparator.naturalOrder());
+                return doublyLinkedList;
+            default:
+                jdkList.sort(Comparator.naturalOrder());
+                return jdkList;
+        }
+    }
+
+    @Benchmark
+    public Object parallelSort() {
+        switch (implementation) {
+            case "LinkedList":
+                linkedList.parallelSort(Comparator.naturalOrder());
+                return linkedList;
+            case "DoublyLinkedList":
+                doublyLinkedList.parallelSort(Comparator.naturalOrder());
+                return doublyLinkedList;
+            default:
+                //No parallel sort on java.util.LinkedList: copy, sort the array in parallel and write back
+                Object[] array = jdkList.toArray();
+                Arrays.parallelSort(array, (a, b) -> ((Integer) a).compareTo((Integer) b));
+                java.util.ListIterator<Integer> iterator = jdkList.listIterator();
+                for (Object e : array) {
+                    iterator.next();
+                    iterator.set((Integer) e);
+                }
+                return jdkList;
+        }
+    }
+}
@@ -0,0 +1,66 @@
+package io.github.jaymorelli.linkedList;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks moving the second half of a list into another one and back.
+ * DoublyLinkedList does it with splitAt and append, one traversal to the middle plus O(1) relinking,
+ * while java.util.LinkedList has to copy the elements with addAll and drop them from the sub list.
+ * @author Jean Morelli
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class SpliceBenchmark {
+
+    @Param({"1000", "100000", "1000000"})
+    int size;
+
+    DoublyLinkedList<Integer> doublyLinkedList;
+    java.util.LinkedList<Integer> jdkList;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        doublyLinkedList = new DoublyLinkedList<>();
+        jdkList = new java.util.LinkedList<>();
+        for (int i = 0; i < size; i++) {
+            doublyLinkedList.add(i);
+            jdkList.add(i);
+        }
+    }
+
+    @Benchmark
+    public int doublyLinkedListSplitThenAppend() {
+        DoublyLinkedList<Integer> suffix = doublyLinkedList.splitAt(size / 2);
+        int moved = suffix.size();
+        doublyLinkedList.append(suffix);
+        return moved;
+    }
+
+    @Benchmark
+    public int jdkListSplitThenAppend() {
+        List<Integer> tail = jdkList.subList(size / 2, size);
+        java.util.LinkedList<Integer> suffix = new java.util.LinkedList<>(tail);
+        tail.clear();
+        int moved = suffix.size();
+        jdkList.addAll(suffix);
+        return moved;
+    }
+}
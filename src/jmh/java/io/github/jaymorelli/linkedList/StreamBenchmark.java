@@ -0,0 +1,64 @@
+package io.github.jaymorelli.linkedList;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks a map/filter/reduce pipeline over DoublyLinkedList streams.
+ * The parallel pipeline runs in a dedicated ForkJoinPool so that throughput can be compared across numbers of cores,
+ * parallelism 1 being the sequential baseline.
+ * @author Jean Morelli
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class StreamBenchmark {
+
+    @Param({"1000000", "10000000"})
+    int size;
+
+    @Param({"1", "2", "4", "8", "16"})
+    int parallelism;
+
+    DoublyLinkedList<Integer> list;
+    ForkJoinPool pool;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        list = new DoublyLinkedList<>();
+        for (int i = 0; i < size; i++) {
+            list.add(i);
+        }
+        pool = new ForkJoinPool(parallelism);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        pool.shutdown();
+    }
+
+    @Benchmark
+    public long mapFilterReduce() {
+        if(parallelism == 1) {
+            return list.stream().mapToLong(i -> (long) i * i).filter(i -> (i & 1) == 0).sum();
+        }
+        return pool.submit(() -> list.parallelStream().mapToLong(i -> (long) i * i).filter(i -> (i & 1) == 0).sum()).join();
+    }
+}
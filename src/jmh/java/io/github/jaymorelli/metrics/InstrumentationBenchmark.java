@@ -0,0 +1,64 @@
+package io.github.jaymorelli.metrics;
+
+import io.github.jaymorelli.linkedList.DoublyLinkedList;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks the cost of instrumentation on DoublyLinkedList: with the default no-op listener the numbers should match
+ * an uninstrumented list, while OperationMetrics pays for its counters on every operation.
+ * Each listener runs in its own fork so the no-op listener is the only one the JIT sees.
+ * @author Jean Morelli
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class InstrumentationBenchmark {
+
+    @Param({"none", "OperationMetrics"})
+    String listener;
+
+    @Param({"1000"})
+    int size;
+
+    DoublyLinkedList<Integer> list;
+    Integer element;
+    int cursor;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        list = new DoublyLinkedList<>();
+        if("OperationMetrics".equals(listener)) list.setMetricsListener(new OperationMetrics());
+        for (int i = 0; i < size; i++) {
+            list.add(i);
+        }
+        element = -1;
+    }
+
+    @Benchmark
+    public boolean addThenRemoveLast() {
+        list.add(element);
+        return list.removeLast();
+    }
+
+    @Benchmark
+    public Integer getSequential() {
+        if(++cursor == size) cursor = 0;
+        return list.get(cursor);
+    }
+}
@@ -0,0 +1,102 @@
+package io.github.jaymorelli.serialization;
+
+import io.github.jaymorelli.linkedList.DoublyLinkedList;
+import io.github.jaymorelli.linkedList.IntDoublyLinkedList;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks writing a list of ints to a file and reading it back: ListSerializer with the Integer codec,
+ * its int fast path, and Java serialization of a java.util.LinkedList as the baseline.
+ * @author Jean Morelli
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class SerializationBenchmark {
+
+    @Param({"100000", "1000000"})
+    int size;
+
+    DoublyLinkedList<Integer> list;
+    IntDoublyLinkedList intList;
+    java.util.LinkedList<Integer> jdkList;
+    Path file;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        list = new DoublyLinkedList<>();
+        intList = new IntDoublyLinkedList();
+        jdkList = new java.util.LinkedList<>();
+        for (int i = 0; i < size; i++) {
+            list.add(i);
+            intList.add(i);
+            jdkList.add(i);
+        }
+        file = Files.createTempFile("serialization-benchmark", ".bin");
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(file);
+    }
+
+    @Benchmark
+    public int listSerializerWriteThenRead() throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            ListSerializer.write(list, ElementCodec.ofIntegers(), channel);
+        }
+        DoublyLinkedList<Integer> copy = new DoublyLinkedList<>();
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            ListSerializer.read(channel, ElementCodec.ofIntegers(), copy);
+        }
+        return copy.size();
+    }
+
+    @Benchmark
+    public int listSerializerIntsWriteThenRead() throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            ListSerializer.write(intList, channel);
+        }
+        IntDoublyLinkedList copy = new IntDoublyLinkedList();
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            ListSerializer.readInts(channel, copy);
+        }
+        return copy.size();
+    }
+
+    @Benchmark
+    public int javaSerializationWriteThenRead() throws IOException, ClassNotFoundException {
+        try (ObjectOutputStream out = new ObjectOutputStream(new BufferedOutputStream(Files.newOutputStream(file)))) {
+            out.writeObject(jdkList);
+        }
+        try (ObjectInputStream in = new ObjectInputStream(new BufferedInputStream(Files.newInputStream(file)))) {
+            return ((java.util.LinkedList<?>) in.readObject()).size();
+        }
+    }
+}
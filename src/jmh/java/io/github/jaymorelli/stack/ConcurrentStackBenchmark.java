@@ -0,0 +1,107 @@
+package io.github.jaymorelli.stack;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks the throughput of the thread-safe stacks when many threads push and pop the same stack,
+ * against StackLL guarded by synchronized and ConcurrentLinkedDeque.
+ * Every thread pushes and then pops, so the stack keeps its initial depth on average.
+ * A plain run of the benchmarks jar uses 4 threads; the main method runs the sweep from 1 to 64 threads,
+ * writing one JSON file per thread count in target/.
+ * @author Jean Morelli
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@Threads(4)
+public class ConcurrentStackBenchmark {
+
+    static final int[] THREAD_COUNTS = {1, 2, 4, 8, 16, 32, 64};
+
+    @Param({"ConcurrentStack", "EliminationBackoffStack", "synchronized StackLL", "ConcurrentLinkedDeque"})
+    String implementation;
+
+    @Param({"1000"})
+    int size;
+
+    Stack<Integer> stack;
+    Integer element;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        stack = create(implementation);
+        for (int i = 0; i < size; i++) {
+            stack.push(i);
+        }
+        element = -1;
+    }
+
+    @Benchmark
+    public Integer pushThenPop() {
+        stack.push(element);
+        return stack.pop();
+    }
+
+    static Stack<Integer> create(String implementation) {
+        switch (implementation) {
+            case "ConcurrentStack": return new ConcurrentStack<>();
+            case "EliminationBackoffStack": return new EliminationBackoffStack<>();
+            case "synchronized StackLL": return new SynchronizedStack<>(new StackLL<>());
+            case "ConcurrentLinkedDeque": return new StackBenchmark.JdkStack<>(new ConcurrentLinkedDeque<>());
+            default: throw new IllegalArgumentException(implementation);
+        }
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        for (int threads : THREAD_COUNTS) {
+            Options options = new OptionsBuilder()
+                    .include(ConcurrentStackBenchmark.class.getSimpleName())
+                    .threads(threads)
+                    .resultFormat(ResultFormatType.JSON)
+                    .result(String.format("target/jmh-concurrent-stack-%d-threads.json", threads))
+                    .build();
+            new Runner(options).run();
+        }
+    }
+
+    /**
+     * Guards every operation of the given stack with its monitor, the way callers make StackLL thread-safe today.
+     * @param <E> Element - any object
+     */
+    static class SynchronizedStack<E> implements Stack<E> {
+        private final Stack<E> delegate;
+
+        SynchronizedStack(Stack<E> delegate) {
+            this.delegate = delegate;
+        }
+
+        public synchronized boolean isEmpty() { return delegate.isEmpty(); }
+        public synchronized int size() { return delegate.size(); }
+        public synchronized void push(E e) { delegate.push(e); }
+        public synchronized E pop() { return delegate.pop(); }
+        public synchronized E peek() { return delegate.peek(); }
+    }
+}
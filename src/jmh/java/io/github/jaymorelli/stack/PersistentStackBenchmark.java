@@ -0,0 +1,64 @@
+package io.github.jaymorelli.stack;
+
+import io.github.jaymorelli.serialization.ElementCodec;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks a push followed by a pop on PersistentStack, for several sync intervals:
+ * syncEvery = 1 pays for a sync to the storage device on every operation, larger intervals amortize it.
+ * @author Jean Morelli
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PersistentStackBenchmark {
+
+    @Param({"1", "100", "10000"})
+    int syncEvery;
+
+    PersistentStack<Long> stack;
+    Path file;
+    long value;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        file = Files.createTempFile("persistent-stack-benchmark", ".bin");
+        Files.delete(file);
+        stack = new PersistentStack<>(file, ElementCodec.ofLongs(), syncEvery);
+        for (long i = 0; i < 1000; i++) {
+            stack.push(i);
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        stack.close();
+        Files.deleteIfExists(file);
+    }
+
+    @Benchmark
+    public Long pushThenPop() {
+        stack.push(value++);
+        return stack.pop();
+    }
+}
@@ -0,0 +1,66 @@
+package io.github.jaymorelli.stack;
+
+import io.github.jaymorelli.serialization.ElementCodec;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.nio.file.Paths;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks filling a stack to the given depth and draining it, the way an iterative DFS uses it:
+ * SpillingStack keeping 4 segments of 65536 elements in memory against StackLL and ArrayStack holding everything on the heap.
+ * Run with -prof gc to compare the allocation rates.
+ * @author Jean Morelli
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class SpillingStackBenchmark {
+    private static final int SEGMENT_SIZE = 1 << 16;
+    private static final int SEGMENTS_IN_MEMORY = 4;
+
+    @Param({"SpillingStack", "StackLL", "ArrayStack"})
+    String implementation;
+
+    @Param({"1000000", "10000000"})
+    int depth;
+
+    @Benchmark
+    public long fillThenDrain() throws IOException {
+        Stack<Long> stack = create();
+        try {
+            for (long i = 0; i < depth; i++) {
+                stack.push(i);
+            }
+            long sum = 0;
+            while(!stack.isEmpty()) {
+                sum += stack.pop();
+            }
+            return sum;
+        } finally {
+            if(stack instanceof SpillingStack) ((SpillingStack<Long>) stack).close();
+        }
+    }
+
+    private Stack<Long> create() {
+        switch (implementation) {
+            case "SpillingStack": return new SpillingStack<>(ElementCodec.ofLongs(), SEGMENT_SIZE, SEGMENTS_IN_MEMORY, Paths.get(System.getProperty("java.io.tmpdir")));
+            case "StackLL": return new StackLL<>();
+            case "ArrayStack": return new ArrayStack<>();
+            default: throw new IllegalArgumentException(implementation);
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package io.github.jaymorelli.stack;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks pushing and popping a batch of elements on a pooled StackLL, one element at a time against pushAll and popN.
+ * Run with -prof gc to check that the batched round trip does not allocate.
+ * @author Jean Morelli
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class StackBatchBenchmark {
+    private static final int NODE_POOL_CAPACITY = 1024;
+
+    @Param({"8", "64"})
+    int batch;
+
+    StackLL<Integer> stack;
+    Integer[] elements;
+    Integer[] dest;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        stack = new StackLL<>(NODE_POOL_CAPACITY);
+        for (int i = 0; i < 1000; i++) {
+            stack.push(i);
+        }
+        elements = new Integer[batch];
+        for (int i = 0; i < batch; i++) {
+            elements[i] = i;
+        }
+        dest = new Integer[batch];
+    }
+
+    @Benchmark
+    public Integer[] oneByOne() {
+        for (Integer e : elements) {
+            stack.push(e);
+        }
+        for (int i = 0; i < batch; i++) {
+            dest[i] = stack.pop();
+        }
+        return dest;
+    }
+
+    @Benchmark
+    public Integer[] batched() {
+        stack.pushAll(elements);
+        stack.popN(batch, dest);
+        return dest;
+    }
+}
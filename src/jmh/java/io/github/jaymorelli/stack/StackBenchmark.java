@@ -0,0 +1,88 @@
+package io.github.jaymorelli.stack;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks push, pop and peek of the Stack implementations in this module against java.util.LinkedList and ArrayDeque used as stacks.
+ * Push and pop are measured as a pair so the stack keeps the same depth between invocations.
+ * Run with -prof gc to compare the bytes allocated per operation, which drop to zero with the pooled StackLL.
+ * @author Jean Morelli
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class StackBenchmark {
+    private static final int NODE_POOL_CAPACITY = 1024;
+
+    @Param({"StackLL", "StackLL-pooled", "ArrayStack", "java.util.LinkedList", "ArrayDeque"})
+    String implementation;
+
+    @Param({"10", "1000", "100000", "10000000"})
+    int size;
+
+    Stack<Integer> stack;
+    Integer element;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        stack = create(implementation);
+        for (int i = 0; i < size; i++) {
+            stack.push(i);
+        }
+        element = -1;
+    }
+
+    @Benchmark
+    public Integer pushThenPop() {
+        stack.push(element);
+        return stack.pop();
+    }
+
+    @Benchmark
+    public Integer peek() {
+        return stack.peek();
+    }
+
+    static Stack<Integer> create(String implementation) {
+        switch (implementation) {
+            case "StackLL": return new StackLL<>();
+            case "StackLL-pooled": return new StackLL<>(NODE_POOL_CAPACITY);
+            case "ArrayStack": return new ArrayStack<>();
+            case "java.util.LinkedList": return new JdkStack<>(new java.util.LinkedList<>());
+            case "ArrayDeque": return new JdkStack<>(new ArrayDeque<>());
+            default: throw new IllegalArgumentException(implementation);
+        }
+    }
+
+    static class JdkStack<E> implements Stack<E> {
+        private final Deque<E> delegate;
+
+        JdkStack(Deque<E> delegate) {
+            this.delegate = delegate;
+        }
+
+        public boolean isEmpty() { return delegate.isEmpty(); }
+        public int size() { return delegate.size(); }
+        public void push(E e) { delegate.push(e); }
+        public E pop() { return delegate.pop(); }
+        public E peek() { return delegate.peek(); }
+    }
+}
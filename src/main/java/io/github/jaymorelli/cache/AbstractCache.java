@@ -0,0 +1,166 @@
+package io.github.jaymorelli.cache;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Skeleton of the caches of this package: a hash index from key to entry, weight accounting, counters and eviction.
+ * Subclasses only decide how entries are ordered, through the hooks called on insert, access and removal, and which entry is the next victim.
+ * @param <K> Key - any object with consistent equals and hashCode
+ * @param <V> Value - any object
+ * @author Jean Morelli
+ */
+abstract class AbstractCache<K, V> implements Cache<K, V> {
+    private final Map<K, Entry<K, V>> index = new HashMap<>();
+    final long maximumWeight;
+    private final Weigher<? super K, ? super V> weigher;
+    private final EvictionListener<? super K, ? super V> listener;
+    private long weightedSize;
+    private long hitCount;
+    private long missCount;
+    private long evictionCount;
+
+    /**
+     * @throws IllegalArgumentException if maximumWeight is negative
+     * @throws NullPointerException if weigher or listener is null
+     * @param maximumWeight - maximum total weight of the entries
+     * @param weigher - weight of each entry
+     * @param listener - notified of every eviction
+     */
+    AbstractCache(long maximumWeight, Weigher<? super K, ? super V> weigher, EvictionListener<? super K, ? super V> listener) {
+        if(maximumWeight < 0) throw new IllegalArgumentException("Maximum weight must not be negative");
+        this.maximumWeight = maximumWeight;
+        this.weigher = Objects.requireNonNull(weigher);
+        this.listener = Objects.requireNonNull(listener);
+    }
+
+    @Override
+    public V get(K key) {
+        Entry<K, V> entry = index.get(key);
+        if(Objects.isNull(entry)) {
+            missCount++;
+            return null;
+        }
+        hitCount++;
+        onAccess(entry);
+        return entry.value;
+    }
+
+    @Override
+    public boolean containsKey(K key) {
+        return index.containsKey(key);
+    }
+
+    /**
+     * Map the key to the value, replacing any previous value, and evict entries until the cache is back within its maximum weight.
+     * Room is made before a new entry is linked, so it is never the victim of its own insertion.
+     * Replacing a value counts as an access to the entry. An entry heavier than the maximum weight is evicted right away,
+     * without flushing the rest of the cache.
+     * @throws NullPointerException if key or value is null
+     * @throws IllegalArgumentException if the weigher returns a negative weight
+     * @param key - key of the entry
+     * @param value - value of the entry
+     */
+    @Override
+    public void put(K key, V value) {
+        Objects.requireNonNull(key);
+        Objects.requireNonNull(value);
+        int weight = weigher.weigh(key, value);
+        if(weight < 0) throw new IllegalArgumentException("Weight must not be negative");
+
+        Entry<K, V> entry = index.get(key);
+        if(weight > maximumWeight) {
+            if(Objects.nonNull(entry)) remove(key);
+            evictionCount++;
+            listener.onEviction(key, value);
+            return;
+        }
+
+        if(Objects.isNull(entry)) {
+            evict(weight);
+            entry = new Entry<>(key, value, weight);
+            index.put(key, entry);
+            weightedSize += weight;
+            onInsert(entry);
+        } else {
+            weightedSize += weight - entry.weight;
+            entry.list.weight += weight - entry.weight;
+            entry.value = value;
+            entry.weight = weight;
+            onAccess(entry);
+            evict(0);
+        }
+    }
+
+    @Override
+    public V remove(K key) {
+        Entry<K, V> entry = index.remove(key);
+        if(Objects.isNull(entry)) return null;
+
+        onRemove(entry);
+        weightedSize -= entry.weight;
+        return entry.value;
+    }
+
+    @Override
+    public int size() {
+        return index.size();
+    }
+
+    @Override
+    public long weightedSize() {
+        return weightedSize;
+    }
+
+    @Override
+    public void clear() {
+        index.clear();
+        weightedSize = 0;
+        onClear();
+    }
+
+    @Override
+    public CacheStats stats() {
+        return new CacheStats(hitCount, missCount, evictionCount);
+    }
+
+    /**
+     * Evict victims until an incoming weight fits within the maximum weight.
+     */
+    private void evict(long incomingWeight) {
+        while(weightedSize + incomingWeight > maximumWeight) {
+            Entry<K, V> victim = victim();
+            index.remove(victim.key);
+            onRemove(victim);
+            weightedSize -= victim.weight;
+            evictionCount++;
+            listener.onEviction(victim.key, victim.value);
+        }
+    }
+
+    /**
+     * Link a new entry.
+     */
+    abstract void onInsert(Entry<K, V> entry);
+
+    /**
+     * Reorder an entry that was read or replaced.
+     */
+    abstract void onAccess(Entry<K, V> entry);
+
+    /**
+     * Unlink an entry that left the index.
+     */
+    abstract void onRemove(Entry<K, V> entry);
+
+    /**
+     * Forget every entry.
+     */
+    abstract void onClear();
+
+    /**
+     * Returns the entry to evict next. Only called while the cache holds at least one entry.
+     */
+    abstract Entry<K, V> victim();
+}
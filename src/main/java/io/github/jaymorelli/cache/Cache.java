@@ -0,0 +1,63 @@
+package io.github.jaymorelli.cache;
+
+/**
+ * Bounded key-value cache contract shared by the caches of this project, which only differ in which entry they evict.
+ * The bound is on the total weight of the entries, which is their number unless a Weigher is given.
+ * Implementations are not thread-safe.
+ * @param <K> Key - any object with consistent equals and hashCode
+ * @param <V> Value - any object
+ * @author Jean Morelli
+ */
+public interface Cache<K, V> {
+    /**
+     * Returns the value mapped to the key and records a hit, or records a miss if there is none.
+     * @param key - key to look up
+     * @return value mapped to the key or null if absent
+     */
+    V get(K key);
+
+    /**
+     * Check if the key is mapped, without counting it as an access.
+     * @param key - key to look up
+     * @return boolean - true if the key is in the cache
+     */
+    boolean containsKey(K key);
+
+    /**
+     * Map the key to the value, replacing any previous value, and evict entries until the cache is back within its maximum weight.
+     * @throws NullPointerException if key or value is null
+     * @param key - key of the entry
+     * @param value - value of the entry
+     */
+    void put(K key, V value);
+
+    /**
+     * Remove the entry of the key, which does not count as an eviction.
+     * @param key - key of the entry
+     * @return value that was mapped to the key or null if absent
+     */
+    V remove(K key);
+
+    /**
+     * Returns the number of entries in the cache
+     * @return int - number of entries
+     */
+    int size();
+
+    /**
+     * Returns the total weight of the entries in the cache
+     * @return long - sum of the weights
+     */
+    long weightedSize();
+
+    /**
+     * Remove every entry, without notifying the eviction listener. Counters are kept.
+     */
+    void clear();
+
+    /**
+     * Returns a snapshot of the hit, miss and eviction counters.
+     * @return CacheStats - counters at the time of the call
+     */
+    CacheStats stats();
+}
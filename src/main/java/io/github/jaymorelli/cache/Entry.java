@@ -0,0 +1,24 @@
+package io.github.jaymorelli.cache;
+
+/**
+ * Cache entry, which is also the node of the EntryList holding it, so it can be unlinked or moved to the front in O(1)
+ * straight from the hash index, without searching the list.
+ * @param <K> Key - any object
+ * @param <V> Value - any object
+ * @author Jean Morelli
+ */
+final class Entry<K, V> {
+    final K key;
+    V value;
+    int weight;
+    Entry<K, V> previous;
+    Entry<K, V> next;
+    //List currently holding the entry, null when it is in none
+    EntryList<K, V> list;
+
+    Entry(K key, V value, int weight) {
+        this.key = key;
+        this.value = value;
+        this.weight = weight;
+    }
+}
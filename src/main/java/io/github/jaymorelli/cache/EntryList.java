@@ -0,0 +1,86 @@
+package io.github.jaymorelli.cache;
+
+import java.util.Objects;
+
+/**
+ * Intrusive doubly linked list of cache entries, ordered from the most recently used (head) to the least recently used (tail).
+ * Every operation is O(1) since the entries carry their own links.
+ * @param <K> Key - any object
+ * @param <V> Value - any object
+ * @author Jean Morelli
+ */
+class EntryList<K, V> {
+    Entry<K, V> head;
+    Entry<K, V> tail;
+    int size;
+    //Sum of the weights of the entries in the list
+    long weight;
+
+    /**
+     * Check if the list contains no entries.
+     * @return boolean - true if list is considered empty
+     */
+    boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Link the entry as head of the list. The entry must not be in any list.
+     * @param entry - entry to be added
+     */
+    void addFirst(Entry<K, V> entry) {
+        entry.previous = null;
+        entry.next = head;
+        if(Objects.isNull(head)) {
+            tail = entry;
+        } else {
+            head.previous = entry;
+        }
+        head = entry;
+        entry.list = this;
+        size++;
+        weight += entry.weight;
+    }
+
+    /**
+     * Unlink the entry, which must be in this list.
+     * @param entry - entry to be removed
+     */
+    void remove(Entry<K, V> entry) {
+        if(Objects.isNull(entry.previous)) {
+            head = entry.next;
+        } else {
+            entry.previous.next = entry.next;
+        }
+        if(Objects.isNull(entry.next)) {
+            tail = entry.previous;
+        } else {
+            entry.next.previous = entry.previous;
+        }
+        entry.previous = null;
+        entry.next = null;
+        entry.list = null;
+        size--;
+        weight -= entry.weight;
+    }
+
+    /**
+     * Move the entry, which must be in this list, to the head.
+     * @param entry - entry to be moved
+     */
+    void moveToFront(Entry<K, V> entry) {
+        if(entry == head) return;
+        remove(entry);
+        addFirst(entry);
+    }
+
+    /**
+     * Clear the list, leaving the entries' links as they are.
+     */
+    void clear() {
+        head = null;
+        tail = null;
+        size = 0;
+        weight = 0;
+    }
+}
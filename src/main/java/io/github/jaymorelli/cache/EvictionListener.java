@@ -0,0 +1,26 @@
+package io.github.jaymorelli.cache;
+
+/**
+ * Notified with every entry a cache evicts to stay within its maximum weight.
+ * Entries removed with remove or clear are not evictions.
+ * @param <K> Key - any object
+ * @param <V> Value - any object
+ * @author Jean Morelli
+ */
+@FunctionalInterface
+public interface EvictionListener<K, V> {
+    /**
+     * Called after the entry has been taken out of the cache.
+     * @param key - key of the evicted entry
+     * @param value - value of the evicted entry
+     */
+    void onEviction(K key, V value);
+
+    /**
+     * Returns a listener that ignores evictions.
+     * @return EvictionListener - listener doing nothing
+     */
+    static <K, V> EvictionListener<K, V> none() {
+        return (key, value) -> { };
+    }
+}
@@ -0,0 +1,111 @@
+package io.github.jaymorelli.cache;
+
+import java.util.Objects;
+
+/**
+ * Least frequently used cache: the entry with the fewest accesses is evicted, the least recently used one among ties.
+ * Entries are grouped in buckets of the same access count, kept in a list in increasing count order, so an access
+ * moves the entry to the next bucket and the victim is the back of the first bucket, both in O(1).
+ * Not thread-safe.
+ * @param <K> Key - any object with consistent equals and hashCode
+ * @param <V> Value - any object
+ * @author Jean Morelli
+ */
+public class LfuCache<K, V> extends AbstractCache<K, V> {
+    //Bucket with the lowest access count, null when the cache is empty
+    private FrequencyBucket<K, V> lowest;
+
+    /**
+     * Creates a cache holding at most maximumSize entries.
+     * @throws IllegalArgumentException if maximumSize is negative
+     * @param maximumSize - maximum number of entries
+     */
+    public LfuCache(long maximumSize) {
+        this(maximumSize, Weigher.singleton(), EvictionListener.none());
+    }
+
+    /**
+     * Creates a cache bounded by the total weight of its entries.
+     * @throws IllegalArgumentException if maximumWeight is negative
+     * @param maximumWeight - maximum total weight of the entries
+     * @param weigher - weight of each entry
+     * @param listener - notified of every eviction
+     */
+    public LfuCache(long maximumWeight, Weigher<? super K, ? super V> weigher, EvictionListener<? super K, ? super V> listener) {
+        super(maximumWeight, weigher, listener);
+    }
+
+    @Override
+    void onInsert(Entry<K, V> entry) {
+        if(Objects.isNull(lowest) || lowest.frequency != 1) {
+            FrequencyBucket<K, V> bucket = new FrequencyBucket<>(1);
+            bucket.next = lowest;
+            if(Objects.nonNull(lowest)) lowest.previous = bucket;
+            lowest = bucket;
+        }
+        lowest.addFirst(entry);
+    }
+
+    @Override
+    void onAccess(Entry<K, V> entry) {
+        FrequencyBucket<K, V> bucket = (FrequencyBucket<K, V>) entry.list;
+        FrequencyBucket<K, V> nextBucket = bucket.next;
+        boolean nextBucketMissing = Objects.isNull(nextBucket) || nextBucket.frequency != bucket.frequency + 1;
+        if(nextBucketMissing && bucket.size == 1) {
+            //Hot entries tend to be alone in their bucket: bump its count instead of moving to a new bucket
+            bucket.frequency++;
+            return;
+        }
+        if(nextBucketMissing) {
+            nextBucket = new FrequencyBucket<>(bucket.frequency + 1);
+            nextBucket.previous = bucket;
+            nextBucket.next = bucket.next;
+            if(Objects.nonNull(bucket.next)) bucket.next.previous = nextBucket;
+            bucket.next = nextBucket;
+        }
+        bucket.remove(entry);
+        nextBucket.addFirst(entry);
+        if(bucket.isEmpty()) unlink(bucket);
+    }
+
+    @Override
+    void onRemove(Entry<K, V> entry) {
+        FrequencyBucket<K, V> bucket = (FrequencyBucket<K, V>) entry.list;
+        bucket.remove(entry);
+        if(bucket.isEmpty()) unlink(bucket);
+    }
+
+    @Override
+    void onClear() {
+        lowest = null;
+    }
+
+    @Override
+    Entry<K, V> victim() {
+        return lowest.tail;
+    }
+
+    private void unlink(FrequencyBucket<K, V> bucket) {
+        if(Objects.isNull(bucket.previous)) {
+            lowest = bucket.next;
+        } else {
+            bucket.previous.next = bucket.next;
+        }
+        if(Objects.nonNull(bucket.next)) {
+            bucket.next.previous = bucket.previous;
+        }
+    }
+
+    /**
+     * Entries accessed the same number of times, from the most to the least recently used, linked to the buckets of the neighbour counts.
+     */
+    private static class FrequencyBucket<K, V> extends EntryList<K, V> {
+        long frequency;
+        FrequencyBucket<K, V> previous;
+        FrequencyBucket<K, V> next;
+
+        FrequencyBucket(long frequency) {
+            this.frequency = frequency;
+        }
+    }
+}
@@ -0,0 +1,58 @@
+package io.github.jaymorelli.cache;
+
+/**
+ * Least recently used cache: every access moves the entry to the front of a single list and the entry at the back is evicted.
+ * Lookups go through a hash index straight to the entry, which is its own list node, so get, put and eviction are O(1).
+ * Not thread-safe.
+ * @param <K> Key - any object with consistent equals and hashCode
+ * @param <V> Value - any object
+ * @author Jean Morelli
+ */
+public class LruCache<K, V> extends AbstractCache<K, V> {
+    private final EntryList<K, V> entries = new EntryList<>();
+
+    /**
+     * Creates a cache holding at most maximumSize entries.
+     * @throws IllegalArgumentException if maximumSize is negative
+     * @param maximumSize - maximum number of entries
+     */
+    public LruCache(long maximumSize) {
+        this(maximumSize, Weigher.singleton(), EvictionListener.none());
+    }
+
+    /**
+     * Creates a cache bounded by the total weight of its entries.
+     * @throws IllegalArgumentException if maximumWeight is negative
+     * @param maximumWeight - maximum total weight of the entries
+     * @param weigher - weight of each entry
+     * @param listener - notified of every eviction
+     */
+    public LruCache(long maximumWeight, Weigher<? super K, ? super V> weigher, EvictionListener<? super K, ? super V> listener) {
+        super(maximumWeight, weigher, listener);
+    }
+
+    @Override
+    void onInsert(Entry<K, V> entry) {
+        entries.addFirst(entry);
+    }
+
+    @Override
+    void onAccess(Entry<K, V> entry) {
+        entries.moveToFront(entry);
+    }
+
+    @Override
+    void onRemove(Entry<K, V> entry) {
+        entries.remove(entry);
+    }
+
+    @Override
+    void onClear() {
+        entries.clear();
+    }
+
+    @Override
+    Entry<K, V> victim() {
+        return entries.tail;
+    }
+}
@@ -0,0 +1,97 @@
+package io.github.jaymorelli.cache;
+
+/**
+ * Segmented LRU cache: new entries start in a probation segment and move to a protected segment when accessed again.
+ * The protected segment takes at most a share of the maximum weight; when it overflows its least recently used entries
+ * go back to the front of probation. Victims come from the back of probation first, so a scan of keys used once
+ * does not flush the entries that are used repeatedly, as it does with LRU.
+ * Every operation is O(1). Not thread-safe.
+ * @param <K> Key - any object with consistent equals and hashCode
+ * @param <V> Value - any object
+ * @author Jean Morelli
+ */
+public class SlruCache<K, V> extends AbstractCache<K, V> {
+    private static final double DEFAULT_PROTECTED_SHARE = 0.8;
+
+    private final EntryList<K, V> probation = new EntryList<>();
+    private final EntryList<K, V> protectedSegment = new EntryList<>();
+    private final long maximumProtectedWeight;
+
+    /**
+     * Creates a cache holding at most maximumSize entries, 80% of which can be protected.
+     * @throws IllegalArgumentException if maximumSize is negative
+     * @param maximumSize - maximum number of entries
+     */
+    public SlruCache(long maximumSize) {
+        this(maximumSize, Weigher.singleton(), EvictionListener.none());
+    }
+
+    /**
+     * Creates a cache bounded by the total weight of its entries, 80% of which can be protected.
+     * @throws IllegalArgumentException if maximumWeight is negative
+     * @param maximumWeight - maximum total weight of the entries
+     * @param weigher - weight of each entry
+     * @param listener - notified of every eviction
+     */
+    public SlruCache(long maximumWeight, Weigher<? super K, ? super V> weigher, EvictionListener<? super K, ? super V> listener) {
+        this(maximumWeight, DEFAULT_PROTECTED_SHARE, weigher, listener);
+    }
+
+    /**
+     * Creates a cache bounded by the total weight of its entries.
+     * @throws IllegalArgumentException if maximumWeight is negative or protectedShare is not between 0 and 1
+     * @param maximumWeight - maximum total weight of the entries
+     * @param protectedShare - share of the maximum weight the protected segment can hold
+     * @param weigher - weight of each entry
+     * @param listener - notified of every eviction
+     */
+    public SlruCache(long maximumWeight, double protectedShare, Weigher<? super K, ? super V> weigher, EvictionListener<? super K, ? super V> listener) {
+        super(maximumWeight, weigher, listener);
+        if(!(protectedShare >= 0 && protectedShare <= 1)) throw new IllegalArgumentException("Protected share must be between 0 and 1");
+        this.maximumProtectedWeight = (long) (maximumWeight * protectedShare);
+    }
+
+    @Override
+    void onInsert(Entry<K, V> entry) {
+        probation.addFirst(entry);
+    }
+
+    @Override
+    void onAccess(Entry<K, V> entry) {
+        if(entry.list == protectedSegment) {
+            protectedSegment.moveToFront(entry);
+        } else {
+            probation.remove(entry);
+            protectedSegment.addFirst(entry);
+        }
+        demoteWhileOverweight();
+    }
+
+    @Override
+    void onRemove(Entry<K, V> entry) {
+        entry.list.remove(entry);
+    }
+
+    @Override
+    void onClear() {
+        probation.clear();
+        protectedSegment.clear();
+    }
+
+    @Override
+    Entry<K, V> victim() {
+        return probation.isEmpty() ? protectedSegment.tail : probation.tail;
+    }
+
+    /**
+     * Move the least recently used protected entries back to probation until the protected segment fits its share.
+     * The most recently used protected entry stays, even when it alone is heavier than the share.
+     */
+    private void demoteWhileOverweight() {
+        while(protectedSegment.weight > maximumProtectedWeight && protectedSegment.size > 1) {
+            Entry<K, V> demoted = protectedSegment.tail;
+            protectedSegment.remove(demoted);
+            probation.addFirst(demoted);
+        }
+    }
+}
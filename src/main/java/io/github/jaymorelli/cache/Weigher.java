@@ -0,0 +1,26 @@
+package io.github.jaymorelli.cache;
+
+/**
+ * Computes the weight of an entry, which counts against the maximum weight of the cache instead of the entry count.
+ * @param <K> Key - any object
+ * @param <V> Value - any object
+ * @author Jean Morelli
+ */
+@FunctionalInterface
+public interface Weigher<K, V> {
+    /**
+     * Returns the weight of the entry, computed once when the entry is put in the cache.
+     * @param key - key of the entry
+     * @param value - value of the entry
+     * @return int - weight, not negative
+     */
+    int weigh(K key, V value);
+
+    /**
+     * Returns a weigher that gives every entry a weight of 1, so the maximum weight is the maximum number of entries.
+     * @return Weigher - weigher of weight 1
+     */
+    static <K, V> Weigher<K, V> singleton() {
+        return (key, value) -> 1;
+    }
+}
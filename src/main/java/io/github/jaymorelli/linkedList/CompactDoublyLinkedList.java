@@ -0,0 +1,499 @@
+package io.github.jaymorelli.linkedList;
+
+
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.ListIterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+
+/**
+ * Implementation of a doubly linked list without node objects.
+ * Nodes are slots of three parallel arrays: the element, the index of the next slot and the index of the previous slot.
+ * A 10M element list is therefore three arrays instead of 10M objects for the GC to trace, and a list built by appending
+ * walks its slots in memory order.
+ * Removed slots are kept in a free list (chained through the next array) and reused by the following insertions.
+ * The slot of an element is exposed as a handle, which allows O(1) access and removal without knowing its index.
+ * A handle stays valid until its element is removed or the list is compacted.
+ * @author Jean Morelli
+ */
+public class CompactDoublyLinkedList<E> implements SimpleList<E> {
+    private static final int DEFAULT_CAPACITY = 16;
+    /**
+     * Marks the absence of a slot (end of the list or of the free list).
+     */
+    private static final int NIL = -1;
+    /**
+     * Value of previous for slots that are in the free list.
+     */
+    private static final int FREE = -2;
+
+    private Object[] elements;
+    private int[] next;
+    private int[] previous;
+    private int head = NIL;
+    private int tail = NIL;
+    private int freeHead = NIL;
+    //Number of slots ever handed out, slots above it have never been used
+    private int used;
+    int size;
+    /**
+     * Number of structural modifications, used by the iterators to fail fast.
+     */
+    int modCount;
+
+    public CompactDoublyLinkedList() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * @throws IllegalArgumentException if initialCapacity is less than 1
+     * @param initialCapacity - number of slots allocated up front
+     */
+    public CompactDoublyLinkedList(int initialCapacity) {
+        if(initialCapacity < 1) throw new IllegalArgumentException("Initial capacity must be at least 1");
+        elements = new Object[initialCapacity];
+        next = new int[initialCapacity];
+        previous = new int[initialCapacity];
+    }
+
+    /**
+     * Returns the number of elements in this list
+     * @return int - number of elements
+     */
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Check if the list contains no elements.
+     * @return boolean - true if list is considered empty
+     */
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Clear the list
+     * @implNote  every slot becomes unused again, the arrays keep their capacity
+     */
+    @Override
+    public void clear() {
+        Arrays.fill(elements, 0, used, null);
+        head = NIL;
+        tail = NIL;
+        freeHead = NIL;
+        used = 0;
+        size = 0;
+        modCount++;
+    }
+
+    /**
+     * Returns the element in the given position.
+     * @throws IndexOutOfBoundsException if given index is less than 0 or greater than or equals to its size.
+     * @param i index of element
+     * @return element in the position i
+     */
+    @Override
+    public E get(int i) {
+        if(i < 0 || i >= size) throw new IndexOutOfBoundsException();
+        return elementAt(getSlot(i));
+    }
+
+    /**
+     * Returns the first element of the list
+     * @throws NoSuchElementException if list is empty
+     * @return first element
+     */
+    public E getFirst() {
+        if(size == 0) throw new NoSuchElementException();
+
+        return elementAt(head);
+    }
+
+    /**
+     * Returns the last element of the list
+     * @throws NoSuchElementException if list is empty
+     * @return last element
+     */
+    public E getLast() {
+        if(size == 0) throw new NoSuchElementException();
+
+        return elementAt(tail);
+    }
+
+    /**
+     * Add element to the back of the list.
+     * @param e - element to be added to the end of the list
+     * @return boolean - return true if element was successfully added to the list
+     */
+    @Override
+    public boolean add(E e) {
+        addAndGetHandle(e);
+        return true;
+    }
+
+    /**
+     * Add element to the back of the list and returns its handle.
+     * @param e - element to be added to the end of the list
+     * @return int - handle of the element
+     */
+    public int addAndGetHandle(E e) {
+        return linkBefore(NIL, e);
+    }
+
+    /**
+     * Add element to the nth position (i index) of the list.
+     * @throws IndexOutOfBoundsException if index i is not within the size of the list
+     * @param e - element to be added
+     * @return boolean - return true if element was successfully added to the list
+     */
+    @Override
+    public boolean add(int i, E e) {
+        if(i < 0 || i > size) throw new IndexOutOfBoundsException();
+
+        linkBefore(i == size ? NIL : getSlot(i), e);
+        return true;
+    }
+
+    /**
+     * Add element as head of the list.
+     * @param e - element to be added
+     * @return boolean - return true if element was successfully added to the list
+     */
+    public boolean addFirst(E e) {
+        addFirstAndGetHandle(e);
+        return true;
+    }
+
+    /**
+     * Add element as head of the list and returns its handle.
+     * @param e - element to be added
+     * @return int - handle of the element
+     */
+    public int addFirstAndGetHandle(E e) {
+        return linkBefore(head, e);
+    }
+
+    /**
+     * Remove first element of the list
+     * @throws IndexOutOfBoundsException if list is empty
+     * @return boolean - return true if element was removed from the list
+     */
+    public boolean removeFirst() {
+        if(size == 0) throw new IndexOutOfBoundsException();
+
+        unlink(head);
+        return true;
+    }
+
+    /**
+     * Remove last element of the list
+     * @throws IndexOutOfBoundsException if list is empty
+     * @return boolean - return true if element was removed from the list
+     */
+    public boolean removeLast() {
+        if(size == 0) throw new IndexOutOfBoundsException();
+
+        unlink(tail);
+        return true;
+    }
+
+    /**
+     * Remove element in the index i off the list.
+     * @throws IndexOutOfBoundsException if index i is not within the size of the list
+     * @param i - index of the element
+     * @return boolean - return true if element was removed from the list
+     */
+    @Override
+    public boolean remove(int i) {
+        if(i < 0 || i >= size) throw new IndexOutOfBoundsException();
+
+        unlink(getSlot(i));
+        return true;
+    }
+
+    /**
+     * Remove the first occurrence of element e off the list.
+     * @param e - element to be removed
+     * @return boolean - return true if element was removed from the list and false otherwise
+     */
+    @Override
+    public boolean remove(E e) {
+        for (int slot = head; slot != NIL; slot = next[slot]) {
+            if(Objects.equals(elements[slot], e)) {
+                unlink(slot);
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns the handle of the element in the given position.
+     * @throws IndexOutOfBoundsException if given index is less than 0 or greater than or equals to its size.
+     * @param i index of element
+     * @return int - handle of the element
+     */
+    public int handleOf(int i) {
+        if(i < 0 || i >= size) throw new IndexOutOfBoundsException();
+        return getSlot(i);
+    }
+
+    /**
+     * Returns the element of the given handle in O(1).
+     * @throws IllegalArgumentException if the handle does not belong to an element of the list
+     * @param handle - handle returned when the element was added
+     * @return element of the handle
+     */
+    public E getByHandle(int handle) {
+        checkHandle(handle);
+        return elementAt(handle);
+    }
+
+    /**
+     * Remove the element of the given handle off the list in O(1).
+     * @throws IllegalArgumentException if the handle does not belong to an element of the list
+     * @param handle - handle returned when the element was added
+     * @return boolean - return true if element was removed from the list
+     */
+    public boolean removeByHandle(int handle) {
+        checkHandle(handle);
+        unlink(handle);
+        return true;
+    }
+
+    /**
+     * Move the elements to the first slots of the arrays in list order and drop the free list,
+     * so that walking the list reads the arrays sequentially again after many insertions and removals in the middle.
+     * @implNote every handle obtained before compacting becomes invalid
+     */
+    public void compact() {
+        Object[] newElements = new Object[elements.length];
+        int[] newNext = new int[next.length];
+        int[] newPrevious = new int[previous.length];
+        int j = 0;
+        for (int slot = head; slot != NIL; slot = next[slot], j++) {
+            newElements[j] = elements[slot];
+            newPrevious[j] = j - 1;
+            newNext[j] = j + 1;
+        }
+        elements = newElements;
+        next = newNext;
+        previous = newPrevious;
+        head = size == 0 ? NIL : 0;
+        tail = size - 1;
+        if(size > 0) next[tail] = NIL;
+        freeHead = NIL;
+        used = size;
+        modCount++;
+    }
+
+    /**
+     * Returns a list iterator starting at the given position. Moving the cursor, as well as add, remove and set at the cursor, are O(1).
+     * @throws IndexOutOfBoundsException if index i is not within the size of the list
+     * @param i - index of the first element to be returned by next
+     * @return ListIterator - iterator positioned before the element at index i
+     */
+    @Override
+    public ListIterator<E> listIterator(int i) {
+        if(i < 0 || i > size) throw new IndexOutOfBoundsException();
+        return new ListItr(i);
+    }
+
+    /**
+     * Insert e in a new slot right before slotAfter, or at the end of the list when slotAfter is NIL.
+     * @return int - slot of the new element
+     */
+    private int linkBefore(int slotAfter, E e) {
+        int slot = allocate(e);
+        int slotBefore = slotAfter == NIL ? tail : previous[slotAfter];
+        previous[slot] = slotBefore;
+        next[slot] = slotAfter;
+        if(slotBefore == NIL) {
+            head = slot;
+        } else {
+            next[slotBefore] = slot;
+        }
+        if(slotAfter == NIL) {
+            tail = slot;
+        } else {
+            previous[slotAfter] = slot;
+        }
+
+        size++;
+        modCount++;
+        return slot;
+    }
+
+    private void unlink(int slot) {
+        int before = previous[slot];
+        int after = next[slot];
+        if(before == NIL) {
+            head = after;
+        } else {
+            next[before] = after;
+        }
+        if(after == NIL) {
+            tail = before;
+        } else {
+            previous[after] = before;
+        }
+        release(slot);
+
+        size--;
+        modCount++;
+    }
+
+    /**
+     * Take a slot from the free list, or the next never used one, growing the arrays when all of them are in use.
+     */
+    private int allocate(E e) {
+        int slot;
+        if(freeHead != NIL) {
+            slot = freeHead;
+            freeHead = next[slot];
+        } else {
+            if(used == elements.length) {
+                int newCapacity = elements.length * 2;
+                elements = Arrays.copyOf(elements, newCapacity);
+                next = Arrays.copyOf(next, newCapacity);
+                previous = Arrays.copyOf(previous, newCapacity);
+            }
+            slot = used++;
+        }
+        elements[slot] = e;
+        return slot;
+    }
+
+    private void release(int slot) {
+        elements[slot] = null;
+        previous[slot] = FREE;
+        next[slot] = freeHead;
+        freeHead = slot;
+    }
+
+    private void checkHandle(int handle) {
+        if(handle < 0 || handle >= used || previous[handle] == FREE) {
+            throw new IllegalArgumentException(String.format("Handle %d does not belong to an element of the list", handle));
+        }
+    }
+
+    private int getSlot(int i) {
+        int slot;
+        if(i >= size / 2) {
+            slot = tail;
+            for (int j = size - 1; j > i; j--) {
+                slot = previous[slot];
+            }
+        } else {
+            slot = head;
+            for (int j = 0; j < i; j++) {
+                slot = next[slot];
+            }
+        }
+        return slot;
+    }
+
+    @SuppressWarnings("unchecked")
+    private E elementAt(int slot) {
+        return (E) elements[slot];
+    }
+
+    /**
+     * Bidirectional iterator that keeps the slot under the cursor.
+     */
+    private class ListItr implements ListIterator<E> {
+        private int nextSlot;
+        private int lastReturned = NIL;
+        private int nextIndex;
+        private int expectedModCount = modCount;
+
+        ListItr(int i) {
+            nextSlot = (i == size) ? NIL : getSlot(i);
+            nextIndex = i;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return nextIndex < size;
+        }
+
+        @Override
+        public E next() {
+            checkForComodification();
+            if(!hasNext()) throw new NoSuchElementException();
+
+            lastReturned = nextSlot;
+            nextSlot = next[nextSlot];
+            nextIndex++;
+            return elementAt(lastReturned);
+        }
+
+        @Override
+        public boolean hasPrevious() {
+            return nextIndex > 0;
+        }
+
+        @Override
+        public E previous() {
+            checkForComodification();
+            if(!hasPrevious()) throw new NoSuchElementException();
+
+            nextSlot = (nextSlot == NIL) ? tail : previous[nextSlot];
+            lastReturned = nextSlot;
+            nextIndex--;
+            return elementAt(lastReturned);
+        }
+
+        @Override
+        public int nextIndex() {
+            return nextIndex;
+        }
+
+        @Override
+        public int previousIndex() {
+            return nextIndex - 1;
+        }
+
+        @Override
+        public void remove() {
+            checkForComodification();
+            if(lastReturned == NIL) throw new IllegalStateException();
+
+            int lastNext = next[lastReturned];
+            unlink(lastReturned);
+            if(nextSlot == lastReturned) {
+                nextSlot = lastNext;
+            } else {
+                nextIndex--;
+            }
+            lastReturned = NIL;
+            expectedModCount = modCount;
+        }
+
+        @Override
+        public void set(E e) {
+            if(lastReturned == NIL) throw new IllegalStateException();
+            checkForComodification();
+
+            elements[lastReturned] = e;
+        }
+
+        @Override
+        public void add(E e) {
+            checkForComodification();
+
+            linkBefore(nextSlot, e);
+            lastReturned = NIL;
+            nextIndex++;
+            expectedModCount = modCount;
+        }
+
+        private void checkForComodification() {
+            if(modCount != expectedModCount) throw new ConcurrentModificationException();
+        }
+    }
+}
@@ -0,0 +1,149 @@
+package io.github.jaymorelli.linkedList;
+
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.stream.Stream;
+
+/**
+ * Thread-safe, non-blocking double-ended list with the operations on both ends of DoublyLinkedList.
+ * Many threads can add to and remove from both ends at the same time without locking; every operation is linearizable.
+ * Since checking isEmpty and then calling removeFirst is racy when other threads are removing too,
+ * consumers should use pollFirst and pollLast, which remove and return the element in a single atomic step.
+ * Iteration is weakly consistent: it never throws ConcurrentModificationException and sees every element that was in the list
+ * when the iteration started and was not removed since, and may or may not see elements added afterwards.
+ * Null elements are not allowed.
+ * @implNote backed by java.util.concurrent.ConcurrentLinkedDeque, the lock-free doubly linked deque of the JDK,
+ * which already solves the hard part (unlinking nodes from both ends with compare-and-set only) and is extensively tested.
+ * @author Jean Morelli
+ */
+public class ConcurrentDoublyLinkedList<E> implements Iterable<E> {
+    private final ConcurrentLinkedDeque<E> deque = new ConcurrentLinkedDeque<>();
+
+    /**
+     * Returns the number of elements in this list.
+     * @implNote this traverses the whole list (O(n)) and the result may be stale as soon as it is returned
+     * @return int - number of elements
+     */
+    public int size() {
+        return deque.size();
+    }
+
+    /**
+     * Check if the list contains no elements.
+     * @return boolean - true if list is considered empty
+     */
+    public boolean isEmpty() {
+        return deque.isEmpty();
+    }
+
+    /**
+     * Remove every element of the list. This is not atomic: elements added concurrently may survive.
+     */
+    public void clear() {
+        deque.clear();
+    }
+
+    /**
+     * Returns the first element
+     * @throws NoSuchElementException if list is empty
+     * @return first element
+     */
+    public E getFirst() {
+        return deque.getFirst();
+    }
+
+    /**
+     * Returns the last element
+     * @throws NoSuchElementException if list is empty
+     * @return last element
+     */
+    public E getLast() {
+        return deque.getLast();
+    }
+
+    /**
+     * Add element to the back of the list.
+     * @throws NullPointerException if element is null
+     * @param e - element to be added to the end of the list
+     * @return boolean - return true if element was successfully added to the list
+     */
+    public boolean add(E e) {
+        deque.addLast(e);
+        return true;
+    }
+
+    /**
+     * Add element as head of the list.
+     * @throws NullPointerException if element is null
+     * @param e - element to be added
+     * @return boolean - return true if element was successfully added to the list
+     */
+    public boolean addFirst(E e) {
+        deque.addFirst(e);
+        return true;
+    }
+
+    /**
+     * Remove first element of the list
+     * @throws IndexOutOfBoundsException if list is empty
+     * @return boolean - return true if element was removed from the list
+     */
+    public boolean removeFirst() {
+        if(deque.pollFirst() == null) throw new IndexOutOfBoundsException();
+        return true;
+    }
+
+    /**
+     * Remove last element of the list
+     * @throws IndexOutOfBoundsException if list is empty
+     * @return boolean - return true if element was removed from the list
+     */
+    public boolean removeLast() {
+        if(deque.pollLast() == null) throw new IndexOutOfBoundsException();
+        return true;
+    }
+
+    /**
+     * Removes and returns the first element of the list
+     * @return first element, or null if list is empty
+     */
+    public E pollFirst() {
+        return deque.pollFirst();
+    }
+
+    /**
+     * Removes and returns the last element of the list
+     * @return last element, or null if list is empty
+     */
+    public E pollLast() {
+        return deque.pollLast();
+    }
+
+    /**
+     * Remove the first occurrence of element e off the list.
+     * @param e - element to be removed
+     * @return boolean - return true if element was removed from the list and false otherwise
+     */
+    public boolean remove(E e) {
+        return deque.removeFirstOccurrence(e);
+    }
+
+    /**
+     * Returns a weakly consistent iterator over the elements of the list from head to tail.
+     * @return Iterator - iterator positioned before the first element
+     */
+    @Override
+    public Iterator<E> iterator() {
+        return deque.iterator();
+    }
+
+    /**
+     * Returns a sequential stream over the elements of the list.
+     * @return Stream - sequential stream
+     */
+    public Stream<E> stream() {
+        return deque.stream();
+    }
+}
@@ -0,0 +1,448 @@
+package io.github.jaymorelli.linkedList;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.ListIterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+
+/**
+ * View of a DoublyLinkedList as both a java.util.List and a java.util.Deque, like java.util.LinkedList.
+ * Operations on both ends are O(1) since the list keeps its head and tail.
+ * reversed() returns a DequeAdapter, the one return type that overrides both List.reversed and Deque.reversed,
+ * which a class implementing both needs in order to compile on JDK 21 and later.
+ * @param <E> Element - any object
+ * @author Jean Morelli
+ */
+class DequeAdapter<E> extends ListAdapter<E> implements Deque<E> {
+    private final DoublyLinkedList<E> deque;
+
+    DequeAdapter(DoublyLinkedList<E> deque) {
+        super(deque);
+        this.deque = deque;
+    }
+
+    @Override
+    public void addFirst(E e) {
+        deque.addFirst(e);
+        modCount++;
+    }
+
+    @Override
+    public void addLast(E e) {
+        add(e);
+    }
+
+    @Override
+    public boolean offerFirst(E e) {
+        addFirst(e);
+        return true;
+    }
+
+    @Override
+    public boolean offerLast(E e) {
+        return add(e);
+    }
+
+    @Override
+    public E removeFirst() {
+        E result = deque.getFirst();
+        deque.removeFirst();
+        modCount++;
+        return result;
+    }
+
+    @Override
+    public E removeLast() {
+        E result = deque.getLast();
+        deque.removeLast();
+        modCount++;
+        return result;
+    }
+
+    @Override
+    public E pollFirst() {
+        return isEmpty() ? null : removeFirst();
+    }
+
+    @Override
+    public E pollLast() {
+        return isEmpty() ? null : removeLast();
+    }
+
+    @Override
+    public E getFirst() {
+        return deque.getFirst();
+    }
+
+    @Override
+    public E getLast() {
+        return deque.getLast();
+    }
+
+    @Override
+    public E peekFirst() {
+        return isEmpty() ? null : deque.getFirst();
+    }
+
+    @Override
+    public E peekLast() {
+        return isEmpty() ? null : deque.getLast();
+    }
+
+    @Override
+    public boolean removeFirstOccurrence(Object o) {
+        return remove(o);
+    }
+
+    /**
+     * Walks backward from the tail, so the last occurrence is unlinked in a single pass.
+     */
+    @Override
+    public boolean removeLastOccurrence(Object o) {
+        for (ListIterator<E> iterator = deque.listIterator(size()); iterator.hasPrevious(); ) {
+            if(Objects.equals(iterator.previous(), o)) {
+                iterator.remove();
+                modCount++;
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public int lastIndexOf(Object o) {
+        for (ListIterator<E> iterator = deque.listIterator(size()); iterator.hasPrevious(); ) {
+            if(Objects.equals(iterator.previous(), o)) return iterator.nextIndex();
+        }
+        return -1;
+    }
+
+    @Override
+    public boolean offer(E e) {
+        return add(e);
+    }
+
+    @Override
+    public E remove() {
+        return removeFirst();
+    }
+
+    @Override
+    public E poll() {
+        return pollFirst();
+    }
+
+    @Override
+    public E element() {
+        return getFirst();
+    }
+
+    @Override
+    public E peek() {
+        return peekFirst();
+    }
+
+    @Override
+    public void push(E e) {
+        addFirst(e);
+    }
+
+    @Override
+    public E pop() {
+        return removeFirst();
+    }
+
+    @Override
+    public Iterator<E> descendingIterator() {
+        ListIterator<E> iterator = deque.listIterator(size());
+        return new Iterator<>() {
+            @Override
+            public boolean hasNext() {
+                return iterator.hasPrevious();
+            }
+
+            @Override
+            public E next() {
+                if(!iterator.hasPrevious()) throw new NoSuchElementException();
+                return iterator.previous();
+            }
+
+            @Override
+            public void remove() {
+                iterator.remove();
+            }
+        };
+    }
+
+    /**
+     * Returns a reverse-ordered view of this deque, backed by the same list: its first element is the last element of
+     * the list, and changes made through one are visible in the other.
+     * @return DequeAdapter - reverse-ordered view, whose own reversed() is this view
+     */
+    public DequeAdapter<E> reversed() {
+        return new Reversed<>(this);
+    }
+
+    /**
+     * Reverse-ordered view: every index is mirrored and both ends are swapped, so nothing is copied.
+     */
+    private static final class Reversed<E> extends DequeAdapter<E> {
+        private final DequeAdapter<E> forward;
+        private final DoublyLinkedList<E> deque;
+
+        Reversed(DequeAdapter<E> forward) {
+            super(forward.deque);
+            this.forward = forward;
+            this.deque = forward.deque;
+        }
+
+        @Override
+        public DequeAdapter<E> reversed() {
+            return forward;
+        }
+
+        @Override
+        public E get(int i) {
+            if(i < 0 || i >= size()) throw new IndexOutOfBoundsException("Index: " + i + ", Size: " + size());
+            return deque.get(size() - 1 - i);
+        }
+
+        @Override
+        public boolean add(E e) {
+            deque.addFirst(e);
+            modCount++;
+            return true;
+        }
+
+        @Override
+        public void add(int i, E e) {
+            if(i < 0 || i > size()) throw new IndexOutOfBoundsException("Index: " + i + ", Size: " + size());
+            deque.add(size() - i, e);
+            modCount++;
+        }
+
+        @Override
+        public E remove(int i) {
+            if(i < 0 || i >= size()) throw new IndexOutOfBoundsException("Index: " + i + ", Size: " + size());
+            E result = forward.remove(size() - 1 - i);
+            modCount++;
+            return result;
+        }
+
+        @Override
+        public boolean remove(Object o) {
+            boolean removed = forward.removeLastOccurrence(o);
+            if(removed) modCount++;
+            return removed;
+        }
+
+        @Override
+        public boolean addAll(Collection<? extends E> c) {
+            return addAll(size(), c);
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public boolean addAll(int i, Collection<? extends E> c) {
+            if(i < 0 || i > size()) throw new IndexOutOfBoundsException("Index: " + i + ", Size: " + size());
+            Object[] elements = c.toArray();
+            if(elements.length == 0) return false;
+
+            reverse(elements);
+            deque.addAll(size() - i, (List<E>) Arrays.asList(elements));
+            modCount++;
+            return true;
+        }
+
+        @Override
+        protected void removeRange(int from, int to) {
+            deque.removeRange(size() - to, size() - from);
+            modCount++;
+        }
+
+        @Override
+        public Iterator<E> iterator() {
+            return forward.descendingIterator();
+        }
+
+        @Override
+        public ListIterator<E> listIterator(int i) {
+            if(i < 0 || i > size()) throw new IndexOutOfBoundsException("Index: " + i + ", Size: " + size());
+            return new ReversedListIterator(i);
+        }
+
+        @Override
+        public int indexOf(Object o) {
+            int i = forward.lastIndexOf(o);
+            return i < 0 ? -1 : size() - 1 - i;
+        }
+
+        @Override
+        public int lastIndexOf(Object o) {
+            int i = forward.indexOf(o);
+            return i < 0 ? -1 : size() - 1 - i;
+        }
+
+        @Override
+        public Object[] toArray() {
+            Object[] elements = deque.toArray();
+            reverse(elements);
+            return elements;
+        }
+
+        /**
+         * Sort a copy and write it back through the list iterator, which keeps equal elements in their order in this view.
+         */
+        @Override
+        @SuppressWarnings("unchecked")
+        public void sort(Comparator<? super E> c) {
+            Object[] elements = toArray();
+            Arrays.sort(elements, (Comparator<Object>) c);
+            ListIterator<E> iterator = listIterator();
+            for (Object e : elements) {
+                iterator.next();
+                iterator.set((E) e);
+            }
+            modCount++;
+        }
+
+        @Override
+        public void addFirst(E e) {
+            deque.add(e);
+            modCount++;
+        }
+
+        @Override
+        public void addLast(E e) {
+            add(e);
+        }
+
+        @Override
+        public E removeFirst() {
+            E result = forward.removeLast();
+            modCount++;
+            return result;
+        }
+
+        @Override
+        public E removeLast() {
+            E result = forward.removeFirst();
+            modCount++;
+            return result;
+        }
+
+        @Override
+        public E getFirst() {
+            return forward.getLast();
+        }
+
+        @Override
+        public E getLast() {
+            return forward.getFirst();
+        }
+
+        @Override
+        public E peekFirst() {
+            return forward.peekLast();
+        }
+
+        @Override
+        public E peekLast() {
+            return forward.peekFirst();
+        }
+
+        @Override
+        public boolean removeLastOccurrence(Object o) {
+            boolean removed = forward.removeFirstOccurrence(o);
+            if(removed) modCount++;
+            return removed;
+        }
+
+        @Override
+        public Iterator<E> descendingIterator() {
+            return forward.iterator();
+        }
+
+        private static void reverse(Object[] elements) {
+            for (int i = 0, j = elements.length - 1; i < j; i++, j--) {
+                Object e = elements[i];
+                elements[i] = elements[j];
+                elements[j] = e;
+            }
+        }
+
+        /**
+         * Iterator of the list walking the other way: next is the list's previous, and an added element is stepped
+         * back over so it ends up before the cursor of this view.
+         */
+        private final class ReversedListIterator implements ListIterator<E> {
+            private final ListIterator<E> iterator;
+            private boolean canModify;
+
+            ReversedListIterator(int i) {
+                iterator = deque.listIterator(size() - i);
+            }
+
+            @Override
+            public boolean hasNext() {
+                return iterator.hasPrevious();
+            }
+
+            @Override
+            public E next() {
+                E result = iterator.previous();
+                canModify = true;
+                return result;
+            }
+
+            @Override
+            public boolean hasPrevious() {
+                return iterator.hasNext();
+            }
+
+            @Override
+            public E previous() {
+                E result = iterator.next();
+                canModify = true;
+                return result;
+            }
+
+            @Override
+            public int nextIndex() {
+                return size() - iterator.nextIndex();
+            }
+
+            @Override
+            public int previousIndex() {
+                return nextIndex() - 1;
+            }
+
+            @Override
+            public void remove() {
+                if(!canModify) throw new IllegalStateException();
+                iterator.remove();
+                canModify = false;
+                modCount++;
+            }
+
+            @Override
+            public void set(E e) {
+                if(!canModify) throw new IllegalStateException();
+                iterator.set(e);
+            }
+
+            @Override
+            public void add(E e) {
+                iterator.add(e);
+                iterator.previous();
+                canModify = false;
+                modCount++;
+            }
+        }
+    }
+}
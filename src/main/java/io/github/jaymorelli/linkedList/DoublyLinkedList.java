@@ -1,8 +1,21 @@
 package io.github.jaymorelli.linkedList;
 
 
+import io.github.jaymorelli.metrics.MetricsListener;
+import io.github.jaymorelli.metrics.Operation;
+
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.ConcurrentModificationException;
+import java.util.Deque;
+import java.util.ListIterator;
 import java.util.NoSuchElementException;
 import java.util.Objects;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.function.Consumer;
 
 /**
  * Implementation of a doubly linked list which means that each node holds 2 links references.
@@ -12,9 +25,77 @@ import java.util.Objects;
  * @author Jean Morelli
  */
 public class DoublyLinkedList<E> implements SimpleList<E> {
+    /**
+     * Growth of the array handed out by each split, and its upper bound.
+     */
+    private static final int SPLIT_BATCH_UNIT = 1 << 10;
+    private static final int SPLIT_MAX_BATCH = 1 << 25;
+    /**
+     * Number of elements below which parallelSort sorts a part of the list in the current thread.
+     */
+    private static final int PARALLEL_SORT_THRESHOLD = 1 << 13;
+
     Node<E> head;
     Node<E> tail;
     int size;
+    /**
+     * Number of structural modifications, used by the iterators to fail fast.
+     */
+    int modCount;
+    /**
+     * Finger: the last node reached by index and its index (-1 when there is none),
+     * so that accessing an index close to the previous one only walks the few nodes in between.
+     */
+    private Node<E> finger;
+    private int fingerIndex = -1;
+    /**
+     * Pool of unlinked nodes, chained through next, reused by the next insertions so that a list
+     * growing and shrinking around the same size stops allocating. Disabled when its capacity is 0.
+     */
+    private final int nodePoolCapacity;
+    private Node<E> nodePool;
+    private int nodePoolSize;
+    private MetricsListener metrics = MetricsListener.NOOP;
+
+    /**
+     * Creates an empty list without node pool.
+     */
+    public DoublyLinkedList() {
+        this(0);
+    }
+
+    /**
+     * Creates an empty list that keeps up to nodePoolCapacity removed nodes to reuse them instead of allocating new ones.
+     * Pooled nodes have their element reference cleared so they do not retain it.
+     * @throws IllegalArgumentException if nodePoolCapacity is negative
+     * @param nodePoolCapacity - maximum number of pooled nodes, 0 to disable pooling
+     */
+    public DoublyLinkedList(int nodePoolCapacity) {
+        if(nodePoolCapacity < 0) throw new IllegalArgumentException("Node pool capacity must not be negative");
+        this.nodePoolCapacity = nodePoolCapacity;
+    }
+
+    /**
+     * Returns a list holding the elements of the array in the same order.
+     * @param array - elements of the new list
+     * @return DoublyLinkedList - new list
+     */
+    @SafeVarargs
+    public static <E> DoublyLinkedList<E> fromArray(E... array) {
+        DoublyLinkedList<E> list = new DoublyLinkedList<>();
+        for (E e : array) {
+            list.add(e);
+        }
+        return list;
+    }
+
+    /**
+     * Report the operations on this list, and the number of nodes walked to reach an index or an element, to the listener.
+     * @param listener - listener to report to, or null to stop reporting
+     */
+    public void setMetricsListener(MetricsListener listener) {
+        this.metrics = Objects.isNull(listener) ? MetricsListener.NOOP : listener;
+    }
 
     /**
      * Returns the number of elements in this list
@@ -40,9 +121,11 @@ public class DoublyLinkedList<E> implements SimpleList<E> {
      */
     @Override
     public void clear() {
-        Node<E> head = null;
-        Node<E> tail = null;
+        head = null;
+        tail = null;
         size = 0;
+        modCount++;
+        clearFinger();
     }
 
     /**
@@ -54,7 +137,9 @@ public class DoublyLinkedList<E> implements SimpleList<E> {
     @Override
     public E get(int i) {
         if(i < 0 || i >= size) throw new IndexOutOfBoundsException();
-        return getNode(i).data;
+        E result = getNode(i).data;
+        metrics.onOperation(Operation.GET, size);
+        return result;
     }
 
     /**
@@ -87,7 +172,7 @@ public class DoublyLinkedList<E> implements SimpleList<E> {
     @Override
     public boolean add(E element) {
         Node<E> oldTail = tail;
-        Node<E> newNode = new Node<>(oldTail, null, element);
+        Node<E> newNode = newNode(oldTail, null, element);
         tail = newNode;
         if(Objects.isNull(oldTail)) {
             head = newNode;
@@ -96,6 +181,8 @@ public class DoublyLinkedList<E> implements SimpleList<E> {
         }
 
         size++;
+        modCount++;
+        metrics.onOperation(Operation.ADD, size);
         return true;
     }
 
@@ -109,17 +196,11 @@ public class DoublyLinkedList<E> implements SimpleList<E> {
     public boolean add(int i, E e) {
         if(i < 0 || i > size) throw new IndexOutOfBoundsException();
 
-        if(i == 0) addFirst(e);
-        else if(i == size) add(e);
-        else {
-            Node<E> nodeAfter = getNode(i);
-            Node<E> nodeBefore = nodeAfter.previous;
-            Node<E> newNode = new Node<>(nodeBefore, nodeAfter, e);
-            nodeBefore.next = newNode;
-            nodeAfter.previous = newNode;
-        }
+        if(i == 0) return addFirst(e);
+        else if(i == size) return add(e);
+        else linkBefore(getNode(i), i, e);
 
-        size++;
+        metrics.onOperation(Operation.ADD_AT_INDEX, size);
         return true;
     }
 
@@ -129,11 +210,19 @@ public class DoublyLinkedList<E> implements SimpleList<E> {
      * @return boolean - return true if element was successfully added to the list
      */
     public boolean addFirst(E e) {
-        head = new Node<>(null, head, e);
-        if(Objects.isNull(tail)) {
-            tail = head;
+        Node<E> oldHead = head;
+        Node<E> newNode = newNode(null, oldHead, e);
+        head = newNode;
+        if(Objects.isNull(oldHead)) {
+            tail = newNode;
+        } else {
+            oldHead.previous = newNode;
         }
+        if(fingerIndex >= 0) fingerIndex++;
+
         size++;
+        modCount++;
+        metrics.onOperation(Operation.ADD_FIRST, size);
         return true;
     }
 
@@ -144,10 +233,11 @@ public class DoublyLinkedList<E> implements SimpleList<E> {
     public boolean removeFirst() {
         if(size == 0) throw new IndexOutOfBoundsException();
 
-        head = getNode(1);
-        head.previous = null;
+        unlink(head, 0);
 
         size--;
+        modCount++;
+        metrics.onOperation(Operation.REMOVE_FIRST, size);
         return true;
     }
 
@@ -158,10 +248,11 @@ public class DoublyLinkedList<E> implements SimpleList<E> {
     public boolean removeLast() {
         if(size == 0) throw new IndexOutOfBoundsException();
 
-        tail = getNode(size - 2);
-        tail.next = null;
+        unlink(tail, size - 1);
 
         size--;
+        modCount++;
+        metrics.onOperation(Operation.REMOVE_LAST, size);
         return true;
     }
 
@@ -175,9 +266,11 @@ public class DoublyLinkedList<E> implements SimpleList<E> {
     public boolean remove(int i) {
         if(i < 0 || i >= size) throw new IndexOutOfBoundsException();
         Node<E> nodeI = getNode(i);
-        unlink(nodeI);
+        unlink(nodeI, i);
 
         size--;
+        modCount++;
+        metrics.onOperation(Operation.REMOVE_AT_INDEX, size);
         return true;
     }
 
@@ -188,40 +281,439 @@ public class DoublyLinkedList<E> implements SimpleList<E> {
      */
     @Override
     public boolean remove(E e) {
-        boolean result = false;
-
         //Find Element
         Node<E> currentNode = head;
-        while(currentNode.hasNext()) {
-            if(currentNode.data.equals(e)) {
-                result = true;
-                unlink(currentNode);
-                break;
+        int i = 0;
+        while(Objects.nonNull(currentNode)) {
+            if(Objects.equals(currentNode.data, e)) {
+                unlink(currentNode, i);
+                size--;
+                modCount++;
+                metrics.onTraversal(i);
+                metrics.onOperation(Operation.REMOVE_ELEMENT, size);
+                return true;
             }
             currentNode = currentNode.next;
+            i++;
         }
 
-        size--;
-        return result;
+        metrics.onTraversal(i);
+        metrics.onOperation(Operation.REMOVE_ELEMENT, size);
+        return false;
+    }
+
+    /**
+     * Add every element of the collection starting at the given position.
+     * @implNote the new nodes are chained first and then linked in with one walk to index i, instead of one walk per element.
+     * @throws IndexOutOfBoundsException if index i is not within the size of the list
+     * @param i - index of the first element added
+     * @param c - elements to be added
+     * @return boolean - return true if the list changed
+     */
+    @Override
+    public boolean addAll(int i, Collection<? extends E> c) {
+        if(i < 0 || i > size) throw new IndexOutOfBoundsException();
+        return linkAll(i, c.toArray());
+    }
+
+    /**
+     * Add every element of the array to the back of the list, in order.
+     * @implNote the new nodes are chained first and then linked after the tail at once.
+     * @param elements - elements to be added
+     * @return boolean - return true if the list changed
+     */
+    public boolean addAll(E[] elements) {
+        return linkAll(size, elements);
+    }
+
+    /**
+     * Remove the last n elements of the list, writing them into dest from the tail backward: dest[0] gets the last element.
+     * @implNote walks back n nodes from the tail and cuts the list there once, the removed nodes going back to the node pool.
+     * @throws IndexOutOfBoundsException if n is negative or greater than the size of the list
+     * @throws IllegalArgumentException if dest is shorter than n
+     * @param n - number of elements to be removed
+     * @param dest - array receiving the removed elements
+     */
+    public void removeLast(int n, E[] dest) {
+        if(n < 0 || n > size) throw new IndexOutOfBoundsException();
+        if(dest.length < n) throw new IllegalArgumentException("Destination array is shorter than " + n);
+        if(n == 0) return;
+
+        Node<E> node = tail;
+        for (int j = 0; j < n; j++) {
+            Node<E> previous = node.previous;
+            dest[j] = node.data;
+            node.previous = null;
+            node.next = null;
+            recycle(node);
+            node = previous;
+        }
+        tail = node;
+        if(Objects.isNull(node)) {
+            head = null;
+        } else {
+            node.next = null;
+        }
+        if(fingerIndex >= size - n) clearFinger();
+
+        size -= n;
+        modCount++;
+    }
+
+    /**
+     * Insert the elements, in order, starting at index i, with one walk to index i.
+     */
+    private boolean linkAll(int i, Object[] elements) {
+        if(elements.length == 0) return false;
+
+        Node<E> nodeAfter = (i == size) ? null : getNode(i);
+        Node<E> nodeBefore = Objects.isNull(nodeAfter) ? tail : nodeAfter.previous;
+        Node<E> last = nodeBefore;
+        for (Object element : elements) {
+            @SuppressWarnings("unchecked")
+            E e = (E) element;
+            Node<E> newNode = newNode(last, null, e);
+            if(Objects.isNull(last)) {
+                head = newNode;
+            } else {
+                last.next = newNode;
+            }
+            last = newNode;
+        }
+        last.next = nodeAfter;
+        if(Objects.isNull(nodeAfter)) {
+            tail = last;
+        } else {
+            nodeAfter.previous = last;
+        }
+        if(fingerIndex >= i) fingerIndex += elements.length;
+
+        size += elements.length;
+        modCount++;
+        return true;
+    }
+
+    /**
+     * Remove the elements from index from, inclusive, to index to, exclusive, with one walk to index from and a pass over the range.
+     * @throws IndexOutOfBoundsException if from is negative, to is greater than the size or from is greater than to
+     * @param from - index of the first element removed
+     * @param to - index after the last element removed
+     */
+    @Override
+    public void removeRange(int from, int to) {
+        if(from < 0 || to > size || from > to) throw new IndexOutOfBoundsException();
+        if(from == to) return;
+
+        Node<E> first = getNode(from);
+        Node<E> nodeBefore = first.previous;
+        Node<E> nodeAfter = first;
+        for (int i = from; i < to; i++) {
+            nodeAfter = nodeAfter.next;
+        }
+        if(Objects.isNull(nodeBefore)) {
+            head = nodeAfter;
+        } else {
+            nodeBefore.next = nodeAfter;
+        }
+        if(Objects.isNull(nodeAfter)) {
+            tail = nodeBefore;
+            clearFinger();
+        } else {
+            nodeAfter.previous = nodeBefore;
+            //The finger was on the first removed node, the one after the range takes its index
+            finger = nodeAfter;
+        }
+
+        size -= to - from;
+        modCount++;
+    }
+
+    /**
+     * Returns an array with the elements of the list from head to tail.
+     * @return Object[] - array of length size
+     */
+    @Override
+    public Object[] toArray() {
+        Object[] array = new Object[size];
+        int i = 0;
+        for (Node<E> node = head; Objects.nonNull(node); node = node.next) {
+            array[i++] = node.data;
+        }
+        return array;
+    }
+
+    /**
+     * Returns a view of this list as a java.util.Deque, which is also a java.util.List, like java.util.LinkedList.
+     * The view is backed by this list: changes made through one are visible in the other.
+     * @return Deque - view of this list, whose operations on both ends are O(1)
+     */
+    public Deque<E> asDeque() {
+        return new DequeAdapter<>(this);
+    }
+
+    /**
+     * Move every node of the other list to the end of this list in O(1), leaving the other list empty.
+     * @throws IllegalArgumentException if other is this same list
+     * @param other - list whose elements are transferred
+     */
+    public void append(DoublyLinkedList<E> other) {
+        if(other == this) throw new IllegalArgumentException();
+        if(other.size == 0) return;
+
+        if(size == 0) {
+            head = other.head;
+        } else {
+            tail.next = other.head;
+            other.head.previous = tail;
+        }
+        tail = other.tail;
+        size += other.size;
+        modCount++;
+        //The nodes now belong to this list
+        other.clear();
+    }
+
+    /**
+     * Move every node of the other list to the front of this list in O(1), leaving the other list empty.
+     * @throws IllegalArgumentException if other is this same list
+     * @param other - list whose elements are transferred
+     */
+    public void prepend(DoublyLinkedList<E> other) {
+        if(other == this) throw new IllegalArgumentException();
+        if(other.size == 0) return;
+
+        if(size == 0) {
+            tail = other.tail;
+        } else {
+            head.previous = other.tail;
+            other.tail.next = head;
+        }
+        head = other.head;
+        if(fingerIndex >= 0) fingerIndex += other.size;
+        size += other.size;
+        modCount++;
+        //The nodes now belong to this list
+        other.clear();
+    }
+
+    /**
+     * Cut this list in two: this list keeps the elements before index i and the rest are moved, without copying, to the returned list.
+     * Costs one traversal to reach index i, the relinking is O(1).
+     * The returned list has the same node pool capacity and metrics listener as this one.
+     * @throws IndexOutOfBoundsException if index i is not within the size of the list
+     * @param i - index of the first element of the returned list
+     * @return DoublyLinkedList - list with the elements from index i to the end
+     */
+    public DoublyLinkedList<E> splitAt(int i) {
+        if(i < 0 || i > size) throw new IndexOutOfBoundsException();
+
+        DoublyLinkedList<E> suffix = new DoublyLinkedList<>(nodePoolCapacity);
+        suffix.metrics = metrics;
+        if(i == size) return suffix;
+
+        Node<E> first = getNode(i);
+        suffix.head = first;
+        suffix.tail = tail;
+        suffix.size = size - i;
+
+        tail = first.previous;
+        if(Objects.isNull(tail)) {
+            head = null;
+        } else {
+            tail.next = null;
+            first.previous = null;
+        }
+        size = i;
+        modCount++;
+        //The finger sits on the first node moved out
+        clearFinger();
+        return suffix;
+    }
+
+    /**
+     * Sort the list in place according to the comparator, or the natural order of the elements if it is null.
+     * The sort is stable: equal elements keep their relative order.
+     * @implNote bottom-up merge sort of the natural runs of the list, relinking the nodes instead of copying the elements,
+     * so it needs no extra memory besides a small array of pending runs. Runs that are strictly descending are reversed,
+     * which makes a sorted or reverse sorted list a single O(n) pass, and nearly sorted lists only a few merges.
+     * O(n log n) in the worst case.
+     * If the comparator throws, the list is left in its original order and the exception is rethrown.
+     * @throws ClassCastException if the comparator is null and the elements are not mutually comparable
+     * @param c - comparator ordering the elements, or null for their natural order
+     */
+    @Override
+    public void sort(Comparator<? super E> c) {
+        if(size < 2) return;
+
+        try {
+            relink(mergeSort(head, comparatorOrNaturalOrder(c)));
+        } catch (RuntimeException | Error e) {
+            restoreNextLinks();
+            throw e;
+        }
+    }
+
+    /**
+     * Sort the list in place in parallel on the common ForkJoinPool, with the same result as sort.
+     * The list is cut in halves recursively; halves smaller than 8192 elements are sorted with sort's merge sort and
+     * the sorted halves are merged back up. Small lists are simply sorted in the current thread.
+     * If the comparator throws, the list is left in its original order and the exception is rethrown.
+     * @throws ClassCastException if the comparator is null and the elements are not mutually comparable
+     * @param c - comparator ordering the elements, or null for their natural order
+     */
+    public void parallelSort(Comparator<? super E> c) {
+        if(size <= PARALLEL_SORT_THRESHOLD) {
+            sort(c);
+            return;
+        }
+
+        try {
+            relink(ForkJoinPool.commonPool().invoke(new SortTask<>(head, size, comparatorOrNaturalOrder(c))));
+        } catch (RuntimeException | Error e) {
+            restoreNextLinks();
+            throw e;
+        }
+    }
+
+    /**
+     * Sort the list in place in parallel, according to the natural order of the elements.
+     * @throws ClassCastException if the elements are not mutually comparable
+     */
+    public void parallelSort() {
+        parallelSort(null);
+    }
+
+    /**
+     * Returns a list iterator starting at the given position. Moving the cursor, as well as add, remove and set at the cursor, are O(1).
+     * @throws IndexOutOfBoundsException if index i is not within the size of the list
+     * @param i - index of the first element to be returned by next
+     * @return ListIterator - iterator positioned before the element at index i
+     */
+    @Override
+    public ListIterator<E> listIterator(int i) {
+        if(i < 0 || i > size) throw new IndexOutOfBoundsException();
+        return new ListItr(i);
+    }
+
+    /**
+     * Returns a spliterator that splits by copying growing batches of nodes into arrays,
+     * which makes parallel streams scale even though nodes can only be reached one after the other.
+     * The spliterator is late-binding and fail-fast.
+     * @return Spliterator - ordered, sized and subsized spliterator
+     */
+    @Override
+    public Spliterator<E> spliterator() {
+        return new NodeSpliterator();
+    }
+
+    /**
+     * Insert a new node holding e right before the given node, which must not be the head.
+     * @param i - index of the new node
+     */
+    private void linkBefore(Node<E> nodeAfter, int i, E e) {
+        Node<E> nodeBefore = nodeAfter.previous;
+        Node<E> newNode = newNode(nodeBefore, nodeAfter, e);
+        nodeBefore.next = newNode;
+        nodeAfter.previous = newNode;
+        if(fingerIndex >= i) fingerIndex++;
+        size++;
+        modCount++;
     }
 
-    private void unlink(Node<E> node) {
+    /**
+     * Detach the node from its neighbours, moving head and tail when the node is at either end.
+     * The finger moves to the next node if it was on the removed one.
+     * @implNote the caller is responsible for updating size
+     * @param i - index of the node
+     */
+    private void unlink(Node<E> node, int i) {
+        if(node == finger) {
+            finger = node.next;
+            if(Objects.isNull(finger)) clearFinger();
+        } else if(fingerIndex > i) {
+            fingerIndex--;
+        }
+
         Node<E> beforeI = node.previous;
         Node<E> afterI = node.next;
-        if(beforeI.hasPrevious()) {
+        if(Objects.isNull(beforeI)) {
+            head = afterI;
+        } else {
             beforeI.next = afterI;
         }
-        if(afterI.hasNext()) {
+        if(Objects.isNull(afterI)) {
+            tail = beforeI;
+        } else {
             afterI.previous = beforeI;
         }
+        node.next = null;
+        node.previous = null;
+        recycle(node);
     }
 
+    /**
+     * Returns a node holding e, taken from the pool when there is one.
+     */
+    private Node<E> newNode(Node<E> previous, Node<E> next, E e) {
+        Node<E> node = nodePool;
+        if(Objects.isNull(node)) return new Node<>(previous, next, e);
+
+        nodePool = node.next;
+        nodePoolSize--;
+        node.previous = previous;
+        node.next = next;
+        node.data = e;
+        return node;
+    }
+
+    /**
+     * Put an unlinked node in the pool, unless it is full, dropping its element reference.
+     */
+    private void recycle(Node<E> node) {
+        if(nodePoolSize == nodePoolCapacity) return;
+
+        node.data = null;
+        node.next = nodePool;
+        nodePool = node;
+        nodePoolSize++;
+    }
+
+    /**
+     * Returns the node at index i, walking from the head, the tail or the finger, whichever is closest, and moves the finger there.
+     */
     private Node<E> getNode(int i) {
-        if(i >= size / 2) {
-            return traverseFromTail(i);
+        int fromTail = size - 1 - i;
+        int fromFinger = fingerIndex < 0 ? Integer.MAX_VALUE : Math.abs(i - fingerIndex);
+        Node<E> result;
+        if(fromFinger < i && fromFinger < fromTail) {
+            result = traverseFromFinger(i);
+            metrics.onTraversal(fromFinger);
+        } else if(i >= size / 2) {
+            result = traverseFromTail(i);
+            metrics.onTraversal(fromTail);
         } else {
-            return traverseFromHead(i);
+            result = traverseFromHead(i);
+            metrics.onTraversal(i);
+        }
+        finger = result;
+        fingerIndex = i;
+        return result;
+    }
+
+    private Node<E> traverseFromFinger(int i) {
+        Node<E> result = finger;
+        for (int j = fingerIndex; j < i; j++) {
+            result = result.next;
         }
+        for (int j = fingerIndex; j > i; j--) {
+            result = result.previous;
+        }
+        return result;
+    }
+
+    private void clearFinger() {
+        finger = null;
+        fingerIndex = -1;
     }
 
     private Node<E> traverseFromHead(int i) {
@@ -240,6 +732,344 @@ public class DoublyLinkedList<E> implements SimpleList<E> {
         return result;
     }
 
+    /**
+     * Make the sorted chain, linked by next only, the content of the list: restore the previous links and the tail.
+     */
+    private void relink(Node<E> first) {
+        head = first;
+        Node<E> previous = null;
+        for (Node<E> node = first; Objects.nonNull(node); node = node.next) {
+            node.previous = previous;
+            previous = node;
+        }
+        tail = previous;
+        clearFinger();
+        modCount++;
+    }
+
+    /**
+     * Rebuild the next links from the previous links, which the sort never touches, undoing a sort that failed midway.
+     */
+    private void restoreNextLinks() {
+        Node<E> next = null;
+        for (Node<E> node = tail; Objects.nonNull(node); node = node.previous) {
+            node.next = next;
+            next = node;
+        }
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static <E> Comparator<? super E> comparatorOrNaturalOrder(Comparator<? super E> c) {
+        return Objects.nonNull(c) ? c : (Comparator) Comparator.naturalOrder();
+    }
+
+    /**
+     * Returns the head of the chain starting at first, linked by next only, sorted.
+     * Each natural run is merged into pending like a binary counter: pending[k] holds the merge of 2^k runs,
+     * all of them earlier in the list than the runs in pending[k - 1], so merging it first keeps the sort stable.
+     */
+    private static <E> Node<E> mergeSort(Node<E> first, Comparator<? super E> c) {
+        @SuppressWarnings({"unchecked", "rawtypes"})
+        Node<E>[] pending = (Node<E>[]) new Node[Integer.SIZE + 1];
+        Node<E> node = first;
+        while(Objects.nonNull(node)) {
+            //Cut the next natural run off the chain
+            Node<E> run = node;
+            Node<E> next = node.next;
+            if(Objects.nonNull(next) && c.compare(next.data, node.data) < 0) {
+                while(Objects.nonNull(next) && c.compare(next.data, node.data) < 0) {
+                    node = next;
+                    next = next.next;
+                }
+                node.next = null;
+                run = reverse(run);
+            } else {
+                while(Objects.nonNull(next) && c.compare(next.data, node.data) >= 0) {
+                    node = next;
+                    next = next.next;
+                }
+                node.next = null;
+            }
+            node = next;
+
+            int k = 0;
+            for (; Objects.nonNull(pending[k]); k++) {
+                run = merge(pending[k], run, c);
+                pending[k] = null;
+            }
+            pending[k] = run;
+        }
+
+        Node<E> result = null;
+        for (Node<E> run : pending) {
+            if(Objects.nonNull(run)) result = Objects.isNull(result) ? run : merge(run, result, c);
+        }
+        return result;
+    }
+
+    /**
+     * Returns the head of the merge of two sorted chains, taking from a first on ties.
+     */
+    private static <E> Node<E> merge(Node<E> a, Node<E> b, Comparator<? super E> c) {
+        Node<E> first;
+        if(c.compare(b.data, a.data) < 0) {
+            first = b;
+            b = b.next;
+        } else {
+            first = a;
+            a = a.next;
+        }
+        Node<E> last = first;
+        while(Objects.nonNull(a) && Objects.nonNull(b)) {
+            if(c.compare(b.data, a.data) < 0) {
+                last.next = b;
+                last = b;
+                b = b.next;
+            } else {
+                last.next = a;
+                last = a;
+                a = a.next;
+            }
+        }
+        last.next = Objects.nonNull(a) ? a : b;
+        return first;
+    }
+
+    private static <E> Node<E> reverse(Node<E> first) {
+        Node<E> reversed = null;
+        while(Objects.nonNull(first)) {
+            Node<E> next = first.next;
+            first.next = reversed;
+            reversed = first;
+            first = next;
+        }
+        return reversed;
+    }
+
+    /**
+     * Bidirectional iterator that keeps a reference to the node under the cursor,
+     * so that walking the whole list costs O(n) instead of one getNode call per element.
+     */
+    private class ListItr implements ListIterator<E> {
+        private Node<E> next;
+        private Node<E> lastReturned;
+        private int nextIndex;
+        private int expectedModCount = modCount;
+
+        ListItr(int i) {
+            next = (i == size) ? null : getNode(i);
+            nextIndex = i;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return nextIndex < size;
+        }
+
+        @Override
+        public E next() {
+            checkForComodification();
+            if(!hasNext()) throw new NoSuchElementException();
+
+            lastReturned = next;
+            next = next.next;
+            nextIndex++;
+            return lastReturned.data;
+        }
+
+        @Override
+        public boolean hasPrevious() {
+            return nextIndex > 0;
+        }
+
+        @Override
+        public E previous() {
+            checkForComodification();
+            if(!hasPrevious()) throw new NoSuchElementException();
+
+            next = Objects.isNull(next) ? tail : next.previous;
+            lastReturned = next;
+            nextIndex--;
+            return lastReturned.data;
+        }
+
+        @Override
+        public int nextIndex() {
+            return nextIndex;
+        }
+
+        @Override
+        public int previousIndex() {
+            return nextIndex - 1;
+        }
+
+        @Override
+        public void remove() {
+            checkForComodification();
+            if(Objects.isNull(lastReturned)) throw new IllegalStateException();
+
+            Node<E> lastNext = lastReturned.next;
+            unlink(lastReturned, next == lastReturned ? nextIndex : nextIndex - 1);
+            if(next == lastReturned) {
+                next = lastNext;
+            } else {
+                nextIndex--;
+            }
+            lastReturned = null;
+            size--;
+            modCount++;
+            expectedModCount = modCount;
+        }
+
+        @Override
+        public void set(E e) {
+            if(Objects.isNull(lastReturned)) throw new IllegalStateException();
+            checkForComodification();
+
+            lastReturned.data = e;
+        }
+
+        @Override
+        public void add(E e) {
+            checkForComodification();
+
+            lastReturned = null;
+            if(Objects.isNull(next)) {
+                DoublyLinkedList.this.add(e);
+            } else if(next == head) {
+                addFirst(e);
+            } else {
+                linkBefore(next, nextIndex, e);
+            }
+            nextIndex++;
+            expectedModCount = modCount;
+        }
+
+        private void checkForComodification() {
+            if(modCount != expectedModCount) throw new ConcurrentModificationException();
+        }
+    }
+
+    /**
+     * Spliterator over the nodes of the list. Each trySplit copies the next batch of elements into an array,
+     * every batch being larger than the previous one, so the number of splits stays logarithmic in the size of the list.
+     */
+    private class NodeSpliterator implements Spliterator<E> {
+        private Node<E> current;
+        //Elements left to traverse, -1 until bound to the list on first use
+        private int est = -1;
+        private int expectedModCount;
+        private int batch;
+
+        private int getEst() {
+            if(est < 0) {
+                current = head;
+                est = size;
+                expectedModCount = modCount;
+            }
+            return est;
+        }
+
+        @Override
+        public Spliterator<E> trySplit() {
+            int s = getEst();
+            Node<E> node = current;
+            if(s <= 1 || Objects.isNull(node)) return null;
+
+            int n = Math.min(Math.min(batch + SPLIT_BATCH_UNIT, s), SPLIT_MAX_BATCH);
+            Object[] array = new Object[n];
+            int j = 0;
+            do {
+                array[j++] = node.data;
+                node = node.next;
+            } while(Objects.nonNull(node) && j < n);
+
+            current = node;
+            batch = j;
+            est = s - j;
+            return Spliterators.spliterator(array, 0, j, Spliterator.ORDERED);
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super E> action) {
+            Objects.requireNonNull(action);
+            if(getEst() <= 0 || Objects.isNull(current)) return false;
+
+            E data = current.data;
+            current = current.next;
+            est--;
+            action.accept(data);
+            if(modCount != expectedModCount) throw new ConcurrentModificationException();
+            return true;
+        }
+
+        @Override
+        public void forEachRemaining(Consumer<? super E> action) {
+            Objects.requireNonNull(action);
+            int n = getEst();
+            Node<E> node = current;
+            current = null;
+            est = 0;
+            for (; n > 0 && Objects.nonNull(node); n--) {
+                E data = node.data;
+                node = node.next;
+                action.accept(data);
+            }
+            if(modCount != expectedModCount) throw new ConcurrentModificationException();
+        }
+
+        @Override
+        public long estimateSize() {
+            return getEst();
+        }
+
+        @Override
+        public int characteristics() {
+            return Spliterator.ORDERED | Spliterator.SIZED | Spliterator.SUBSIZED;
+        }
+    }
+
+    /**
+     * Sorts a chain of length nodes, linked by next only, by sorting its two halves in parallel and merging them.
+     */
+    private static class SortTask<E> extends RecursiveTask<Node<E>> {
+        private static final long serialVersionUID = 1L;
+
+        private final Node<E> first;
+        private final int length;
+        private final Comparator<? super E> comparator;
+
+        SortTask(Node<E> first, int length, Comparator<? super E> comparator) {
+            this.first = first;
+            this.length = length;
+            this.comparator = comparator;
+        }
+
+        @Override
+        protected Node<E> compute() {
+            if(length <= PARALLEL_SORT_THRESHOLD) return mergeSort(first, comparator);
+
+            int half = length >>> 1;
+            Node<E> lastOfLeft = first;
+            for (int i = 1; i < half; i++) {
+                lastOfLeft = lastOfLeft.next;
+            }
+            Node<E> firstOfRight = lastOfLeft.next;
+            lastOfLeft.next = null;
+
+            SortTask<E> left = new SortTask<>(first, half, comparator);
+            left.fork();
+            Node<E> right;
+            try {
+                right = new SortTask<>(firstOfRight, length - half, comparator).compute();
+            } catch (RuntimeException | Error e) {
+                //The left half must stop relinking nodes before the list is restored
+                left.quietlyJoin();
+                throw e;
+            }
+            return merge(left.join(), right, comparator);
+        }
+    }
 
     /**
      * Class representation of a node.
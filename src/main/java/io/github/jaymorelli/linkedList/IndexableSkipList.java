@@ -0,0 +1,388 @@
+package io.github.jaymorelli.linkedList;
+
+
+import java.util.ConcurrentModificationException;
+import java.util.ListIterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Implementation of a list as an indexable skip list, which makes get, add and remove by position O(log n) on average.
+ * Every node is linked at level 0, like a singly linked list, and at a random number of express levels above it,
+ * each level skipping about twice as many nodes as the one below.
+ * Each link also stores its width, the number of positions it jumps over, so a lookup by index walks down the levels
+ * adding up widths instead of counting nodes one by one.
+ * @author Jean Morelli
+ */
+public class IndexableSkipList<E> implements SimpleList<E> {
+    private static final int MAX_LEVEL = 32;
+
+    /**
+     * Sentinel before the first element, at position -1, linked at every level.
+     */
+    private final Node<E> head = new Node<>(null, MAX_LEVEL);
+    //Number of levels currently in use
+    private int levels = 1;
+    int size;
+    /**
+     * Number of structural modifications, used by the iterators to fail fast.
+     */
+    int modCount;
+
+    public IndexableSkipList() {
+        head.width[0] = 1;
+    }
+
+    /**
+     * Returns the number of elements in this list
+     * @return int - number of elements
+     */
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Check if the list contains no elements.
+     * @return boolean - true if list is considered empty
+     */
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Clear the list
+     * @implNote  unlink every level of the head
+     */
+    @Override
+    public void clear() {
+        for (int l = 0; l < levels; l++) {
+            head.next[l] = null;
+        }
+        head.width[0] = 1;
+        levels = 1;
+        size = 0;
+        modCount++;
+    }
+
+    /**
+     * Returns the element in the given position in O(log n).
+     * @throws IndexOutOfBoundsException if given index is less than 0 or greater than or equals to its size.
+     * @param i index of element
+     * @return element in the position i
+     */
+    @Override
+    public E get(int i) {
+        if(i < 0 || i >= size) throw new IndexOutOfBoundsException();
+        return getNode(i).data;
+    }
+
+    /**
+     * Returns the first element of the list
+     * @throws NoSuchElementException if list is empty
+     * @return first element
+     */
+    public E getFirst() {
+        if(size == 0) throw new NoSuchElementException();
+
+        return head.next[0].data;
+    }
+
+    /**
+     * Returns the last element of the list in O(log n)
+     * @throws NoSuchElementException if list is empty
+     * @return last element
+     */
+    public E getLast() {
+        if(size == 0) throw new NoSuchElementException();
+
+        return getNode(size - 1).data;
+    }
+
+    /**
+     * Add element to the back of the list in O(log n).
+     * @param e - element to be added to the end of the list
+     * @return boolean - return true if element was successfully added to the list
+     */
+    @Override
+    public boolean add(E e) {
+        return add(size, e);
+    }
+
+    /**
+     * Add element to the nth position (i index) of the list in O(log n).
+     * @throws IndexOutOfBoundsException if index i is not within the size of the list
+     * @param e - element to be added
+     * @return boolean - return true if element was successfully added to the list
+     */
+    @Override
+    public boolean add(int i, E e) {
+        if(i < 0 || i > size) throw new IndexOutOfBoundsException();
+
+        int nodeLevels = randomLevels();
+        if(nodeLevels > levels) {
+            //The new levels start empty: the head jumps straight to the end of the list
+            for (int l = levels; l < nodeLevels; l++) {
+                head.width[l] = size + 1;
+            }
+            levels = nodeLevels;
+        }
+
+        Node<E> newNode = new Node<>(e, nodeLevels);
+        Node<E> node = head;
+        int position = -1;
+        for (int l = levels - 1; l >= 0; l--) {
+            //Stop at the last node before position i on this level
+            while(Objects.nonNull(node.next[l]) && position + node.width[l] < i) {
+                position += node.width[l];
+                node = node.next[l];
+            }
+            if(l < nodeLevels) {
+                newNode.next[l] = node.next[l];
+                newNode.width[l] = node.width[l] - (i - position) + 1;
+                node.next[l] = newNode;
+                node.width[l] = i - position;
+            } else {
+                node.width[l]++;
+            }
+        }
+
+        size++;
+        modCount++;
+        return true;
+    }
+
+    /**
+     * Add element as head of the list in O(log n).
+     * @param e - element to be added
+     * @return boolean - return true if element was successfully added to the list
+     */
+    public boolean addFirst(E e) {
+        return add(0, e);
+    }
+
+    /**
+     * Remove first element of the list
+     * @throws IndexOutOfBoundsException if list is empty
+     * @return boolean - return true if element was removed from the list
+     */
+    public boolean removeFirst() {
+        if(size == 0) throw new IndexOutOfBoundsException();
+
+        return remove(0);
+    }
+
+    /**
+     * Remove last element of the list
+     * @throws IndexOutOfBoundsException if list is empty
+     * @return boolean - return true if element was removed from the list
+     */
+    public boolean removeLast() {
+        if(size == 0) throw new IndexOutOfBoundsException();
+
+        return remove(size - 1);
+    }
+
+    /**
+     * Remove element in the index i off the list in O(log n).
+     * @throws IndexOutOfBoundsException if index i is not within the size of the list
+     * @param i - index of the element
+     * @return boolean - return true if element was removed from the list
+     */
+    @Override
+    public boolean remove(int i) {
+        if(i < 0 || i >= size) throw new IndexOutOfBoundsException();
+
+        Node<E> node = head;
+        int position = -1;
+        for (int l = levels - 1; l >= 0; l--) {
+            //Stop at the last node before position i on this level
+            while(Objects.nonNull(node.next[l]) && position + node.width[l] < i) {
+                position += node.width[l];
+                node = node.next[l];
+            }
+            Node<E> following = node.next[l];
+            if(Objects.nonNull(following) && position + node.width[l] == i) {
+                //The removed node is linked on this level: jump over it
+                node.width[l] += following.width[l] - 1;
+                node.next[l] = following.next[l];
+            } else {
+                node.width[l]--;
+            }
+        }
+        while(levels > 1 && Objects.isNull(head.next[levels - 1])) {
+            levels--;
+        }
+
+        size--;
+        modCount++;
+        return true;
+    }
+
+    /**
+     * Remove the first occurrence of element e off the list. Finding the element is O(n), unlinking it is O(log n).
+     * @param e - element to be removed
+     * @return boolean - return true if element was removed from the list and false otherwise
+     */
+    @Override
+    public boolean remove(E e) {
+        int i = 0;
+        for (Node<E> node = head.next[0]; Objects.nonNull(node); node = node.next[0], i++) {
+            if(Objects.equals(node.data, e)) {
+                return remove(i);
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns a list iterator starting at the given position.
+     * Moving forward and set are O(1); moving backward, add and remove at the cursor are O(log n).
+     * @throws IndexOutOfBoundsException if index i is not within the size of the list
+     * @param i - index of the first element to be returned by next
+     * @return ListIterator - iterator positioned before the element at index i
+     */
+    @Override
+    public ListIterator<E> listIterator(int i) {
+        if(i < 0 || i > size) throw new IndexOutOfBoundsException();
+        return new ListItr(i);
+    }
+
+    private Node<E> getNode(int i) {
+        Node<E> node = head;
+        int position = -1;
+        for (int l = levels - 1; l >= 0; l--) {
+            while(Objects.nonNull(node.next[l]) && position + node.width[l] <= i) {
+                position += node.width[l];
+                node = node.next[l];
+            }
+        }
+        return node;
+    }
+
+    /**
+     * Returns a number of levels between 1 and MAX_LEVEL, each extra level with half the probability of the previous one.
+     */
+    private static int randomLevels() {
+        int random = ThreadLocalRandom.current().nextInt();
+        return Math.min(MAX_LEVEL, Integer.numberOfTrailingZeros(random) + 1);
+    }
+
+    /**
+     * Iterator that follows level 0 forward and goes back by position.
+     */
+    private class ListItr implements ListIterator<E> {
+        private Node<E> next;
+        private Node<E> lastReturned;
+        private int lastReturnedIndex = -1;
+        private int nextIndex;
+        private int expectedModCount = modCount;
+
+        ListItr(int i) {
+            next = (i == size) ? null : getNode(i);
+            nextIndex = i;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return nextIndex < size;
+        }
+
+        @Override
+        public E next() {
+            checkForComodification();
+            if(!hasNext()) throw new NoSuchElementException();
+
+            lastReturned = next;
+            lastReturnedIndex = nextIndex;
+            next = next.next[0];
+            nextIndex++;
+            return lastReturned.data;
+        }
+
+        @Override
+        public boolean hasPrevious() {
+            return nextIndex > 0;
+        }
+
+        @Override
+        public E previous() {
+            checkForComodification();
+            if(!hasPrevious()) throw new NoSuchElementException();
+
+            nextIndex--;
+            next = getNode(nextIndex);
+            lastReturned = next;
+            lastReturnedIndex = nextIndex;
+            return lastReturned.data;
+        }
+
+        @Override
+        public int nextIndex() {
+            return nextIndex;
+        }
+
+        @Override
+        public int previousIndex() {
+            return nextIndex - 1;
+        }
+
+        @Override
+        public void remove() {
+            checkForComodification();
+            if(Objects.isNull(lastReturned)) throw new IllegalStateException();
+
+            if(next == lastReturned) {
+                next = lastReturned.next[0];
+            } else {
+                nextIndex--;
+            }
+            IndexableSkipList.this.remove(lastReturnedIndex);
+            lastReturned = null;
+            expectedModCount = modCount;
+        }
+
+        @Override
+        public void set(E e) {
+            if(Objects.isNull(lastReturned)) throw new IllegalStateException();
+            checkForComodification();
+
+            lastReturned.data = e;
+        }
+
+        @Override
+        public void add(E e) {
+            checkForComodification();
+
+            IndexableSkipList.this.add(nextIndex, e);
+            lastReturned = null;
+            nextIndex++;
+            expectedModCount = modCount;
+        }
+
+        private void checkForComodification() {
+            if(modCount != expectedModCount) throw new ConcurrentModificationException();
+        }
+    }
+
+    /**
+     * Class representation of a node.
+     * next[l] is the following node on level l and width[l] the number of positions between this node and next[l]
+     * (or the end of the list when next[l] is null).
+     * @param <E> Element - any object
+     */
+    private static class Node<E> {
+        E data;
+        final Node<E>[] next;
+        final int[] width;
+
+        @SuppressWarnings({"unchecked", "rawtypes"})
+        Node(E data, int levels) {
+            this.data = data;
+            this.next = new Node[levels];
+            this.width = new int[levels];
+        }
+    }
+}
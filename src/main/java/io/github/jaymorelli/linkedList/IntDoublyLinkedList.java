@@ -0,0 +1,302 @@
+package io.github.jaymorelli.linkedList;
+
+
+import java.util.ConcurrentModificationException;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.PrimitiveIterator;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.IntStream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Doubly linked list of int values, with the same operations as DoublyLinkedList.
+ * Nodes hold the int itself instead of an Integer, so adding, reading and removing elements never box.
+ * Since remove(int) removes by index, removing by value is done with removeValue.
+ * @author Jean Morelli
+ */
+public class IntDoublyLinkedList {
+    Node head;
+    Node tail;
+    int size;
+    /**
+     * Number of structural modifications, used by the iterators to fail fast.
+     */
+    int modCount;
+
+    /**
+     * Returns the number of elements in this list
+     * @return int - number of elements
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Check if the list contains no elements.
+     * @return boolean - true if list is considered empty
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Clear the list
+     * @implNote  set size to 0 and remove head and tail references
+     */
+    public void clear() {
+        head = null;
+        tail = null;
+        size = 0;
+        modCount++;
+    }
+
+    /**
+     * Returns the element in the given position.
+     * @throws IndexOutOfBoundsException if given index is less than 0 or greater than or equals to its size.
+     * @param i index of element
+     * @return element in the position i
+     */
+    public int get(int i) {
+        if(i < 0 || i >= size) throw new IndexOutOfBoundsException();
+        return getNode(i).data;
+    }
+
+    /**
+     * Returns data of the head node
+     * @throws NoSuchElementException if list is empty
+     * @return first element
+     */
+    public int getFirst() {
+        if(size == 0) throw new NoSuchElementException();
+
+        return head.data;
+    }
+
+    /**
+     * Returns data of the last node
+     * @throws NoSuchElementException if list is empty
+     * @return last element
+     */
+    public int getLast() {
+        if(size == 0) throw new NoSuchElementException();
+
+        return tail.data;
+    }
+
+    /**
+     * Add element to the back of the list.
+     * @param e - element to be added to the end of the list
+     * @return boolean - return true if element was successfully added to the list
+     */
+    public boolean add(int e) {
+        Node oldTail = tail;
+        Node newNode = new Node(oldTail, null, e);
+        tail = newNode;
+        if(Objects.isNull(oldTail)) {
+            head = newNode;
+        } else {
+            oldTail.next = newNode;
+        }
+
+        size++;
+        modCount++;
+        return true;
+    }
+
+    /**
+     * Add element to the nth position (i index) of the list.
+     * @throws IndexOutOfBoundsException if index i is not within the size of the list
+     * @param e - element to be added
+     * @return boolean - return true if element was successfully added to the list
+     */
+    public boolean add(int i, int e) {
+        if(i < 0 || i > size) throw new IndexOutOfBoundsException();
+
+        if(i == 0) return addFirst(e);
+        else if(i == size) return add(e);
+
+        Node nodeAfter = getNode(i);
+        Node nodeBefore = nodeAfter.previous;
+        Node newNode = new Node(nodeBefore, nodeAfter, e);
+        nodeBefore.next = newNode;
+        nodeAfter.previous = newNode;
+
+        size++;
+        modCount++;
+        return true;
+    }
+
+    /**
+     * Add element as head of the list.
+     * @param e - element to be added
+     * @return boolean - return true if element was successfully added to the list
+     */
+    public boolean addFirst(int e) {
+        Node oldHead = head;
+        Node newNode = new Node(null, oldHead, e);
+        head = newNode;
+        if(Objects.isNull(oldHead)) {
+            tail = newNode;
+        } else {
+            oldHead.previous = newNode;
+        }
+
+        size++;
+        modCount++;
+        return true;
+    }
+
+    /**
+     * Remove first element of the list
+     * @throws IndexOutOfBoundsException if list is empty
+     * @return boolean - return true if element was removed from the list
+     */
+    public boolean removeFirst() {
+        if(size == 0) throw new IndexOutOfBoundsException();
+
+        unlink(head);
+        return true;
+    }
+
+    /**
+     * Remove last element of the list
+     * @throws IndexOutOfBoundsException if list is empty
+     * @return boolean - return true if element was removed from the list
+     */
+    public boolean removeLast() {
+        if(size == 0) throw new IndexOutOfBoundsException();
+
+        unlink(tail);
+        return true;
+    }
+
+    /**
+     * Remove element in the index i off the list.
+     * @throws IndexOutOfBoundsException if index i is not within the size of the list
+     * @param i - index of the element
+     * @return boolean - return true if element was removed from the list
+     */
+    public boolean remove(int i) {
+        if(i < 0 || i >= size) throw new IndexOutOfBoundsException();
+
+        unlink(getNode(i));
+        return true;
+    }
+
+    /**
+     * Remove the first occurrence of value e off the list.
+     * @param e - value to be removed
+     * @return boolean - return true if element was removed from the list and false otherwise
+     */
+    public boolean removeValue(int e) {
+        for (Node node = head; Objects.nonNull(node); node = node.next) {
+            if(node.data == e) {
+                unlink(node);
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns an iterator over the elements of the list from head to tail, without boxing them.
+     * @return PrimitiveIterator.OfInt - fail-fast iterator
+     */
+    public PrimitiveIterator.OfInt iterator() {
+        return new Itr();
+    }
+
+    /**
+     * Returns a sequential stream over the elements of the list.
+     * @return IntStream - sequential stream
+     */
+    public IntStream stream() {
+        return StreamSupport.intStream(Spliterators.spliterator(iterator(), size, Spliterator.ORDERED), false);
+    }
+
+    /**
+     * Returns a copy of the elements of the list in an array, from head to tail.
+     * @return int[] - elements of the list
+     */
+    public int[] toArray() {
+        int[] result = new int[size];
+        int i = 0;
+        for (Node node = head; Objects.nonNull(node); node = node.next) {
+            result[i++] = node.data;
+        }
+        return result;
+    }
+
+    private void unlink(Node node) {
+        Node beforeI = node.previous;
+        Node afterI = node.next;
+        if(Objects.isNull(beforeI)) {
+            head = afterI;
+        } else {
+            beforeI.next = afterI;
+        }
+        if(Objects.isNull(afterI)) {
+            tail = beforeI;
+        } else {
+            afterI.previous = beforeI;
+        }
+        node.next = null;
+        node.previous = null;
+
+        size--;
+        modCount++;
+    }
+
+    private Node getNode(int i) {
+        if(i >= size / 2) {
+            Node result = tail;
+            for (int j = size - 1; j > i; j--) {
+                result = result.previous;
+            }
+            return result;
+        } else {
+            Node result = head;
+            for (int j = 0; j < i; j++) {
+                result = result.next;
+            }
+            return result;
+        }
+    }
+
+    private class Itr implements PrimitiveIterator.OfInt {
+        private Node next = head;
+        private final int expectedModCount = modCount;
+
+        @Override
+        public boolean hasNext() {
+            return Objects.nonNull(next);
+        }
+
+        @Override
+        public int nextInt() {
+            if(modCount != expectedModCount) throw new ConcurrentModificationException();
+            if(Objects.isNull(next)) throw new NoSuchElementException();
+
+            int result = next.data;
+            next = next.next;
+            return result;
+        }
+    }
+
+    /**
+     * Class representation of a node holding an int value and references for the next and the previous node.
+     */
+    private static class Node {
+        Node next;
+        Node previous;
+        int data;
+
+        Node(Node previous, Node next, int data) {
+            this.next = next;
+            this.previous = previous;
+            this.data = data;
+        }
+    }
+}
@@ -0,0 +1,544 @@
+package io.github.jaymorelli.linkedList;
+
+
+import java.util.ConcurrentModificationException;
+import java.util.HashMap;
+import java.util.ListIterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+
+/**
+ * Implementation of a doubly linked list with a hash index from each element to its nodes, which makes remove(E),
+ * contains and count O(1) instead of a scan with equals.
+ * Besides the list links, each node links to the previous and next node holding an equal element, so every element
+ * has its own chain of occurrences in list order: remove(E) unlinks the first one and removeLastOccurrence the last one.
+ * Elements must keep a consistent equals and hashCode while they are in the list; null is allowed.
+ * Linking a new node in the chain of its element is O(1) when the element is not in the list yet or the node is added
+ * at either end, otherwise it walks to the closest equal element.
+ * @author Jean Morelli
+ */
+public class LinkedHashList<E> implements SimpleList<E> {
+    private final Map<E, Occurrences<E>> index = new HashMap<>();
+    Node<E> head;
+    Node<E> tail;
+    int size;
+    /**
+     * Number of structural modifications, used by the iterators to fail fast.
+     */
+    int modCount;
+
+    /**
+     * Returns the number of elements in this list
+     * @return int - number of elements
+     */
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Check if the list contains no elements.
+     * @return boolean - true if list is considered empty
+     */
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Clear the list
+     * @implNote  set size to 0, remove head and tail references and clear the index
+     */
+    @Override
+    public void clear() {
+        head = null;
+        tail = null;
+        size = 0;
+        index.clear();
+        modCount++;
+    }
+
+    /**
+     * Returns the element in the given position, walking from the closest end.
+     * @throws IndexOutOfBoundsException if given index is less than 0 or greater than or equals to its size.
+     * @param i index of element
+     * @return element in the position i
+     */
+    @Override
+    public E get(int i) {
+        if(i < 0 || i >= size) throw new IndexOutOfBoundsException();
+        return getNode(i).data;
+    }
+
+    /**
+     * Returns data of the head node
+     * @throws NoSuchElementException if list is empty
+     * @return first element
+     */
+    public E getFirst() {
+        if(size == 0) throw new NoSuchElementException();
+
+        return head.data;
+    }
+
+    /**
+     * Returns data of the last node
+     * @throws NoSuchElementException if list is empty
+     * @return last element
+     */
+    public E getLast() {
+        if(size == 0) throw new NoSuchElementException();
+
+        return tail.data;
+    }
+
+    /**
+     * Check if the list holds an element equal to e in O(1).
+     * @param e - element to look for
+     * @return boolean - true if the element is in the list
+     */
+    public boolean contains(E e) {
+        return index.containsKey(e);
+    }
+
+    /**
+     * Returns how many elements equal to e the list holds, in O(1).
+     * @param e - element to count
+     * @return int - number of occurrences
+     */
+    public int count(E e) {
+        Occurrences<E> occurrences = index.get(e);
+        return Objects.isNull(occurrences) ? 0 : occurrences.count;
+    }
+
+    /**
+     * Returns the index of the first element equal to e, or -1 if there is none.
+     * @implNote finding the node is O(1), its index is counted walking back to the head, so it costs the position of the element.
+     * @param e - element to look for
+     * @return int - index of the first occurrence or -1
+     */
+    public int indexOf(E e) {
+        Occurrences<E> occurrences = index.get(e);
+        if(Objects.isNull(occurrences)) return -1;
+
+        int i = 0;
+        for (Node<E> node = occurrences.first.previous; Objects.nonNull(node); node = node.previous) {
+            i++;
+        }
+        return i;
+    }
+
+    /**
+     * Returns the index of the last element equal to e, or -1 if there is none.
+     * @implNote finding the node is O(1), its index is counted walking forward to the tail, so it costs the distance to the end.
+     * @param e - element to look for
+     * @return int - index of the last occurrence or -1
+     */
+    public int lastIndexOf(E e) {
+        Occurrences<E> occurrences = index.get(e);
+        if(Objects.isNull(occurrences)) return -1;
+
+        int i = size - 1;
+        for (Node<E> node = occurrences.last.next; Objects.nonNull(node); node = node.next) {
+            i--;
+        }
+        return i;
+    }
+
+    /**
+     * Add element to the back of the list in O(1).
+     * @param e - element to be added to the end of the list
+     * @return boolean - return true if element was successfully added to the list
+     */
+    @Override
+    public boolean add(E e) {
+        Node<E> newNode = new Node<>(tail, null, e);
+        if(Objects.isNull(tail)) {
+            head = newNode;
+        } else {
+            tail.next = newNode;
+        }
+        tail = newNode;
+        linkOccurrence(newNode);
+
+        size++;
+        modCount++;
+        return true;
+    }
+
+    /**
+     * Add element to the nth position (i index) of the list.
+     * @throws IndexOutOfBoundsException if index i is not within the size of the list
+     * @param e - element to be added
+     * @return boolean - return true if element was successfully added to the list
+     */
+    @Override
+    public boolean add(int i, E e) {
+        if(i < 0 || i > size) throw new IndexOutOfBoundsException();
+
+        if(i == 0) return addFirst(e);
+        else if(i == size) return add(e);
+        else linkBefore(getNode(i), e);
+
+        return true;
+    }
+
+    /**
+     * Add element as head of the list in O(1).
+     * @param e - element to be added
+     * @return boolean - return true if element was successfully added to the list
+     */
+    public boolean addFirst(E e) {
+        Node<E> newNode = new Node<>(null, head, e);
+        if(Objects.isNull(head)) {
+            tail = newNode;
+        } else {
+            head.previous = newNode;
+        }
+        head = newNode;
+        linkOccurrence(newNode);
+
+        size++;
+        modCount++;
+        return true;
+    }
+
+    /**
+     * Remove first element of the list
+     * @throws IndexOutOfBoundsException if list is empty
+     * @return boolean - return true if element was removed from the list
+     */
+    public boolean removeFirst() {
+        if(size == 0) throw new IndexOutOfBoundsException();
+
+        unlink(head);
+        return true;
+    }
+
+    /**
+     * Remove last element of the list
+     * @throws IndexOutOfBoundsException if list is empty
+     * @return boolean - return true if element was removed from the list
+     */
+    public boolean removeLast() {
+        if(size == 0) throw new IndexOutOfBoundsException();
+
+        unlink(tail);
+        return true;
+    }
+
+    /**
+     * Remove element in the index i off the list.
+     * @throws IndexOutOfBoundsException if index i is not within the size of the list
+     * @param i - index of the element
+     * @return boolean - return true if element was removed from the list
+     */
+    @Override
+    public boolean remove(int i) {
+        if(i < 0 || i >= size) throw new IndexOutOfBoundsException();
+
+        unlink(getNode(i));
+        return true;
+    }
+
+    /**
+     * Remove the first element equal to e off the list in O(1).
+     * @param e - element to be removed
+     * @return boolean - return true if element was removed from the list and false otherwise
+     */
+    @Override
+    public boolean remove(E e) {
+        Occurrences<E> occurrences = index.get(e);
+        if(Objects.isNull(occurrences)) return false;
+
+        unlink(occurrences.first);
+        return true;
+    }
+
+    /**
+     * Remove the last element equal to e off the list in O(1).
+     * @param e - element to be removed
+     * @return boolean - return true if element was removed from the list and false otherwise
+     */
+    public boolean removeLastOccurrence(E e) {
+        Occurrences<E> occurrences = index.get(e);
+        if(Objects.isNull(occurrences)) return false;
+
+        unlink(occurrences.last);
+        return true;
+    }
+
+    /**
+     * Returns a list iterator starting at the given position. Moving the cursor, add and remove are O(1) like in DoublyLinkedList,
+     * except that add and set have to find the place of the node among the equal elements already in the list.
+     * @throws IndexOutOfBoundsException if index i is not within the size of the list
+     * @param i - index of the first element to be returned by next
+     * @return ListIterator - iterator positioned before the element at index i
+     */
+    @Override
+    public ListIterator<E> listIterator(int i) {
+        if(i < 0 || i > size) throw new IndexOutOfBoundsException();
+        return new ListItr(i);
+    }
+
+    private Node<E> getNode(int i) {
+        Node<E> node;
+        if(i >= size / 2) {
+            node = tail;
+            for (int j = size - 1; j > i; j--) {
+                node = node.previous;
+            }
+        } else {
+            node = head;
+            for (int j = 0; j < i; j++) {
+                node = node.next;
+            }
+        }
+        return node;
+    }
+
+    /**
+     * Insert a new node holding e right before the given node, which must not be the head.
+     */
+    private void linkBefore(Node<E> nodeAfter, E e) {
+        Node<E> nodeBefore = nodeAfter.previous;
+        Node<E> newNode = new Node<>(nodeBefore, nodeAfter, e);
+        nodeBefore.next = newNode;
+        nodeAfter.previous = newNode;
+        linkOccurrence(newNode);
+        size++;
+        modCount++;
+    }
+
+    /**
+     * Detach the node from the list and from the chain of its element.
+     */
+    private void unlink(Node<E> node) {
+        if(Objects.isNull(node.previous)) {
+            head = node.next;
+        } else {
+            node.previous.next = node.next;
+        }
+        if(Objects.isNull(node.next)) {
+            tail = node.previous;
+        } else {
+            node.next.previous = node.previous;
+        }
+        node.previous = null;
+        node.next = null;
+        unlinkOccurrence(node);
+
+        size--;
+        modCount++;
+    }
+
+    /**
+     * Link a node already in the list into the chain of its element, keeping the chain in list order.
+     */
+    private void linkOccurrence(Node<E> node) {
+        Occurrences<E> occurrences = index.get(node.data);
+        if(Objects.isNull(occurrences)) {
+            occurrences = new Occurrences<>();
+            occurrences.first = node;
+            occurrences.last = node;
+            occurrences.count = 1;
+            index.put(node.data, occurrences);
+            return;
+        }
+
+        Node<E> occurrenceBefore;
+        if(node == tail) {
+            occurrenceBefore = occurrences.last;
+        } else if(node == head) {
+            occurrenceBefore = null;
+        } else {
+            occurrenceBefore = closestOccurrenceBefore(node);
+        }
+        Node<E> occurrenceAfter = Objects.isNull(occurrenceBefore) ? occurrences.first : occurrenceBefore.nextOccurrence;
+
+        node.previousOccurrence = occurrenceBefore;
+        node.nextOccurrence = occurrenceAfter;
+        if(Objects.isNull(occurrenceBefore)) {
+            occurrences.first = node;
+        } else {
+            occurrenceBefore.nextOccurrence = node;
+        }
+        if(Objects.isNull(occurrenceAfter)) {
+            occurrences.last = node;
+        } else {
+            occurrenceAfter.previousOccurrence = node;
+        }
+        occurrences.count++;
+    }
+
+    /**
+     * Returns the closest node before the given one holding an equal element, or null if there is none.
+     * Walks both ways at once and stops at whichever equal element or end comes first,
+     * so it costs the distance to the closest equal element.
+     */
+    private Node<E> closestOccurrenceBefore(Node<E> node) {
+        Node<E> backward = node.previous;
+        Node<E> forward = node.next;
+        while(true) {
+            if(Objects.isNull(backward)) return null;
+            if(Objects.equals(backward.data, node.data)) return backward;
+            if(Objects.isNull(forward)) return index.get(node.data).last;
+            if(Objects.equals(forward.data, node.data)) return forward.previousOccurrence;
+            backward = backward.previous;
+            forward = forward.next;
+        }
+    }
+
+    /**
+     * Detach the node from the chain of its element, removing the element from the index after its last occurrence.
+     */
+    private void unlinkOccurrence(Node<E> node) {
+        Occurrences<E> occurrences = index.get(node.data);
+        if(--occurrences.count == 0) {
+            index.remove(node.data);
+            return;
+        }
+
+        if(Objects.isNull(node.previousOccurrence)) {
+            occurrences.first = node.nextOccurrence;
+        } else {
+            node.previousOccurrence.nextOccurrence = node.nextOccurrence;
+        }
+        if(Objects.isNull(node.nextOccurrence)) {
+            occurrences.last = node.previousOccurrence;
+        } else {
+            node.nextOccurrence.previousOccurrence = node.previousOccurrence;
+        }
+        node.previousOccurrence = null;
+        node.nextOccurrence = null;
+    }
+
+    private class ListItr implements ListIterator<E> {
+        private Node<E> next;
+        private Node<E> lastReturned;
+        private int nextIndex;
+        private int expectedModCount = modCount;
+
+        ListItr(int i) {
+            next = (i == size) ? null : getNode(i);
+            nextIndex = i;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return nextIndex < size;
+        }
+
+        @Override
+        public E next() {
+            checkForComodification();
+            if(!hasNext()) throw new NoSuchElementException();
+
+            lastReturned = next;
+            next = next.next;
+            nextIndex++;
+            return lastReturned.data;
+        }
+
+        @Override
+        public boolean hasPrevious() {
+            return nextIndex > 0;
+        }
+
+        @Override
+        public E previous() {
+            checkForComodification();
+            if(!hasPrevious()) throw new NoSuchElementException();
+
+            next = Objects.isNull(next) ? tail : next.previous;
+            lastReturned = next;
+            nextIndex--;
+            return lastReturned.data;
+        }
+
+        @Override
+        public int nextIndex() {
+            return nextIndex;
+        }
+
+        @Override
+        public int previousIndex() {
+            return nextIndex - 1;
+        }
+
+        @Override
+        public void remove() {
+            checkForComodification();
+            if(Objects.isNull(lastReturned)) throw new IllegalStateException();
+
+            Node<E> lastNext = lastReturned.next;
+            unlink(lastReturned);
+            if(next == lastReturned) {
+                next = lastNext;
+            } else {
+                nextIndex--;
+            }
+            lastReturned = null;
+            expectedModCount = modCount;
+        }
+
+        @Override
+        public void set(E e) {
+            if(Objects.isNull(lastReturned)) throw new IllegalStateException();
+            checkForComodification();
+
+            unlinkOccurrence(lastReturned);
+            lastReturned.data = e;
+            linkOccurrence(lastReturned);
+        }
+
+        @Override
+        public void add(E e) {
+            checkForComodification();
+
+            if(Objects.isNull(next)) {
+                LinkedHashList.this.add(e);
+            } else if(next == head) {
+                addFirst(e);
+            } else {
+                linkBefore(next, e);
+            }
+            lastReturned = null;
+            nextIndex++;
+            expectedModCount = modCount;
+        }
+
+        private void checkForComodification() {
+            if(modCount != expectedModCount) throw new ConcurrentModificationException();
+        }
+    }
+
+    /**
+     * Nodes holding an equal element, from the first to the last in list order, and how many there are.
+     */
+    private static class Occurrences<E> {
+        Node<E> first;
+        Node<E> last;
+        int count;
+    }
+
+    /**
+     * Class representation of a node.
+     * Besides its neighbours in the list, each node links to the previous and next node holding an equal element.
+     * @param <E> Element - any object
+     */
+    private static class Node<E> {
+        Node<E> previous;
+        Node<E> next;
+        Node<E> previousOccurrence;
+        Node<E> nextOccurrence;
+        E data;
+
+        Node(Node<E> previous, Node<E> next, E data) {
+            this.previous = previous;
+            this.next = next;
+            this.data = data;
+        }
+    }
+}
@@ -1,15 +1,58 @@
 package io.github.jaymorelli.linkedList;
 
+import io.github.jaymorelli.metrics.MetricsListener;
+import io.github.jaymorelli.metrics.Operation;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.ConcurrentModificationException;
+import java.util.ListIterator;
 import java.util.NoSuchElementException;
 import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
 
 /**
  * Simple implementation of a single Linked List.
  * @author Jean Morelli
  */
 public class LinkedList<E> implements SimpleList<E> {
+    /**
+     * Number of elements below which parallelSort sorts a part of the list in the current thread.
+     */
+    private static final int PARALLEL_SORT_THRESHOLD = 1 << 13;
+
     private Integer size = 0;
     private Node<E> head;
+    /**
+     * Number of structural modifications, used by the iterators to fail fast.
+     */
+    private int modCount;
+    private MetricsListener metrics = MetricsListener.NOOP;
+
+    /**
+     * Returns a list holding the elements of the array in the same order, linked in a single pass.
+     * @param array - elements of the new list
+     * @return LinkedList - new list
+     */
+    @SafeVarargs
+    public static <E> LinkedList<E> fromArray(E... array) {
+        LinkedList<E> list = new LinkedList<>();
+        for (int i = array.length - 1; i >= 0; i--) {
+            list.head = new Node<>(list.head, array[i]);
+        }
+        list.size = array.length;
+        return list;
+    }
+
+    /**
+     * Report the operations on this list, and the number of nodes walked to reach an index or an element, to the listener.
+     * @param listener - listener to report to, or null to stop reporting
+     */
+    public void setMetricsListener(MetricsListener listener) {
+        this.metrics = Objects.isNull(listener) ? MetricsListener.NOOP : listener;
+    }
 
     /**
      * Returns the number of elements in this list
@@ -37,6 +80,7 @@ public class LinkedList<E> implements SimpleList<E> {
     public void clear() {
         size = 0;
         head = null;
+        modCount++;
     }
 
     /**
@@ -50,7 +94,9 @@ public class LinkedList<E> implements SimpleList<E> {
         if(isEmpty()) throw new RuntimeException("List is empty");
         else if(i >= size) throw new IndexOutOfBoundsException(String.format("Index %d is out of bound for size %d", i, size));
         else {
-            return getNode(i).data;
+            E result = getNode(i).data;
+            metrics.onOperation(Operation.GET, size);
+            return result;
         }
     }
 
@@ -92,6 +138,8 @@ public class LinkedList<E> implements SimpleList<E> {
             lastNode.next = n;
         }
         size++;
+        modCount++;
+        metrics.onOperation(Operation.ADD, size);
         return true;
     }
 
@@ -108,12 +156,14 @@ public class LinkedList<E> implements SimpleList<E> {
 
         if(i == 0) {
             addFirst(element);
-        } else if(i == size - 1) {
+        } else if(i == size) {
             add(element);
         } else {
             Node<E> iMinus1 = getNode(i - 1);
             iMinus1.next = new Node<>(iMinus1.next, element);
             size++;
+            modCount++;
+            metrics.onOperation(Operation.ADD_AT_INDEX, size);
         }
 
         return true;
@@ -132,6 +182,8 @@ public class LinkedList<E> implements SimpleList<E> {
             head = new Node<>(next, element);
         }
         size++;
+        modCount++;
+        metrics.onOperation(Operation.ADD_FIRST, size);
         return true;
     }
 
@@ -157,6 +209,8 @@ public class LinkedList<E> implements SimpleList<E> {
             Node<E> iMinus1 = getNode(i - 1);
             iMinus1.next = iMinus1.next.next;
             size--;
+            modCount++;
+            metrics.onOperation(Operation.REMOVE_AT_INDEX, size);
             return true;
         }
     }
@@ -169,29 +223,106 @@ public class LinkedList<E> implements SimpleList<E> {
     @Override
     public boolean remove(E e) {
         if(isEmpty()) throw new RuntimeException("List is empty");
+        if(Objects.equals(head.data, e)) return removeFirst();
 
         Node<E> node = head;
         boolean elementFound = false;
+        int hops = 0;
 
         //Find element
         while(node.hasNext()) {
-            if(node.next.data.equals(e)) {
+            if(Objects.equals(node.next.data, e)) {
                 elementFound = true;
                 break;
             }
             node = node.next;
+            hops++;
         }
+        metrics.onTraversal(hops);
 
         if(elementFound) {
             //Unlink element
             node.next = node.next.next;
             size--;
+            modCount++;
+            metrics.onOperation(Operation.REMOVE_ELEMENT, size);
             return true;
         } else {
+            metrics.onOperation(Operation.REMOVE_ELEMENT, size);
             return false;
         }
     }
 
+    /**
+     * Add every element of the collection starting at the given position.
+     * @implNote the new nodes are chained first and then linked in with one walk to index i - 1, instead of one walk per element.
+     * @throws IndexOutOfBoundsException if index i is not within the size of the list
+     * @param i - index of the first element added
+     * @param c - elements to be added
+     * @return boolean - return true if the list changed
+     */
+    @Override
+    public boolean addAll(int i, Collection<? extends E> c) {
+        if(i > size() || i < 0) throw new IndexOutOfBoundsException();
+        Object[] elements = c.toArray();
+        if(elements.length == 0) return false;
+
+        Node<E> before = (i == 0) ? null : getNode(i - 1);
+        Node<E> first = Objects.isNull(before) ? head : before.next;
+        for (int j = elements.length - 1; j >= 0; j--) {
+            @SuppressWarnings("unchecked")
+            E e = (E) elements[j];
+            first = new Node<>(first, e);
+        }
+        if(Objects.isNull(before)) {
+            head = first;
+        } else {
+            before.next = first;
+        }
+        size += elements.length;
+        modCount++;
+        return true;
+    }
+
+    /**
+     * Remove the elements from index from, inclusive, to index to, exclusive, with one walk to index to.
+     * @throws IndexOutOfBoundsException if from is negative, to is greater than the size or from is greater than to
+     * @param from - index of the first element removed
+     * @param to - index after the last element removed
+     */
+    @Override
+    public void removeRange(int from, int to) {
+        if(from < 0 || to > size() || from > to) throw new IndexOutOfBoundsException();
+        if(from == to) return;
+
+        Node<E> before = (from == 0) ? null : getNode(from - 1);
+        Node<E> after = Objects.isNull(before) ? head : before.next;
+        for (int i = from; i < to; i++) {
+            after = after.next;
+        }
+        if(Objects.isNull(before)) {
+            head = after;
+        } else {
+            before.next = after;
+        }
+        size -= to - from;
+        modCount++;
+    }
+
+    /**
+     * Returns an array with the elements of the list from head to tail.
+     * @return Object[] - array of length size
+     */
+    @Override
+    public Object[] toArray() {
+        Object[] array = new Object[size];
+        int i = 0;
+        for (Node<E> node = head; Objects.nonNull(node); node = node.next) {
+            array[i++] = node.data;
+        }
+        return array;
+    }
+
     /**
      * Remove first element of the list
      * @return boolean - return true if element was removed from the list and false otherwise
@@ -203,7 +334,9 @@ public class LinkedList<E> implements SimpleList<E> {
         } else {
             head = getNode(1);
             size--;
+            modCount++;
         }
+        metrics.onOperation(Operation.REMOVE_FIRST, size);
         return true;
     }
 
@@ -215,16 +348,239 @@ public class LinkedList<E> implements SimpleList<E> {
         if(size() == 0) return false;
         else if(size() == 1) {
             clear();
+            metrics.onOperation(Operation.REMOVE_LAST, size);
             return true;
         }
         else {
             Node<E> beforeLast = getNode(size() - 2);
             beforeLast.next = null;
             size--;
+            modCount++;
+            metrics.onOperation(Operation.REMOVE_LAST, size);
             return true;
         }
     }
 
+    /**
+     * Sort the list in place according to the comparator, or the natural order of the elements if it is null.
+     * The sort is stable: equal elements keep their relative order.
+     * @implNote bottom-up merge sort of the natural runs of the list, relinking the nodes instead of copying the elements,
+     * so it needs no extra memory besides a small array of pending runs. Runs that are strictly descending are reversed,
+     * which makes a sorted or reverse sorted list a single O(n) pass, and nearly sorted lists only a few merges.
+     * O(n log n) in the worst case.
+     * If the comparator throws, the list keeps all its elements, in an unspecified order, and the exception is rethrown.
+     * @throws ClassCastException if the comparator is null and the elements are not mutually comparable
+     * @param c - comparator ordering the elements, or null for their natural order
+     */
+    @Override
+    public void sort(Comparator<? super E> c) {
+        if(size < 2) return;
+
+        try {
+            head = mergeSort(head, comparatorOrNaturalOrder(c));
+        } finally {
+            //On failure the nodes are all still linked from head, possibly in another order
+            modCount++;
+        }
+    }
+
+    /**
+     * Sort the list in place in parallel on the common ForkJoinPool, with the same result as sort.
+     * The list is cut in halves recursively; halves smaller than 8192 elements are sorted with sort's merge sort and
+     * the sorted halves are merged back up. Small lists are simply sorted in the current thread.
+     * If the comparator throws, the list keeps all its elements, in an unspecified order, and the exception is rethrown.
+     * @throws ClassCastException if the comparator is null and the elements are not mutually comparable
+     * @param c - comparator ordering the elements, or null for their natural order
+     */
+    public void parallelSort(Comparator<? super E> c) {
+        if(size <= PARALLEL_SORT_THRESHOLD) {
+            sort(c);
+            return;
+        }
+
+        try {
+            head = ForkJoinPool.commonPool().invoke(new SortTask<>(head, size, comparatorOrNaturalOrder(c)));
+        } finally {
+            //On failure the nodes are all still linked from head, possibly in another order
+            modCount++;
+        }
+    }
+
+    /**
+     * Sort the list in place in parallel, according to the natural order of the elements.
+     * @throws ClassCastException if the elements are not mutually comparable
+     */
+    public void parallelSort() {
+        parallelSort(null);
+    }
+
+    /**
+     * Returns a list iterator starting at the given position.
+     * Moving forward, as well as add, remove and set at the cursor, are O(1).
+     * @implNote nodes only link forward, so previous walks from the head and costs O(i).
+     * @throws IndexOutOfBoundsException if index i is not within the size of the list
+     * @param i - index of the first element to be returned by next
+     * @return ListIterator - iterator positioned before the element at index i
+     */
+    @Override
+    public ListIterator<E> listIterator(int i) {
+        if(i > size() || i < 0) throw new IndexOutOfBoundsException();
+        return new ListItr(i);
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static <E> Comparator<? super E> comparatorOrNaturalOrder(Comparator<? super E> c) {
+        return Objects.nonNull(c) ? c : (Comparator) Comparator.naturalOrder();
+    }
+
+    /**
+     * Returns the head of the chain starting at first, linked by next only, sorted.
+     * Each natural run is merged into pending like a binary counter: pending[k] holds the merge of 2^k runs,
+     * all of them earlier in the list than the runs in pending[k - 1], so merging it first keeps the sort stable.
+     * If the comparator throws, every node is linked back into a single chain starting at first, in no particular order,
+     * before the exception is rethrown.
+     */
+    private static <E> Node<E> mergeSort(Node<E> first, Comparator<? super E> c) {
+        @SuppressWarnings({"unchecked", "rawtypes"})
+        Node<E>[] pending = (Node<E>[]) new Node[Integer.SIZE + 1];
+        //Chain being scanned or merged, not held by pending, and the chain not scanned yet
+        Node<E> run = null;
+        Node<E> rest = first;
+        try {
+            while(Objects.nonNull(rest)) {
+                //Cut the next natural run off the chain
+                run = rest;
+                rest = null;
+                Node<E> node = run;
+                Node<E> next = node.next;
+                if(Objects.nonNull(next) && c.compare(next.data, node.data) < 0) {
+                    while(Objects.nonNull(next) && c.compare(next.data, node.data) < 0) {
+                        node = next;
+                        next = next.next;
+                    }
+                    node.next = null;
+                    rest = next;
+                    run = reverse(run);
+                } else {
+                    while(Objects.nonNull(next) && c.compare(next.data, node.data) >= 0) {
+                        node = next;
+                        next = next.next;
+                    }
+                    node.next = null;
+                    rest = next;
+                }
+
+                int k = 0;
+                for (; Objects.nonNull(pending[k]); k++) {
+                    Node<E> later = run;
+                    run = pending[k];
+                    pending[k] = null;
+                    run = merge(run, later, c);
+                }
+                pending[k] = run;
+                run = null;
+            }
+
+            for (int k = 0; k < pending.length; k++) {
+                if(Objects.isNull(pending[k])) continue;
+                Node<E> later = run;
+                run = pending[k];
+                pending[k] = null;
+                if(Objects.nonNull(later)) run = merge(run, later, c);
+            }
+            return run;
+        } catch (RuntimeException | Error e) {
+            Node<E>[] chains = Arrays.copyOf(pending, pending.length + 2);
+            chains[pending.length] = run;
+            chains[pending.length + 1] = rest;
+            gather(first, chains);
+            throw e;
+        }
+    }
+
+    /**
+     * Returns the head of the merge of two sorted chains, taking from a first on ties.
+     * If the comparator throws, every node of both chains is linked back into a single chain starting at a
+     * before the exception is rethrown.
+     */
+    private static <E> Node<E> merge(Node<E> a, Node<E> b, Comparator<? super E> c) {
+        Node<E> firstOfA = a;
+        Node<E> merged = null;
+        Node<E> last = null;
+        try {
+            if(c.compare(b.data, a.data) < 0) {
+                merged = b;
+                b = b.next;
+            } else {
+                merged = a;
+                a = a.next;
+            }
+            last = merged;
+            while(Objects.nonNull(a) && Objects.nonNull(b)) {
+                if(c.compare(b.data, a.data) < 0) {
+                    last.next = b;
+                    last = b;
+                    b = b.next;
+                } else {
+                    last.next = a;
+                    last = a;
+                    a = a.next;
+                }
+            }
+            last.next = Objects.nonNull(a) ? a : b;
+            return merged;
+        } catch (RuntimeException | Error e) {
+            if(Objects.isNull(merged)) {
+                gather(firstOfA, a, b);
+            } else {
+                //last still links to the rest of the chain it was taken from, only the other chain is detached
+                gather(firstOfA, merged, last.next == a ? b : a);
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Link the disjoint chains, skipping nulls, one after the other, and rotate the result so that it starts at first,
+     * which must be in one of them.
+     */
+    @SafeVarargs
+    private static <E> void gather(Node<E> first, Node<E>... chains) {
+        Node<E> head = null;
+        Node<E> last = null;
+        for (Node<E> chain : chains) {
+            if(Objects.isNull(chain)) continue;
+            if(Objects.isNull(head)) {
+                head = chain;
+            } else {
+                last.next = chain;
+            }
+            last = chain;
+            while(Objects.nonNull(last.next)) {
+                last = last.next;
+            }
+        }
+        if(head == first) return;
+
+        Node<E> beforeFirst = head;
+        while(beforeFirst.next != first) {
+            beforeFirst = beforeFirst.next;
+        }
+        beforeFirst.next = null;
+        last.next = head;
+    }
+
+    private static <E> Node<E> reverse(Node<E> first) {
+        Node<E> reversed = null;
+        while(Objects.nonNull(first)) {
+            Node<E> next = first.next;
+            first.next = reversed;
+            reversed = first;
+            first = next;
+        }
+        return reversed;
+    }
+
     private Node<E> getLastNode() {
         return getNode(size() - 1);
     }
@@ -234,6 +590,7 @@ public class LinkedList<E> implements SimpleList<E> {
         for (int i = 0; i < n; i++) {
             node = node.next;
         }
+        metrics.onTraversal(n);
         return node;
     }
 
@@ -245,6 +602,173 @@ public class LinkedList<E> implements SimpleList<E> {
         return node;
     }
 
+    /**
+     * Iterator that keeps a reference to the node before the cursor,
+     * so that walking the whole list costs O(n) instead of one getNode call per element.
+     */
+    private class ListItr implements ListIterator<E> {
+        //Node at nextIndex - 1, null when the cursor is before the head
+        private Node<E> previousNode;
+        private Node<E> lastReturned;
+        //Node before lastReturned, needed to unlink it
+        private Node<E> beforeLastReturned;
+        private int nextIndex;
+        private int expectedModCount = modCount;
+
+        ListItr(int i) {
+            previousNode = (i == 0) ? null : getNode(i - 1);
+            nextIndex = i;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return nextIndex < size;
+        }
+
+        @Override
+        public E next() {
+            checkForComodification();
+            if(!hasNext()) throw new NoSuchElementException();
+
+            beforeLastReturned = previousNode;
+            lastReturned = Objects.isNull(previousNode) ? head : previousNode.next;
+            previousNode = lastReturned;
+            nextIndex++;
+            return lastReturned.data;
+        }
+
+        @Override
+        public boolean hasPrevious() {
+            return nextIndex > 0;
+        }
+
+        @Override
+        public E previous() {
+            checkForComodification();
+            if(!hasPrevious()) throw new NoSuchElementException();
+
+            lastReturned = previousNode;
+            nextIndex--;
+            previousNode = (nextIndex == 0) ? null : getNode(nextIndex - 1);
+            beforeLastReturned = previousNode;
+            return lastReturned.data;
+        }
+
+        @Override
+        public int nextIndex() {
+            return nextIndex;
+        }
+
+        @Override
+        public int previousIndex() {
+            return nextIndex - 1;
+        }
+
+        @Override
+        public void remove() {
+            checkForComodification();
+            if(Objects.isNull(lastReturned)) throw new IllegalStateException();
+
+            if(Objects.isNull(beforeLastReturned)) {
+                head = lastReturned.next;
+            } else {
+                beforeLastReturned.next = lastReturned.next;
+            }
+            if(previousNode == lastReturned) {
+                previousNode = beforeLastReturned;
+                nextIndex--;
+            }
+            lastReturned = null;
+            size--;
+            modCount++;
+            expectedModCount = modCount;
+        }
+
+        @Override
+        public void set(E e) {
+            if(Objects.isNull(lastReturned)) throw new IllegalStateException();
+            checkForComodification();
+
+            lastReturned.data = e;
+        }
+
+        @Override
+        public void add(E e) {
+            checkForComodification();
+
+            if(Objects.isNull(previousNode)) {
+                head = new Node<>(head, e);
+                previousNode = head;
+            } else {
+                previousNode.next = new Node<>(previousNode.next, e);
+                previousNode = previousNode.next;
+            }
+            lastReturned = null;
+            nextIndex++;
+            size++;
+            modCount++;
+            expectedModCount = modCount;
+        }
+
+        private void checkForComodification() {
+            if(modCount != expectedModCount) throw new ConcurrentModificationException();
+        }
+    }
+
+    /**
+     * Sorts a chain of length nodes, linked by next only, by sorting its two halves in parallel and merging them.
+     */
+    private static class SortTask<E> extends RecursiveTask<Node<E>> {
+        private static final long serialVersionUID = 1L;
+
+        private final Node<E> first;
+        private final int length;
+        private final Comparator<? super E> comparator;
+
+        SortTask(Node<E> first, int length, Comparator<? super E> comparator) {
+            this.first = first;
+            this.length = length;
+            this.comparator = comparator;
+        }
+
+        @Override
+        protected Node<E> compute() {
+            if(length <= PARALLEL_SORT_THRESHOLD) return mergeSort(first, comparator);
+
+            int half = length >>> 1;
+            Node<E> lastOfLeft = first;
+            for (int i = 1; i < half; i++) {
+                lastOfLeft = lastOfLeft.next;
+            }
+            Node<E> firstOfRight = lastOfLeft.next;
+            lastOfLeft.next = null;
+
+            SortTask<E> left = new SortTask<>(first, half, comparator);
+            left.fork();
+            Node<E> right;
+            try {
+                right = new SortTask<>(firstOfRight, length - half, comparator).compute();
+            } catch (RuntimeException | Error e) {
+                //Wait for the left half to stop relinking nodes before gathering them
+                left.quietlyJoin();
+                gather(first, left.isCompletedNormally() ? left.getRawResult() : first, firstOfRight);
+                throw e;
+            }
+            Node<E> sortedLeft;
+            try {
+                sortedLeft = left.join();
+            } catch (RuntimeException | Error e) {
+                gather(first, first, right);
+                throw e;
+            }
+            try {
+                return merge(sortedLeft, right, comparator);
+            } catch (RuntimeException | Error e) {
+                gather(first, sortedLeft);
+                throw e;
+            }
+        }
+    }
 
     /**
      * Class representation of a node.
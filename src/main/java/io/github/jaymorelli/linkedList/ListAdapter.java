@@ -0,0 +1,187 @@
+package io.github.jaymorelli.linkedList;
+
+import java.util.AbstractSequentialList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.ListIterator;
+import java.util.Objects;
+import java.util.function.Predicate;
+
+/**
+ * View of a SimpleList as a java.util.List, so it can be handed to JDK APIs (Collections.sort, Collectors, addAll...)
+ * without copying it. Reads and writes go straight to the underlying list.
+ * As an AbstractSequentialList, the view does not claim RandomAccess: JDK algorithms walk it with its list iterator,
+ * positioned once, instead of calling get(i) for each element. Bulk operations (indexOf, contains, toArray, removeIf,
+ * sort...) are single passes over that iterator, or the list's own bulk methods.
+ * Sublists are AbstractList's: their iterators position one iterator of the list at the start of the range, so walking
+ * one is O(from + length), and clearing one goes through removeRange. They only detect structural changes made
+ * through this view, not changes made directly to the underlying list.
+ * @param <E> Element - any object
+ * @author Jean Morelli
+ */
+class ListAdapter<E> extends AbstractSequentialList<E> {
+    final SimpleList<E> list;
+
+    ListAdapter(SimpleList<E> list) {
+        this.list = Objects.requireNonNull(list);
+    }
+
+    @Override
+    public int size() {
+        return list.size();
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return list.isEmpty();
+    }
+
+    @Override
+    public E get(int i) {
+        if(i < 0 || i >= size()) throw new IndexOutOfBoundsException("Index: " + i + ", Size: " + size());
+        return list.get(i);
+    }
+
+    @Override
+    public boolean add(E e) {
+        list.add(e);
+        modCount++;
+        return true;
+    }
+
+    @Override
+    public void add(int i, E e) {
+        if(i < 0 || i > size()) throw new IndexOutOfBoundsException("Index: " + i + ", Size: " + size());
+        list.add(i, e);
+        modCount++;
+    }
+
+    @Override
+    public E remove(int i) {
+        if(i < 0 || i >= size()) throw new IndexOutOfBoundsException("Index: " + i + ", Size: " + size());
+        ListIterator<E> iterator = list.listIterator(i);
+        E result = iterator.next();
+        iterator.remove();
+        modCount++;
+        return result;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public boolean remove(Object o) {
+        boolean removed = list.remove((E) o);
+        if(removed) modCount++;
+        return removed;
+    }
+
+    @Override
+    public boolean addAll(Collection<? extends E> c) {
+        boolean changed = list.addAll(c);
+        if(changed) modCount++;
+        return changed;
+    }
+
+    @Override
+    public boolean addAll(int i, Collection<? extends E> c) {
+        if(i < 0 || i > size()) throw new IndexOutOfBoundsException("Index: " + i + ", Size: " + size());
+        boolean changed = list.addAll(i, c);
+        if(changed) modCount++;
+        return changed;
+    }
+
+    @Override
+    public void clear() {
+        list.clear();
+        modCount++;
+    }
+
+    /**
+     * Used by subList(from, to).clear(), so clearing a sublist is one pass instead of one remove per element.
+     */
+    @Override
+    protected void removeRange(int from, int to) {
+        list.removeRange(from, to);
+        modCount++;
+    }
+
+    @Override
+    public Iterator<E> iterator() {
+        return list.iterator();
+    }
+
+    @Override
+    public ListIterator<E> listIterator(int i) {
+        if(i < 0 || i > size()) throw new IndexOutOfBoundsException("Index: " + i + ", Size: " + size());
+        return list.listIterator(i);
+    }
+
+    @Override
+    public int indexOf(Object o) {
+        int i = 0;
+        for (E e : list) {
+            if(Objects.equals(e, o)) return i;
+            i++;
+        }
+        return -1;
+    }
+
+    /**
+     * Walks forward, remembering the last match, so it stays O(n) on lists whose iterator cannot go backward cheaply.
+     */
+    @Override
+    public int lastIndexOf(Object o) {
+        int result = -1;
+        int i = 0;
+        for (E e : list) {
+            if(Objects.equals(e, o)) result = i;
+            i++;
+        }
+        return result;
+    }
+
+    @Override
+    public boolean contains(Object o) {
+        return indexOf(o) >= 0;
+    }
+
+    @Override
+    public Object[] toArray() {
+        return list.toArray();
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T[] toArray(T[] a) {
+        Object[] elements = toArray();
+        if(a.length < elements.length) return (T[]) Arrays.copyOf(elements, elements.length, a.getClass());
+
+        System.arraycopy(elements, 0, a, 0, elements.length);
+        if(a.length > elements.length) a[elements.length] = null;
+        return a;
+    }
+
+    @Override
+    public boolean removeIf(Predicate<? super E> filter) {
+        Objects.requireNonNull(filter);
+        boolean removed = false;
+        for (Iterator<E> iterator = list.iterator(); iterator.hasNext(); ) {
+            if(filter.test(iterator.next())) {
+                iterator.remove();
+                removed = true;
+            }
+        }
+        if(removed) modCount++;
+        return removed;
+    }
+
+    /**
+     * Sort with the list's own sort, which relinks the nodes in place for LinkedList and DoublyLinkedList.
+     */
+    @Override
+    public void sort(Comparator<? super E> c) {
+        list.sort(c);
+        modCount++;
+    }
+}
@@ -0,0 +1,497 @@
+package io.github.jaymorelli.linkedList;
+
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.ArrayList;
+import java.util.ConcurrentModificationException;
+import java.util.List;
+import java.util.ListIterator;
+import java.util.NoSuchElementException;
+
+/**
+ * Implementation of a doubly linked list of fixed-size records stored outside of the Java heap.
+ * Every node is a slot of direct memory holding the index of the next slot, the index of the previous slot and the record itself,
+ * written inline by a RecordCodec. Slots live in direct buffers of about 1MB each, so the heap only holds one reference per buffer
+ * no matter how many elements the list has, and growing never copies existing records.
+ * Removed slots are kept in a free list (chained through their next index) and reused by the following insertions.
+ * Elements are decoded on every read, hence get returns a new record each time and remove(E) compares the encoded bytes.
+ * The list must be closed once it is no longer needed: closing drops every buffer, and any later call to the list, or to
+ * one of its iterators, throws IllegalStateException.
+ * @implNote Java 17 has no stable API to free direct memory explicitly (the Foreign Memory API is still incubating),
+ * so the memory of a closed list is given back once its buffers are garbage collected.
+ * @author Jean Morelli
+ */
+public class OffHeapDoublyLinkedList<R> implements SimpleList<R>, AutoCloseable {
+    private static final int CHUNK_BYTES = 1 << 20;
+    private static final int NIL = -1;
+    private static final int NEXT_OFFSET = 0;
+    private static final int PREVIOUS_OFFSET = Integer.BYTES;
+    private static final int RECORD_OFFSET = 2 * Integer.BYTES;
+
+    private final RecordCodec<R> codec;
+    private final int slotSize;
+    private final int slotsPerChunk;
+    private final ByteBuffer scratch;
+    private List<ByteBuffer> chunks = new ArrayList<>();
+    private int head = NIL;
+    private int tail = NIL;
+    private int freeHead = NIL;
+    //Number of slots ever handed out, slots above it have never been used
+    private int used;
+    int size;
+    /**
+     * Number of structural modifications, used by the iterators to fail fast.
+     */
+    int modCount;
+
+    /**
+     * @param codec - layout of the records held by the list
+     */
+    public OffHeapDoublyLinkedList(RecordCodec<R> codec) {
+        this.codec = codec;
+        this.slotSize = RECORD_OFFSET + codec.recordSize();
+        this.slotsPerChunk = Math.max(1, CHUNK_BYTES / slotSize);
+        this.scratch = ByteBuffer.allocate(codec.recordSize()).order(ByteOrder.nativeOrder());
+    }
+
+    /**
+     * Returns the number of elements in this list
+     * @return int - number of elements
+     */
+    @Override
+    public int size() {
+        checkOpen();
+        return size;
+    }
+
+    /**
+     * Check if the list contains no elements.
+     * @return boolean - true if list is considered empty
+     */
+    @Override
+    public boolean isEmpty() {
+        checkOpen();
+        return size == 0;
+    }
+
+    /**
+     * Clear the list
+     * @implNote every slot becomes unused again, the buffers already allocated are kept
+     */
+    @Override
+    public void clear() {
+        checkOpen();
+        head = NIL;
+        tail = NIL;
+        freeHead = NIL;
+        used = 0;
+        size = 0;
+        modCount++;
+    }
+
+    /**
+     * Release the off-heap buffers of the list. Using the list afterwards throws IllegalStateException.
+     */
+    @Override
+    public void close() {
+        chunks = null;
+        head = NIL;
+        tail = NIL;
+        freeHead = NIL;
+        used = 0;
+        size = 0;
+        modCount++;
+    }
+
+    /**
+     * Returns the number of off-heap bytes allocated by the list
+     * @return long - allocated bytes
+     */
+    public long allocatedBytes() {
+        checkOpen();
+        return (long) chunks.size() * slotsPerChunk * slotSize;
+    }
+
+    /**
+     * Returns the element in the given position.
+     * @throws IndexOutOfBoundsException if given index is less than 0 or greater than or equals to its size.
+     * @param i index of element
+     * @return element in the position i
+     */
+    @Override
+    public R get(int i) {
+        checkOpen();
+        if(i < 0 || i >= size) throw new IndexOutOfBoundsException();
+        return read(getSlot(i));
+    }
+
+    /**
+     * Returns the first element of the list
+     * @throws NoSuchElementException if list is empty
+     * @return first element
+     */
+    public R getFirst() {
+        checkOpen();
+        if(size == 0) throw new NoSuchElementException();
+
+        return read(head);
+    }
+
+    /**
+     * Returns the last element of the list
+     * @throws NoSuchElementException if list is empty
+     * @return last element
+     */
+    public R getLast() {
+        checkOpen();
+        if(size == 0) throw new NoSuchElementException();
+
+        return read(tail);
+    }
+
+    /**
+     * Add element to the back of the list.
+     * @param e - element to be added to the end of the list
+     * @return boolean - return true if element was successfully added to the list
+     */
+    @Override
+    public boolean add(R e) {
+        checkOpen();
+        linkBefore(NIL, e);
+        return true;
+    }
+
+    /**
+     * Add element to the nth position (i index) of the list.
+     * @throws IndexOutOfBoundsException if index i is not within the size of the list
+     * @param e - element to be added
+     * @return boolean - return true if element was successfully added to the list
+     */
+    @Override
+    public boolean add(int i, R e) {
+        checkOpen();
+        if(i < 0 || i > size) throw new IndexOutOfBoundsException();
+
+        linkBefore(i == size ? NIL : getSlot(i), e);
+        return true;
+    }
+
+    /**
+     * Add element as head of the list.
+     * @param e - element to be added
+     * @return boolean - return true if element was successfully added to the list
+     */
+    public boolean addFirst(R e) {
+        checkOpen();
+        linkBefore(head, e);
+        return true;
+    }
+
+    /**
+     * Remove first element of the list
+     * @throws IndexOutOfBoundsException if list is empty
+     * @return boolean - return true if element was removed from the list
+     */
+    public boolean removeFirst() {
+        checkOpen();
+        if(size == 0) throw new IndexOutOfBoundsException();
+
+        unlink(head);
+        return true;
+    }
+
+    /**
+     * Remove last element of the list
+     * @throws IndexOutOfBoundsException if list is empty
+     * @return boolean - return true if element was removed from the list
+     */
+    public boolean removeLast() {
+        checkOpen();
+        if(size == 0) throw new IndexOutOfBoundsException();
+
+        unlink(tail);
+        return true;
+    }
+
+    /**
+     * Remove element in the index i off the list.
+     * @throws IndexOutOfBoundsException if index i is not within the size of the list
+     * @param i - index of the element
+     * @return boolean - return true if element was removed from the list
+     */
+    @Override
+    public boolean remove(int i) {
+        checkOpen();
+        if(i < 0 || i >= size) throw new IndexOutOfBoundsException();
+
+        unlink(getSlot(i));
+        return true;
+    }
+
+    /**
+     * Remove the first record whose encoded bytes are the same as the ones of e.
+     * @param e - element to be removed
+     * @return boolean - return true if element was removed from the list and false otherwise
+     */
+    @Override
+    public boolean remove(R e) {
+        checkOpen();
+        codec.write(e, scratch, 0);
+        for (int slot = head; slot != NIL; slot = next(slot)) {
+            if(sameRecord(slot)) {
+                unlink(slot);
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns a list iterator starting at the given position. Moving the cursor, as well as add, remove and set at the cursor, are O(1).
+     * @throws IndexOutOfBoundsException if index i is not within the size of the list
+     * @param i - index of the first element to be returned by next
+     * @return ListIterator - iterator positioned before the element at index i
+     */
+    @Override
+    public ListIterator<R> listIterator(int i) {
+        checkOpen();
+        if(i < 0 || i > size) throw new IndexOutOfBoundsException();
+        return new ListItr(i);
+    }
+
+    private void linkBefore(int slotAfter, R e) {
+        int slot = allocate();
+        try {
+            write(slot, e);
+        } catch (RuntimeException | Error ex) {
+            //The codec rejected the record, give the slot back instead of leaking it
+            free(slot);
+            throw ex;
+        }
+        int slotBefore = slotAfter == NIL ? tail : previous(slotAfter);
+        setPrevious(slot, slotBefore);
+        setNext(slot, slotAfter);
+        if(slotBefore == NIL) {
+            head = slot;
+        } else {
+            setNext(slotBefore, slot);
+        }
+        if(slotAfter == NIL) {
+            tail = slot;
+        } else {
+            setPrevious(slotAfter, slot);
+        }
+
+        size++;
+        modCount++;
+    }
+
+    private void unlink(int slot) {
+        int before = previous(slot);
+        int after = next(slot);
+        if(before == NIL) {
+            head = after;
+        } else {
+            setNext(before, after);
+        }
+        if(after == NIL) {
+            tail = before;
+        } else {
+            setPrevious(after, before);
+        }
+        free(slot);
+
+        size--;
+        modCount++;
+    }
+
+    private void free(int slot) {
+        setNext(slot, freeHead);
+        freeHead = slot;
+    }
+
+    /**
+     * Take a slot from the free list, or the next never used one, allocating a new direct buffer when all of them are in use.
+     */
+    private int allocate() {
+        if(freeHead != NIL) {
+            int slot = freeHead;
+            freeHead = next(slot);
+            return slot;
+        }
+        if(used == chunks.size() * slotsPerChunk) {
+            chunks.add(ByteBuffer.allocateDirect(slotsPerChunk * slotSize).order(ByteOrder.nativeOrder()));
+        }
+        return used++;
+    }
+
+    private int getSlot(int i) {
+        int slot;
+        if(i >= size / 2) {
+            slot = tail;
+            for (int j = size - 1; j > i; j--) {
+                slot = previous(slot);
+            }
+        } else {
+            slot = head;
+            for (int j = 0; j < i; j++) {
+                slot = next(slot);
+            }
+        }
+        return slot;
+    }
+
+    private ByteBuffer chunk(int slot) {
+        return chunks.get(slot / slotsPerChunk);
+    }
+
+    private int offset(int slot) {
+        return (slot % slotsPerChunk) * slotSize;
+    }
+
+    private int next(int slot) {
+        return chunk(slot).getInt(offset(slot) + NEXT_OFFSET);
+    }
+
+    private int previous(int slot) {
+        return chunk(slot).getInt(offset(slot) + PREVIOUS_OFFSET);
+    }
+
+    private void setNext(int slot, int next) {
+        chunk(slot).putInt(offset(slot) + NEXT_OFFSET, next);
+    }
+
+    private void setPrevious(int slot, int previous) {
+        chunk(slot).putInt(offset(slot) + PREVIOUS_OFFSET, previous);
+    }
+
+    private R read(int slot) {
+        return codec.read(chunk(slot), offset(slot) + RECORD_OFFSET);
+    }
+
+    private void write(int slot, R e) {
+        codec.write(e, chunk(slot), offset(slot) + RECORD_OFFSET);
+    }
+
+    /**
+     * Encode the record aside first, so a codec throwing partway leaves the slot's previous record intact.
+     */
+    private void overwrite(int slot, R e) {
+        codec.write(e, scratch, 0);
+        chunk(slot).put(offset(slot) + RECORD_OFFSET, scratch, 0, scratch.capacity());
+    }
+
+    private boolean sameRecord(int slot) {
+        ByteBuffer chunk = chunk(slot);
+        int start = offset(slot) + RECORD_OFFSET;
+        for (int j = 0; j < scratch.capacity(); j++) {
+            if(chunk.get(start + j) != scratch.get(j)) return false;
+        }
+        return true;
+    }
+
+    private void checkOpen() {
+        if(chunks == null) throw new IllegalStateException("List is closed");
+    }
+
+    /**
+     * Bidirectional iterator that keeps the slot under the cursor.
+     */
+    private class ListItr implements ListIterator<R> {
+        private int nextSlot;
+        private int lastReturned = NIL;
+        private int nextIndex;
+        private int expectedModCount = modCount;
+
+        ListItr(int i) {
+            nextSlot = (i == size) ? NIL : getSlot(i);
+            nextIndex = i;
+        }
+
+        @Override
+        public boolean hasNext() {
+            checkOpen();
+            return nextIndex < size;
+        }
+
+        @Override
+        public R next() {
+            checkForComodification();
+            if(!hasNext()) throw new NoSuchElementException();
+
+            lastReturned = nextSlot;
+            nextSlot = OffHeapDoublyLinkedList.this.next(nextSlot);
+            nextIndex++;
+            return read(lastReturned);
+        }
+
+        @Override
+        public boolean hasPrevious() {
+            checkOpen();
+            return nextIndex > 0;
+        }
+
+        @Override
+        public R previous() {
+            checkForComodification();
+            if(!hasPrevious()) throw new NoSuchElementException();
+
+            nextSlot = (nextSlot == NIL) ? tail : OffHeapDoublyLinkedList.this.previous(nextSlot);
+            lastReturned = nextSlot;
+            nextIndex--;
+            return read(lastReturned);
+        }
+
+        @Override
+        public int nextIndex() {
+            checkOpen();
+            return nextIndex;
+        }
+
+        @Override
+        public int previousIndex() {
+            checkOpen();
+            return nextIndex - 1;
+        }
+
+        @Override
+        public void remove() {
+            checkForComodification();
+            if(lastReturned == NIL) throw new IllegalStateException();
+
+            int lastNext = OffHeapDoublyLinkedList.this.next(lastReturned);
+            unlink(lastReturned);
+            if(nextSlot == lastReturned) {
+                nextSlot = lastNext;
+            } else {
+                nextIndex--;
+            }
+            lastReturned = NIL;
+            expectedModCount = modCount;
+        }
+
+        @Override
+        public void set(R e) {
+            if(lastReturned == NIL) throw new IllegalStateException();
+            checkForComodification();
+
+            overwrite(lastReturned, e);
+        }
+
+        @Override
+        public void add(R e) {
+            checkForComodification();
+
+            linkBefore(nextSlot, e);
+            lastReturned = NIL;
+            nextIndex++;
+            expectedModCount = modCount;
+        }
+
+        private void checkForComodification() {
+            checkOpen();
+            if(modCount != expectedModCount) throw new ConcurrentModificationException();
+        }
+    }
+}
@@ -0,0 +1,66 @@
+package io.github.jaymorelli.linkedList;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Layout of a fixed-size record, used by OffHeapDoublyLinkedList to store elements inline in off-heap memory.
+ * Every record takes exactly recordSize bytes.
+ * @param <R> Record - any object that can be written in a fixed number of bytes
+ * @author Jean Morelli
+ */
+public interface RecordCodec<R> {
+    /**
+     * Returns the number of bytes taken by every record
+     * @return int - size of a record in bytes
+     */
+    int recordSize();
+
+    /**
+     * Write the record into the buffer, starting at the given offset, using absolute puts.
+     * @param record - record to be written
+     * @param buffer - destination buffer
+     * @param offset - position of the first byte of the record in the buffer
+     */
+    void write(R record, ByteBuffer buffer, int offset);
+
+    /**
+     * Read a record from the buffer, starting at the given offset, using absolute gets.
+     * @param buffer - source buffer
+     * @param offset - position of the first byte of the record in the buffer
+     * @return record read
+     */
+    R read(ByteBuffer buffer, int offset);
+
+    /**
+     * Returns a codec for records made of a fixed number of longs.
+     * @throws IllegalArgumentException if length is less than 1
+     * @param length - number of longs of every record
+     * @return RecordCodec - codec for long arrays of the given length
+     */
+    static RecordCodec<long[]> ofLongs(int length) {
+        if(length < 1) throw new IllegalArgumentException("Length must be at least 1");
+        return new RecordCodec<>() {
+            @Override
+            public int recordSize() {
+                return length * Long.BYTES;
+            }
+
+            @Override
+            public void write(long[] record, ByteBuffer buffer, int offset) {
+                if(record.length != length) throw new IllegalArgumentException(String.format("Record must have %d longs", length));
+                for (int i = 0; i < length; i++) {
+                    buffer.putLong(offset + i * Long.BYTES, record[i]);
+                }
+            }
+
+            @Override
+            public long[] read(ByteBuffer buffer, int offset) {
+                long[] record = new long[length];
+                for (int i = 0; i < length; i++) {
+                    record[i] = buffer.getLong(offset + i * Long.BYTES);
+                }
+                return record;
+            }
+        };
+    }
+}
@@ -1,9 +1,19 @@
 package io.github.jaymorelli.linkedList;
 
 
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.ListIterator;
 import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
-public interface SimpleList<E> {
+public interface SimpleList<E> extends Iterable<E> {
     /**
      * Returns the number of elements in this list
      * @return int - number of elements
@@ -51,4 +61,152 @@ public interface SimpleList<E> {
      * @return boolean - return true if element was removed from the list and false otherwise
      */
     boolean remove(E e);
+
+    /**
+     * Add every element of the collection to the back of the list, in the order returned by its iterator.
+     * @param c - elements to be added
+     * @return boolean - return true if the list changed
+     */
+    default boolean addAll(Collection<? extends E> c) {
+        return addAll(size(), c);
+    }
+
+    /**
+     * Add every element of the collection starting at the given position, in the order returned by its iterator.
+     * @implNote positions a list iterator once and adds through it, so it is a single pass when adding at the cursor is O(1).
+     * @throws IndexOutOfBoundsException if index i is not within the size of the list
+     * @param i - index of the first element added
+     * @param c - elements to be added
+     * @return boolean - return true if the list changed
+     */
+    default boolean addAll(int i, Collection<? extends E> c) {
+        if(i < 0 || i > size()) throw new IndexOutOfBoundsException();
+
+        Object[] elements = c.toArray();
+        ListIterator<E> iterator = listIterator(i);
+        for (Object element : elements) {
+            @SuppressWarnings("unchecked")
+            E e = (E) element;
+            iterator.add(e);
+        }
+        return elements.length > 0;
+    }
+
+    /**
+     * Remove the elements from index from, inclusive, to index to, exclusive.
+     * @implNote positions a list iterator once and removes through it.
+     * @throws IndexOutOfBoundsException if from is negative, to is greater than the size or from is greater than to
+     * @param from - index of the first element removed
+     * @param to - index after the last element removed
+     */
+    default void removeRange(int from, int to) {
+        if(from < 0 || to > size() || from > to) throw new IndexOutOfBoundsException();
+
+        ListIterator<E> iterator = listIterator(from);
+        for (int i = from; i < to; i++) {
+            iterator.next();
+            iterator.remove();
+        }
+    }
+
+    /**
+     * Returns an array with the elements of the list from head to tail.
+     * @return Object[] - array of length size
+     */
+    default Object[] toArray() {
+        Object[] array = new Object[size()];
+        int i = 0;
+        for (E e : this) {
+            array[i++] = e;
+        }
+        return array;
+    }
+
+    /**
+     * Sort the list in place according to the comparator, or the natural order of the elements if it is null.
+     * The sort is stable: equal elements keep their relative order.
+     * @implNote copies the elements into an array, sorts it and writes them back through a list iterator, like java.util.List.sort.
+     * @throws ClassCastException if the comparator is null and the elements are not mutually comparable
+     * @param c - comparator ordering the elements, or null for their natural order
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    default void sort(Comparator<? super E> c) {
+        Object[] elements = toArray();
+        Arrays.sort(elements, (Comparator) c);
+        ListIterator<E> iterator = listIterator();
+        for (Object element : elements) {
+            iterator.next();
+            iterator.set((E) element);
+        }
+    }
+
+    /**
+     * Sort the list in place according to the natural order of the elements.
+     * The sort is stable: equal elements keep their relative order.
+     * @throws ClassCastException if the elements are not mutually comparable
+     */
+    default void sort() {
+        sort(null);
+    }
+
+    /**
+     * Returns a java.util.List view of this list, so it can be passed to JDK APIs without copying it.
+     * The view is backed by this list: changes made through one are visible in the other.
+     * @implNote the view is sequential-access, JDK algorithms walk it with its list iterator instead of get(i).
+     * @return List - view of this list
+     */
+    default List<E> asList() {
+        return new ListAdapter<>(this);
+    }
+
+    /**
+     * Returns a list iterator over the elements of the list, starting at the given position.
+     * The iterator is fail-fast: it throws ConcurrentModificationException if the list is structurally modified
+     * by anything other than the iterator itself.
+     * @param i - index of the first element to be returned by next
+     * @return ListIterator - iterator positioned before the element at index i
+     */
+    ListIterator<E> listIterator(int i);
+
+    /**
+     * Returns a list iterator over the elements of the list, starting at the head.
+     * @return ListIterator - iterator positioned before the first element
+     */
+    default ListIterator<E> listIterator() {
+        return listIterator(0);
+    }
+
+    /**
+     * Returns an iterator over the elements of the list from head to tail.
+     * @return Iterator - iterator positioned before the first element
+     */
+    @Override
+    default Iterator<E> iterator() {
+        return listIterator();
+    }
+
+    /**
+     * Returns a spliterator over the elements of the list, reporting the size of the list.
+     * @return Spliterator - ordered and sized spliterator
+     */
+    @Override
+    default Spliterator<E> spliterator() {
+        return Spliterators.spliterator(iterator(), size(), Spliterator.ORDERED);
+    }
+
+    /**
+     * Returns a sequential stream over the elements of the list.
+     * @return Stream - sequential stream
+     */
+    default Stream<E> stream() {
+        return StreamSupport.stream(spliterator(), false);
+    }
+
+    /**
+     * Returns a parallel stream over the elements of the list.
+     * @return Stream - parallel stream
+     */
+    default Stream<E> parallelStream() {
+        return StreamSupport.stream(spliterator(), true);
+    }
 }
@@ -0,0 +1,493 @@
+package io.github.jaymorelli.linkedList;
+
+
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.ListIterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+
+/**
+ * Implementation of an unrolled linked list, a doubly linked list where each node holds a small array of elements instead of a single one.
+ * Elements of the same node sit next to each other in memory, so traversals follow far fewer references (less cache misses)
+ * and the cost of the links is shared by all the elements of the node.
+ * Index lookups skip whole nodes, starting from the head or the tail, whichever is closer.
+ * A full node is split in two halves when an element is inserted into it and a node that gets less than half full
+ * is merged with the next one when they fit into a single node.
+ * @author Jean Morelli
+ */
+public class UnrolledLinkedList<E> implements SimpleList<E> {
+    private static final int DEFAULT_NODE_CAPACITY = 32;
+
+    private final int nodeCapacity;
+    Node<E> head;
+    Node<E> tail;
+    int size;
+    /**
+     * Number of structural modifications, used by the iterators to fail fast.
+     */
+    int modCount;
+
+    public UnrolledLinkedList() {
+        this(DEFAULT_NODE_CAPACITY);
+    }
+
+    /**
+     * @throws IllegalArgumentException if nodeCapacity is less than 2
+     * @param nodeCapacity - max number of elements held by each node
+     */
+    public UnrolledLinkedList(int nodeCapacity) {
+        if(nodeCapacity < 2) throw new IllegalArgumentException("Node capacity must be at least 2");
+        this.nodeCapacity = nodeCapacity;
+    }
+
+    /**
+     * Returns the number of elements in this list
+     * @return int - number of elements
+     */
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Check if the list contains no elements.
+     * @return boolean - true if list is considered empty
+     */
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Clear the list
+     * @implNote  set size to 0 and remove head and tail references
+     */
+    @Override
+    public void clear() {
+        head = null;
+        tail = null;
+        size = 0;
+        modCount++;
+    }
+
+    /**
+     * Returns the element in the given position.
+     * @throws IndexOutOfBoundsException if given index is less than 0 or greater than or equals to its size.
+     * @param i index of element
+     * @return element in the position i
+     */
+    @Override
+    public E get(int i) {
+        if(i < 0 || i >= size) throw new IndexOutOfBoundsException();
+        Position<E> position = position(i);
+        return position.node.get(position.offset);
+    }
+
+    /**
+     * Returns the first element of the list
+     * @throws NoSuchElementException if list is empty
+     * @return first element
+     */
+    public E getFirst() {
+        if(size == 0) throw new NoSuchElementException();
+
+        return head.get(0);
+    }
+
+    /**
+     * Returns the last element of the list
+     * @throws NoSuchElementException if list is empty
+     * @return last element
+     */
+    public E getLast() {
+        if(size == 0) throw new NoSuchElementException();
+
+        return tail.get(tail.count - 1);
+    }
+
+    /**
+     * Add element to the back of the list. A new node is only created when the tail is full.
+     * @param e - element to be added to the end of the list
+     * @return boolean - return true if element was successfully added to the list
+     */
+    @Override
+    public boolean add(E e) {
+        if(Objects.isNull(tail) || tail.count == nodeCapacity) {
+            linkAfter(tail, new Node<>(nodeCapacity));
+        }
+        tail.elements[tail.count++] = e;
+
+        size++;
+        modCount++;
+        return true;
+    }
+
+    /**
+     * Add element to the nth position (i index) of the list.
+     * @throws IndexOutOfBoundsException if index i is not within the size of the list
+     * @param e - element to be added
+     * @return boolean - return true if element was successfully added to the list
+     */
+    @Override
+    public boolean add(int i, E e) {
+        if(i < 0 || i > size) throw new IndexOutOfBoundsException();
+
+        if(i == 0) return addFirst(e);
+        else if(i == size) return add(e);
+        else insert(position(i), e);
+
+        return true;
+    }
+
+    /**
+     * Add element as head of the list. A new node is only created when the head is full.
+     * @param e - element to be added
+     * @return boolean - return true if element was successfully added to the list
+     */
+    public boolean addFirst(E e) {
+        if(Objects.isNull(head) || head.count == nodeCapacity) {
+            linkAfter(null, new Node<>(nodeCapacity));
+        }
+        insert(new Position<>(head, 0), e);
+        return true;
+    }
+
+    /**
+     * Remove first element of the list
+     * @throws IndexOutOfBoundsException if list is empty
+     * @return boolean - return true if element was removed from the list
+     */
+    public boolean removeFirst() {
+        if(size == 0) throw new IndexOutOfBoundsException();
+
+        removeAt(new Position<>(head, 0));
+        return true;
+    }
+
+    /**
+     * Remove last element of the list
+     * @throws IndexOutOfBoundsException if list is empty
+     * @return boolean - return true if element was removed from the list
+     */
+    public boolean removeLast() {
+        if(size == 0) throw new IndexOutOfBoundsException();
+
+        removeAt(new Position<>(tail, tail.count - 1));
+        return true;
+    }
+
+    /**
+     * Remove element in the index i off the list.
+     * @throws IndexOutOfBoundsException if index i is not within the size of the list
+     * @param i - index of the element
+     * @return boolean - return true if element was removed from the list
+     */
+    @Override
+    public boolean remove(int i) {
+        if(i < 0 || i >= size) throw new IndexOutOfBoundsException();
+
+        removeAt(position(i));
+        return true;
+    }
+
+    /**
+     * Remove the first occurrence of element e off the list.
+     * @param e - element to be removed
+     * @return boolean - return true if element was removed from the list and false otherwise
+     */
+    @Override
+    public boolean remove(E e) {
+        for (Node<E> node = head; Objects.nonNull(node); node = node.next) {
+            for (int j = 0; j < node.count; j++) {
+                if(Objects.equals(node.elements[j], e)) {
+                    removeAt(new Position<>(node, j));
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns a list iterator starting at the given position. Moving the cursor, as well as add, remove and set at the cursor,
+     * only touch the current node (and at most one neighbour when it is split or merged).
+     * @throws IndexOutOfBoundsException if index i is not within the size of the list
+     * @param i - index of the first element to be returned by next
+     * @return ListIterator - iterator positioned before the element at index i
+     */
+    @Override
+    public ListIterator<E> listIterator(int i) {
+        if(i < 0 || i > size) throw new IndexOutOfBoundsException();
+        return new ListItr(i);
+    }
+
+    /**
+     * Find the node holding index i, skipping whole nodes from the head or the tail, whichever is closer.
+     */
+    private Position<E> position(int i) {
+        Node<E> node;
+        if(i < size / 2) {
+            node = head;
+            while(i >= node.count) {
+                i -= node.count;
+                node = node.next;
+            }
+        } else {
+            node = tail;
+            int start = size - node.count;
+            while(i < start) {
+                node = node.previous;
+                start -= node.count;
+            }
+            i -= start;
+        }
+        return new Position<>(node, i);
+    }
+
+    /**
+     * Insert e at the given position, splitting the node in two halves when it is full.
+     * @implNote position is updated to where the element ended up
+     */
+    private void insert(Position<E> position, E e) {
+        Node<E> node = position.node;
+        int offset = position.offset;
+        if(node.count == nodeCapacity) {
+            int half = nodeCapacity / 2;
+            Node<E> newNode = new Node<>(nodeCapacity);
+            System.arraycopy(node.elements, half, newNode.elements, 0, nodeCapacity - half);
+            Arrays.fill(node.elements, half, nodeCapacity, null);
+            newNode.count = nodeCapacity - half;
+            node.count = half;
+            linkAfter(node, newNode);
+            if(offset > half) {
+                node = newNode;
+                offset -= half;
+            }
+        }
+
+        System.arraycopy(node.elements, offset, node.elements, offset + 1, node.count - offset);
+        node.elements[offset] = e;
+        node.count++;
+        position.node = node;
+        position.offset = offset;
+
+        size++;
+        modCount++;
+    }
+
+    /**
+     * Remove the element at the given position, merging the node with the next one when it gets less than half full
+     * and both fit into a single node. Empty nodes are unlinked.
+     * @implNote position is updated to the element that followed the removed one
+     */
+    private void removeAt(Position<E> position) {
+        Node<E> node = position.node;
+        int offset = position.offset;
+        System.arraycopy(node.elements, offset + 1, node.elements, offset, node.count - offset - 1);
+        node.elements[--node.count] = null;
+
+        if(node.count < nodeCapacity / 2) {
+            Node<E> next = node.next;
+            if(Objects.nonNull(next) && node.count + next.count <= nodeCapacity) {
+                System.arraycopy(next.elements, 0, node.elements, node.count, next.count);
+                node.count += next.count;
+                unlinkNode(next);
+            } else if(node.count == 0) {
+                Node<E> previous = node.previous;
+                unlinkNode(node);
+                position.node = previous;
+                position.offset = Objects.isNull(previous) ? 0 : previous.count;
+            }
+        }
+
+        size--;
+        modCount++;
+    }
+
+    /**
+     * Link newNode right after the given node, or as head when node is null.
+     */
+    private void linkAfter(Node<E> node, Node<E> newNode) {
+        Node<E> next = Objects.isNull(node) ? head : node.next;
+        newNode.previous = node;
+        newNode.next = next;
+        if(Objects.isNull(node)) {
+            head = newNode;
+        } else {
+            node.next = newNode;
+        }
+        if(Objects.isNull(next)) {
+            tail = newNode;
+        } else {
+            next.previous = newNode;
+        }
+    }
+
+    private void unlinkNode(Node<E> node) {
+        Node<E> before = node.previous;
+        Node<E> after = node.next;
+        if(Objects.isNull(before)) {
+            head = after;
+        } else {
+            before.next = after;
+        }
+        if(Objects.isNull(after)) {
+            tail = before;
+        } else {
+            after.previous = before;
+        }
+        node.next = null;
+        node.previous = null;
+    }
+
+    /**
+     * Bidirectional iterator whose cursor is a node and an offset inside it.
+     * The cursor may sit right after the last element of a node (offset equals count), which is the same place as before the first element of the next node.
+     */
+    private class ListItr implements ListIterator<E> {
+        private final Position<E> cursor;
+        private Position<E> lastReturned;
+        private int nextIndex;
+        private int expectedModCount = modCount;
+
+        ListItr(int i) {
+            if(i == size) {
+                cursor = new Position<>(tail, Objects.isNull(tail) ? 0 : tail.count);
+            } else {
+                cursor = position(i);
+            }
+            nextIndex = i;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return nextIndex < size;
+        }
+
+        @Override
+        public E next() {
+            checkForComodification();
+            if(!hasNext()) throw new NoSuchElementException();
+
+            if(cursor.offset == cursor.node.count) {
+                cursor.node = cursor.node.next;
+                cursor.offset = 0;
+            }
+            lastReturned = new Position<>(cursor.node, cursor.offset);
+            cursor.offset++;
+            nextIndex++;
+            return lastReturned.node.get(lastReturned.offset);
+        }
+
+        @Override
+        public boolean hasPrevious() {
+            return nextIndex > 0;
+        }
+
+        @Override
+        public E previous() {
+            checkForComodification();
+            if(!hasPrevious()) throw new NoSuchElementException();
+
+            if(cursor.offset == 0) {
+                cursor.node = cursor.node.previous;
+                cursor.offset = cursor.node.count;
+            }
+            cursor.offset--;
+            nextIndex--;
+            lastReturned = new Position<>(cursor.node, cursor.offset);
+            return lastReturned.node.get(lastReturned.offset);
+        }
+
+        @Override
+        public int nextIndex() {
+            return nextIndex;
+        }
+
+        @Override
+        public int previousIndex() {
+            return nextIndex - 1;
+        }
+
+        @Override
+        public void remove() {
+            checkForComodification();
+            if(Objects.isNull(lastReturned)) throw new IllegalStateException();
+
+            //Whether the element was returned by next or by previous, the cursor ends up where the removed element was
+            if(lastReturned.node != cursor.node || lastReturned.offset != cursor.offset) {
+                nextIndex--;
+            }
+            removeAt(lastReturned);
+            cursor.node = lastReturned.node;
+            cursor.offset = lastReturned.offset;
+            lastReturned = null;
+            expectedModCount = modCount;
+        }
+
+        @Override
+        public void set(E e) {
+            if(Objects.isNull(lastReturned)) throw new IllegalStateException();
+            checkForComodification();
+
+            lastReturned.node.elements[lastReturned.offset] = e;
+        }
+
+        @Override
+        public void add(E e) {
+            checkForComodification();
+
+            if(Objects.isNull(cursor.node)) {
+                UnrolledLinkedList.this.add(e);
+                cursor.node = tail;
+                cursor.offset = 1;
+            } else {
+                insert(cursor, e);
+                cursor.offset++;
+            }
+            lastReturned = null;
+            nextIndex++;
+            expectedModCount = modCount;
+        }
+
+        private void checkForComodification() {
+            if(modCount != expectedModCount) throw new ConcurrentModificationException();
+        }
+    }
+
+    /**
+     * Node of the list together with the offset of an element inside it.
+     * @param <E> Element - any object
+     */
+    private static class Position<E> {
+        Node<E> node;
+        int offset;
+
+        Position(Node<E> node, int offset) {
+            this.node = node;
+            this.offset = offset;
+        }
+    }
+
+    /**
+     * Class representation of a node.
+     * Each node holds up to nodeCapacity elements, the first count slots of the array being used, and a reference for the next and the previous node.
+     * @param <E> Element - any object
+     */
+    private static class Node<E> {
+        Node<E> next;
+        Node<E> previous;
+        final Object[] elements;
+        int count;
+
+        Node(int capacity) {
+            this.elements = new Object[capacity];
+        }
+
+        @SuppressWarnings("unchecked")
+        E get(int offset) {
+            return (E) elements[offset];
+        }
+    }
+}
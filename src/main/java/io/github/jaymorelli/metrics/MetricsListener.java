@@ -0,0 +1,35 @@
+package io.github.jaymorelli.metrics;
+
+/**
+ * Receives the operations performed on an instrumented list or stack and the length of the walks they needed.
+ * Implementations must be cheap and must not call back into the structure that reports to them.
+ * @author Jean Morelli
+ */
+public interface MetricsListener {
+    /**
+     * Listener installed by default. Its methods are empty, so as long as it is the only listener in use the JIT inlines
+     * the calls to nothing and instrumentation costs nothing.
+     */
+    MetricsListener NOOP = new MetricsListener() {
+        @Override
+        public void onOperation(Operation operation, int size) {
+        }
+
+        @Override
+        public void onTraversal(int hops) {
+        }
+    };
+
+    /**
+     * Called after an operation completed.
+     * @param operation - type of the operation
+     * @param size - size of the structure after the operation
+     */
+    void onOperation(Operation operation, int size);
+
+    /**
+     * Called after a walk over the nodes to reach a position or an element.
+     * @param hops - number of links followed
+     */
+    void onTraversal(int hops);
+}
@@ -0,0 +1,19 @@
+package io.github.jaymorelli.metrics;
+
+/**
+ * Operations reported to a MetricsListener by the instrumented lists and stacks.
+ * @author Jean Morelli
+ */
+public enum Operation {
+    GET,
+    ADD,
+    ADD_FIRST,
+    ADD_AT_INDEX,
+    REMOVE_FIRST,
+    REMOVE_LAST,
+    REMOVE_AT_INDEX,
+    REMOVE_ELEMENT,
+    PUSH,
+    POP,
+    PEEK
+}
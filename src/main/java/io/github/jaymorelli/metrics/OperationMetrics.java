@@ -0,0 +1,161 @@
+package io.github.jaymorelli.metrics;
+
+import javax.management.InstanceAlreadyExistsException;
+import javax.management.InstanceNotFoundException;
+import javax.management.MBeanRegistrationException;
+import javax.management.MalformedObjectNameException;
+import javax.management.NotCompliantMBeanException;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * MetricsListener that counts operations by type, builds a histogram of the hops per traversal and tracks the maximum
+ * and average size. Counters are LongAdders, so one instance can be shared by structures used from different threads.
+ * It can be registered as a platform MBean to read the counters over JMX.
+ * @author Jean Morelli
+ */
+public class OperationMetrics implements MetricsListener, OperationMetricsMXBean {
+    //Bucket 0 for 0 hops, then one bucket per power of two up to Integer.MAX_VALUE
+    private static final int HOP_BUCKETS = 33;
+
+    private final LongAdder[] operationCounts = new LongAdder[Operation.values().length];
+    private final LongAdder[] hopHistogram = new LongAdder[HOP_BUCKETS];
+    private final LongAdder traversalCount = new LongAdder();
+    private final LongAdder totalHops = new LongAdder();
+    private final LongAdder totalSize = new LongAdder();
+    private final LongAccumulator maxSize = new LongAccumulator(Math::max, 0);
+
+    public OperationMetrics() {
+        for (int i = 0; i < operationCounts.length; i++) {
+            operationCounts[i] = new LongAdder();
+        }
+        for (int i = 0; i < HOP_BUCKETS; i++) {
+            hopHistogram[i] = new LongAdder();
+        }
+    }
+
+    @Override
+    public void onOperation(Operation operation, int size) {
+        operationCounts[operation.ordinal()].increment();
+        totalSize.add(size);
+        maxSize.accumulate(size);
+    }
+
+    @Override
+    public void onTraversal(int hops) {
+        traversalCount.increment();
+        totalHops.add(hops);
+        hopHistogram[32 - Integer.numberOfLeadingZeros(hops)].increment();
+    }
+
+    /**
+     * Returns the number of operations of the given type
+     * @param operation - type of the operation
+     * @return long - number of operations
+     */
+    public long getOperationCount(Operation operation) {
+        return operationCounts[operation.ordinal()].sum();
+    }
+
+    @Override
+    public Map<String, Long> getOperationCounts() {
+        Map<String, Long> counts = new LinkedHashMap<>();
+        for (Operation operation : Operation.values()) {
+            counts.put(operation.name(), getOperationCount(operation));
+        }
+        return counts;
+    }
+
+    @Override
+    public long getTraversalCount() {
+        return traversalCount.sum();
+    }
+
+    @Override
+    public double getAverageHops() {
+        long traversals = traversalCount.sum();
+        return traversals == 0 ? 0 : (double) totalHops.sum() / traversals;
+    }
+
+    @Override
+    public long[] getHopHistogram() {
+        long[] histogram = new long[HOP_BUCKETS];
+        for (int i = 0; i < HOP_BUCKETS; i++) {
+            histogram[i] = hopHistogram[i].sum();
+        }
+        return histogram;
+    }
+
+    @Override
+    public long getMaxSize() {
+        return maxSize.get();
+    }
+
+    @Override
+    public double getAverageSize() {
+        long operations = 0;
+        for (LongAdder count : operationCounts) {
+            operations += count.sum();
+        }
+        return operations == 0 ? 0 : (double) totalSize.sum() / operations;
+    }
+
+    @Override
+    public void reset() {
+        for (LongAdder count : operationCounts) {
+            count.reset();
+        }
+        for (LongAdder bucket : hopHistogram) {
+            bucket.reset();
+        }
+        traversalCount.reset();
+        totalHops.reset();
+        totalSize.reset();
+        maxSize.reset();
+    }
+
+    /**
+     * Register this instance in the platform MBean server under io.github.jaymorelli:type=OperationMetrics,name=&lt;name&gt;.
+     * @throws IllegalArgumentException if the name is not a valid ObjectName value
+     * @throws IllegalStateException if an MBean is already registered under that name
+     * @param name - name identifying the instrumented structure
+     * @return ObjectName - name the MBean was registered under
+     */
+    public ObjectName register(String name) {
+        try {
+            ObjectName objectName = objectName(name);
+            ManagementFactory.getPlatformMBeanServer().registerMBean(this, objectName);
+            return objectName;
+        } catch (InstanceAlreadyExistsException e) {
+            throw new IllegalStateException("An MBean is already registered as " + name, e);
+        } catch (MBeanRegistrationException | NotCompliantMBeanException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Unregister the MBean registered with the given name, if any.
+     * @param name - name given to register
+     */
+    public static void unregister(String name) {
+        try {
+            ManagementFactory.getPlatformMBeanServer().unregisterMBean(objectName(name));
+        } catch (InstanceNotFoundException e) {
+            //Nothing registered under that name
+        } catch (MBeanRegistrationException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static ObjectName objectName(String name) {
+        try {
+            return new ObjectName("io.github.jaymorelli:type=OperationMetrics,name=" + ObjectName.quote(name));
+        } catch (MalformedObjectNameException e) {
+            throw new IllegalArgumentException(e);
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package io.github.jaymorelli.metrics;
+
+import java.util.Map;
+
+/**
+ * JMX view of an OperationMetrics.
+ * @author Jean Morelli
+ */
+public interface OperationMetricsMXBean {
+    /**
+     * Returns the number of operations of each type
+     * @return Map - count by operation name
+     */
+    Map<String, Long> getOperationCounts();
+
+    /**
+     * Returns the number of walks over the nodes
+     * @return long - number of traversals
+     */
+    long getTraversalCount();
+
+    /**
+     * Returns the average number of links followed per walk
+     * @return double - average hops, 0 without traversals
+     */
+    double getAverageHops();
+
+    /**
+     * Returns the histogram of hops per walk: bucket 0 counts walks of 0 hops and bucket b walks of 2^(b-1) to 2^b - 1 hops.
+     * @return long[] - count per bucket
+     */
+    long[] getHopHistogram();
+
+    /**
+     * Returns the largest size observed after an operation
+     * @return long - maximum size
+     */
+    long getMaxSize();
+
+    /**
+     * Returns the average size observed after each operation
+     * @return double - average size, 0 without operations
+     */
+    double getAverageSize();
+
+    /**
+     * Reset every counter.
+     */
+    void reset();
+}
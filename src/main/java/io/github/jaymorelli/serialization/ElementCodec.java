@@ -0,0 +1,130 @@
+package io.github.jaymorelli.serialization;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Binary encoding of the elements of a list, used by ListSerializer.
+ * Elements may take a different number of bytes each; size must return exactly what write puts in the buffer.
+ * @param <E> Element - any object
+ * @author Jean Morelli
+ */
+public interface ElementCodec<E> {
+    /**
+     * Returns the number of bytes write takes for the element
+     * @param e - element to be written
+     * @return int - encoded size in bytes
+     */
+    int size(E e);
+
+    /**
+     * Write the element at the position of the buffer, which has at least size(e) bytes remaining, using relative puts.
+     * @param e - element to be written
+     * @param buffer - destination buffer
+     */
+    void write(E e, ByteBuffer buffer);
+
+    /**
+     * Read an element at the position of the buffer using relative gets.
+     * @param buffer - source buffer
+     * @return element read
+     */
+    E read(ByteBuffer buffer);
+
+    /**
+     * Returns a codec writing every Integer in 4 bytes. Null elements are not supported.
+     * @return ElementCodec - codec for Integer
+     */
+    static ElementCodec<Integer> ofIntegers() {
+        return new ElementCodec<>() {
+            @Override
+            public int size(Integer e) {
+                return Integer.BYTES;
+            }
+
+            @Override
+            public void write(Integer e, ByteBuffer buffer) {
+                buffer.putInt(e);
+            }
+
+            @Override
+            public Integer read(ByteBuffer buffer) {
+                return buffer.getInt();
+            }
+        };
+    }
+
+    /**
+     * Returns a codec writing every Long in 8 bytes. Null elements are not supported.
+     * @return ElementCodec - codec for Long
+     */
+    static ElementCodec<Long> ofLongs() {
+        return new ElementCodec<>() {
+            @Override
+            public int size(Long e) {
+                return Long.BYTES;
+            }
+
+            @Override
+            public void write(Long e, ByteBuffer buffer) {
+                buffer.putLong(e);
+            }
+
+            @Override
+            public Long read(ByteBuffer buffer) {
+                return buffer.getLong();
+            }
+        };
+    }
+
+    /**
+     * Returns a codec writing every String as its UTF-8 length followed by its UTF-8 bytes. Null elements are not supported.
+     * @return ElementCodec - codec for String
+     */
+    static ElementCodec<String> ofStrings() {
+        return new ElementCodec<>() {
+            @Override
+            public int size(String e) {
+                return Integer.BYTES + utf8Length(e);
+            }
+
+            @Override
+            public void write(String e, ByteBuffer buffer) {
+                byte[] bytes = e.getBytes(StandardCharsets.UTF_8);
+                buffer.putInt(bytes.length);
+                buffer.put(bytes);
+            }
+
+            @Override
+            public String read(ByteBuffer buffer) {
+                byte[] bytes = new byte[buffer.getInt()];
+                buffer.get(bytes);
+                return new String(bytes, StandardCharsets.UTF_8);
+            }
+        };
+    }
+
+    /**
+     * Returns the number of bytes of the UTF-8 encoding of the string, without encoding it.
+     */
+    private static int utf8Length(String s) {
+        int length = 0;
+        for (int i = 0; i < s.length(); i++) {
+            char c = s.charAt(i);
+            if(c < 0x80) {
+                length += 1;
+            } else if(c < 0x800) {
+                length += 2;
+            } else if(Character.isHighSurrogate(c) && i + 1 < s.length() && Character.isLowSurrogate(s.charAt(i + 1))) {
+                length += 4;
+                i++;
+            } else if(Character.isSurrogate(c)) {
+                //Unpaired surrogates are replaced by '?' when encoding
+                length += 1;
+            } else {
+                length += 3;
+            }
+        }
+        return length;
+    }
+}
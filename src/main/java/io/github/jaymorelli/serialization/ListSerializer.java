@@ -0,0 +1,279 @@
+package io.github.jaymorelli.serialization;
+
+import io.github.jaymorelli.linkedList.IntDoublyLinkedList;
+import io.github.jaymorelli.linkedList.LongDoublyLinkedList;
+import io.github.jaymorelli.linkedList.SimpleList;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.PrimitiveIterator;
+
+/**
+ * Streaming binary format for lists, written to and read from NIO channels (e.g. a FileChannel) in large batches.
+ * The stream starts with a header holding the element type and the number of elements, followed by chunks of up to
+ * 1 MiB, each one framed by its number of elements and its length in bytes. Reading decodes a chunk at a time, checks
+ * the elements took exactly the length of the chunk, and appends them to the target list with a single addAll, and
+ * writing walks the list once, so neither depends on the length of the list the way serializing the linked nodes does.
+ * IntDoublyLinkedList and LongDoublyLinkedList have their own fast paths, which never box their elements.
+ * @author Jean Morelli
+ */
+public final class ListSerializer {
+    private static final int MAGIC = 0x534C5354;
+    private static final byte VERSION = 1;
+    private static final byte TYPE_OBJECTS = 0;
+    private static final byte TYPE_INTS = 1;
+    private static final byte TYPE_LONGS = 2;
+    //magic, version, type, 2 reserved bytes and the number of elements
+    private static final int HEADER_SIZE = Integer.BYTES + 4 + Long.BYTES;
+    //number of elements and length in bytes of the chunk
+    private static final int CHUNK_HEADER_SIZE = 2 * Integer.BYTES;
+    private static final int CHUNK_SIZE = 1 << 20;
+
+    private ListSerializer() {
+    }
+
+    /**
+     * Write the elements of the list to the channel.
+     * @throws IOException if the channel fails
+     * @param list - list to be written
+     * @param codec - encoding of the elements
+     * @param channel - destination channel
+     * @return long - number of bytes written
+     */
+    public static <E> long write(SimpleList<E> list, ElementCodec<? super E> codec, WritableByteChannel channel) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocateDirect(CHUNK_SIZE);
+        long written = writeHeader(buffer, TYPE_OBJECTS, list.size(), channel);
+
+        buffer.position(CHUNK_HEADER_SIZE);
+        int chunkElements = 0;
+        for (E e : list) {
+            int size = codec.size(e);
+            if(size > buffer.remaining()) {
+                if(chunkElements > 0) {
+                    written += writeChunk(buffer, chunkElements, channel);
+                    chunkElements = 0;
+                }
+                if(size > buffer.remaining()) {
+                    //A single element larger than a chunk gets a chunk of its own
+                    buffer = ByteBuffer.allocateDirect(CHUNK_HEADER_SIZE + size);
+                    buffer.position(CHUNK_HEADER_SIZE);
+                }
+            }
+            codec.write(e, buffer);
+            chunkElements++;
+        }
+        if(chunkElements > 0) written += writeChunk(buffer, chunkElements, channel);
+        return written;
+    }
+
+    /**
+     * Read a list written by write and append its elements to the target list, one chunk at a time.
+     * @throws IOException if the channel fails, does not hold a list of objects or a chunk does not match its length
+     * @throws EOFException if the stream ends before all the elements were read
+     * @param channel - source channel
+     * @param codec - encoding of the elements
+     * @param target - list the elements are appended to
+     * @return long - number of elements read
+     */
+    public static <E> long read(ReadableByteChannel channel, ElementCodec<? extends E> codec, SimpleList<E> target) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocateDirect(CHUNK_SIZE);
+        long count = readHeader(buffer, TYPE_OBJECTS, channel);
+
+        for (long remaining = count; remaining > 0; ) {
+            buffer = readChunk(buffer, remaining, channel);
+            int chunkElements = buffer.getInt(0);
+            buffer.position(CHUNK_HEADER_SIZE);
+            List<E> batch = new ArrayList<>(chunkElements);
+            try {
+                for (int i = 0; i < chunkElements; i++) {
+                    batch.add(codec.read(buffer));
+                }
+            } catch (BufferUnderflowException e) {
+                throw new IOException("Chunk shorter than its elements", e);
+            }
+            if(buffer.hasRemaining()) throw new IOException("Chunk longer than its elements");
+            target.addAll(batch);
+            remaining -= chunkElements;
+        }
+        return count;
+    }
+
+    /**
+     * Write the elements of the list to the channel, 4 bytes each.
+     * @throws IOException if the channel fails
+     * @param list - list to be written
+     * @param channel - destination channel
+     * @return long - number of bytes written
+     */
+    public static long write(IntDoublyLinkedList list, WritableByteChannel channel) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocateDirect(CHUNK_SIZE);
+        long written = writeHeader(buffer, TYPE_INTS, list.size(), channel);
+
+        buffer.position(CHUNK_HEADER_SIZE);
+        int chunkElements = 0;
+        for (PrimitiveIterator.OfInt iterator = list.iterator(); iterator.hasNext(); ) {
+            if(buffer.remaining() < Integer.BYTES) {
+                written += writeChunk(buffer, chunkElements, channel);
+                chunkElements = 0;
+            }
+            buffer.putInt(iterator.nextInt());
+            chunkElements++;
+        }
+        if(chunkElements > 0) written += writeChunk(buffer, chunkElements, channel);
+        return written;
+    }
+
+    /**
+     * Read a list written by write(IntDoublyLinkedList, ...) and append its elements to the target list.
+     * @throws IOException if the channel fails, does not hold a list of ints or a chunk does not match its length
+     * @throws EOFException if the stream ends before all the elements were read
+     * @param channel - source channel
+     * @param target - list the elements are appended to
+     * @return long - number of elements read
+     */
+    public static long readInts(ReadableByteChannel channel, IntDoublyLinkedList target) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocateDirect(CHUNK_SIZE);
+        long count = readHeader(buffer, TYPE_INTS, channel);
+
+        for (long remaining = count; remaining > 0; ) {
+            buffer = readChunk(buffer, remaining, channel);
+            int chunkElements = buffer.getInt(0);
+            checkLength(buffer, chunkElements, Integer.BYTES);
+            buffer.position(CHUNK_HEADER_SIZE);
+            for (int i = 0; i < chunkElements; i++) {
+                target.add(buffer.getInt());
+            }
+            remaining -= chunkElements;
+        }
+        return count;
+    }
+
+    /**
+     * Write the elements of the list to the channel, 8 bytes each.
+     * @throws IOException if the channel fails
+     * @param list - list to be written
+     * @param channel - destination channel
+     * @return long - number of bytes written
+     */
+    public static long write(LongDoublyLinkedList list, WritableByteChannel channel) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocateDirect(CHUNK_SIZE);
+        long written = writeHeader(buffer, TYPE_LONGS, list.size(), channel);
+
+        buffer.position(CHUNK_HEADER_SIZE);
+        int chunkElements = 0;
+        for (PrimitiveIterator.OfLong iterator = list.iterator(); iterator.hasNext(); ) {
+            if(buffer.remaining() < Long.BYTES) {
+                written += writeChunk(buffer, chunkElements, channel);
+                chunkElements = 0;
+            }
+            buffer.putLong(iterator.nextLong());
+            chunkElements++;
+        }
+        if(chunkElements > 0) written += writeChunk(buffer, chunkElements, channel);
+        return written;
+    }
+
+    /**
+     * Read a list written by write(LongDoublyLinkedList, ...) and append its elements to the target list.
+     * @throws IOException if the channel fails, does not hold a list of longs or a chunk does not match its length
+     * @throws EOFException if the stream ends before all the elements were read
+     * @param channel - source channel
+     * @param target - list the elements are appended to
+     * @return long - number of elements read
+     */
+    public static long readLongs(ReadableByteChannel channel, LongDoublyLinkedList target) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocateDirect(CHUNK_SIZE);
+        long count = readHeader(buffer, TYPE_LONGS, channel);
+
+        for (long remaining = count; remaining > 0; ) {
+            buffer = readChunk(buffer, remaining, channel);
+            int chunkElements = buffer.getInt(0);
+            checkLength(buffer, chunkElements, Long.BYTES);
+            buffer.position(CHUNK_HEADER_SIZE);
+            for (int i = 0; i < chunkElements; i++) {
+                target.add(buffer.getLong());
+            }
+            remaining -= chunkElements;
+        }
+        return count;
+    }
+
+    private static long writeHeader(ByteBuffer buffer, byte type, long count, WritableByteChannel channel) throws IOException {
+        buffer.clear();
+        buffer.putInt(MAGIC).put(VERSION).put(type).putShort((short) 0).putLong(count);
+        buffer.flip();
+        writeFully(buffer, channel);
+        buffer.clear();
+        return HEADER_SIZE;
+    }
+
+    /**
+     * Fill in the frame of the chunk being built in the buffer, write it and make the buffer ready for the next chunk.
+     */
+    private static long writeChunk(ByteBuffer buffer, int chunkElements, WritableByteChannel channel) throws IOException {
+        int length = buffer.position();
+        buffer.putInt(0, chunkElements);
+        buffer.putInt(Integer.BYTES, length - CHUNK_HEADER_SIZE);
+        buffer.flip();
+        writeFully(buffer, channel);
+        buffer.clear();
+        buffer.position(CHUNK_HEADER_SIZE);
+        return length;
+    }
+
+    /**
+     * Returns the number of elements announced by the header, after checking it holds elements of the expected type.
+     */
+    private static long readHeader(ByteBuffer buffer, byte expectedType, ReadableByteChannel channel) throws IOException {
+        buffer.clear().limit(HEADER_SIZE);
+        readFully(buffer, channel);
+        if(buffer.getInt(0) != MAGIC) throw new IOException("Not a serialized list");
+        if(buffer.get(4) != VERSION) throw new IOException("Unsupported version " + buffer.get(4));
+        if(buffer.get(5) != expectedType) throw new IOException(String.format("Expected element type %d but was %d", expectedType, buffer.get(5)));
+        long count = buffer.getLong(8);
+        if(count < 0) throw new IOException("Negative element count");
+        return count;
+    }
+
+    /**
+     * Read the next chunk, frame included, into the buffer, or into a larger one if it does not fit, and return that buffer.
+     */
+    private static ByteBuffer readChunk(ByteBuffer buffer, long remaining, ReadableByteChannel channel) throws IOException {
+        buffer.clear().limit(CHUNK_HEADER_SIZE);
+        readFully(buffer, channel);
+        int chunkElements = buffer.getInt(0);
+        int length = buffer.getInt(Integer.BYTES);
+        if(chunkElements <= 0 || chunkElements > remaining || length < 0) throw new IOException("Corrupted chunk header");
+
+        if(CHUNK_HEADER_SIZE + length > buffer.capacity()) {
+            ByteBuffer larger = ByteBuffer.allocateDirect(CHUNK_HEADER_SIZE + length);
+            larger.putInt(chunkElements).putInt(length);
+            buffer = larger;
+        }
+        buffer.limit(CHUNK_HEADER_SIZE + length);
+        readFully(buffer, channel);
+        return buffer;
+    }
+
+    private static void checkLength(ByteBuffer buffer, int chunkElements, int elementSize) throws IOException {
+        if(buffer.getInt(Integer.BYTES) != (long) chunkElements * elementSize) throw new IOException("Chunk length does not match its elements");
+    }
+
+    private static void writeFully(ByteBuffer buffer, WritableByteChannel channel) throws IOException {
+        while(buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+    }
+
+    private static void readFully(ByteBuffer buffer, ReadableByteChannel channel) throws IOException {
+        while(buffer.hasRemaining()) {
+            if(channel.read(buffer) < 0) throw new EOFException();
+        }
+    }
+}
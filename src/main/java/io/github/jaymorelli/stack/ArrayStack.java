@@ -0,0 +1,109 @@
+package io.github.jaymorelli.stack;
+
+import java.util.Arrays;
+import java.util.EmptyStackException;
+
+/**
+ * Implementation of a Stack data structure using a resizable array.
+ * Compared to StackLL, push does not allocate a node per element: the array doubles when it is full, which makes push amortized O(1).
+ * Popped slots are cleared so the stack does not keep references to removed elements.
+ * When shrinking is enabled, the array is halved once it is only a quarter full (never below its initial capacity).
+ * @param <E> Element - any object
+ * @author Jean Morelli
+ */
+public class ArrayStack<E> implements Stack<E> {
+    private static final int DEFAULT_CAPACITY = 16;
+
+    private final int initialCapacity;
+    private final boolean shrink;
+    private Object[] elements;
+    private int size = 0;
+
+    public ArrayStack() {
+        this(DEFAULT_CAPACITY, false);
+    }
+
+    /**
+     * @throws IllegalArgumentException if initialCapacity is less than 1
+     * @param initialCapacity - number of elements the stack can hold before growing
+     * @param shrink - true if the array should be halved when the stack gets a quarter full
+     */
+    public ArrayStack(int initialCapacity, boolean shrink) {
+        if(initialCapacity < 1) throw new IllegalArgumentException("Initial capacity must be at least 1");
+        this.initialCapacity = initialCapacity;
+        this.shrink = shrink;
+        this.elements = new Object[initialCapacity];
+    }
+
+    /**
+     * Check if the stack contains no elements.
+     * @return boolean - true if stack is considered empty
+     */
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Returns the number of elements in this stack
+     * @return int - number of elements
+     */
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Add element to the top of the stack, doubling the array if it is full
+     * @param e - element to be added
+     */
+    @Override
+    public void push(E e) {
+        if(size == elements.length) {
+            elements = Arrays.copyOf(elements, elements.length * 2);
+        }
+        elements[size++] = e;
+    }
+
+    /**
+     * Removes and retrieves the top element of the stack
+     * @throws EmptyStackException if stack is empty
+     * @return top element
+     */
+    @Override
+    public E pop() {
+        if(isEmpty()) throw new EmptyStackException();
+
+        E result = elementAt(--size);
+        elements[size] = null;
+        if(shrink && elements.length > initialCapacity && size <= elements.length / 4) {
+            elements = Arrays.copyOf(elements, Math.max(initialCapacity, elements.length / 2));
+        }
+        return result;
+    }
+
+    /**
+     * Retrieves the top element of the stack
+     * @throws EmptyStackException if stack is empty
+     * @return top element
+     */
+    @Override
+    public E peek() {
+        if(isEmpty()) throw new EmptyStackException();
+
+        return elementAt(size - 1);
+    }
+
+    /**
+     * Returns the length of the backing array
+     * @return int - number of elements the stack can hold before growing
+     */
+    int capacity() {
+        return elements.length;
+    }
+
+    @SuppressWarnings("unchecked")
+    private E elementAt(int i) {
+        return (E) elements[i];
+    }
+}
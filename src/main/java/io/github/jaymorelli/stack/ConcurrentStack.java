@@ -0,0 +1,98 @@
+package io.github.jaymorelli.stack;
+
+import java.util.EmptyStackException;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Lock-free, thread-safe implementation of a Stack (Treiber stack).
+ * The top of the stack is an AtomicReference to an immutable node; push and pop retry a compare-and-set on it until they win,
+ * so no thread ever blocks another one.
+ * The ABA problem does not apply: every push links a new node and a node is never reused,
+ * so a node cannot come back to the top while another thread still holds a reference to it (the GC keeps it alive).
+ * @param <E> Element - any object
+ * @author Jean Morelli
+ */
+public class ConcurrentStack<E> implements Stack<E> {
+
+    private final AtomicReference<Node<E>> top = new AtomicReference<>();
+    private final LongAdder size = new LongAdder();
+
+    /**
+     * Check if the stack contains no elements.
+     * @return boolean - true if stack is considered empty
+     */
+    @Override
+    public boolean isEmpty() {
+        return Objects.isNull(top.get());
+    }
+
+    /**
+     * Returns the number of elements in this stack.
+     * @implNote the counter is updated after each push and pop, so the value is approximate while other threads are modifying the stack
+     * @return int - number of elements
+     */
+    @Override
+    public int size() {
+        return Math.max(0, size.intValue());
+    }
+
+    /**
+     * Add element to the top of the stack
+     * @param e - element to be added
+     */
+    @Override
+    public void push(E e) {
+        Node<E> newTop = new Node<>(e);
+        Node<E> oldTop;
+        do {
+            oldTop = top.get();
+            newTop.next = oldTop;
+        } while(!top.compareAndSet(oldTop, newTop));
+        size.increment();
+    }
+
+    /**
+     * Removes and retrieves the top element of the stack
+     * @throws EmptyStackException if stack is empty
+     * @return top element
+     */
+    @Override
+    public E pop() {
+        Node<E> oldTop;
+        do {
+            oldTop = top.get();
+            if(Objects.isNull(oldTop)) throw new EmptyStackException();
+        } while(!top.compareAndSet(oldTop, oldTop.next));
+        size.decrement();
+        return oldTop.data;
+    }
+
+    /**
+     * Retrieves the top element of the stack
+     * @throws EmptyStackException if stack is empty
+     * @return top element
+     */
+    @Override
+    public E peek() {
+        Node<E> currentTop = top.get();
+        if(Objects.isNull(currentTop)) throw new EmptyStackException();
+
+        return currentTop.data;
+    }
+
+    /**
+     * Class representation of a node.
+     * The next reference is only written before the node is published by the compare-and-set.
+     * @param <E> Element - any object
+     */
+    private static class Node<E> {
+        final E data;
+        Node<E> next;
+
+        Node(E data) {
+            this.data = data;
+        }
+    }
+}
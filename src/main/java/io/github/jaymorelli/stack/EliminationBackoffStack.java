@@ -0,0 +1,206 @@
+package io.github.jaymorelli.stack;
+
+import java.util.EmptyStackException;
+import java.util.Objects;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.AtomicStampedReference;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Lock-free, thread-safe implementation of a Stack that backs off to an elimination array under contention.
+ * Like ConcurrentStack, push and pop compare-and-set the top of the stack. When that compare-and-set fails,
+ * instead of retrying right away, the thread waits for a short time in a random slot of the elimination array:
+ * a push and a pop that meet there exchange the element and both return without touching the top of the stack,
+ * since a push immediately followed by a pop leaves the stack unchanged.
+ * The more contended the stack is, the more pairs get eliminated, which is what makes it scale with the number of threads
+ * on workloads with as many pushes as pops.
+ * @param <E> Element - any object
+ * @author Jean Morelli
+ */
+public class EliminationBackoffStack<E> implements Stack<E> {
+    private static final long DEFAULT_BACKOFF_NANOS = 1_000;
+    /**
+     * Offered by pop in the elimination array, so a push can tell it met a pop.
+     */
+    private static final Object POP = new Object();
+    /**
+     * Returned by the elimination array when nobody showed up before the backoff ended.
+     */
+    private static final Object TIMED_OUT = new Object();
+
+    private final AtomicReference<Node<E>> top = new AtomicReference<>();
+    private final LongAdder size = new LongAdder();
+    private final Exchanger[] eliminationArray;
+    private final long backoffNanos;
+
+    /**
+     * Creates a stack with one elimination slot per two available processors and a backoff of 1 microsecond.
+     */
+    public EliminationBackoffStack() {
+        this(Math.max(1, Runtime.getRuntime().availableProcessors() / 2), DEFAULT_BACKOFF_NANOS, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * @throws IllegalArgumentException if eliminationArraySize is less than 1 or backoff is negative
+     * @param eliminationArraySize - number of slots where pushes and pops can meet
+     * @param backoff - how long a thread waits in a slot for a partner
+     * @param unit - unit of backoff
+     */
+    public EliminationBackoffStack(int eliminationArraySize, long backoff, TimeUnit unit) {
+        if(eliminationArraySize < 1) throw new IllegalArgumentException("Elimination array size must be at least 1");
+        if(backoff < 0) throw new IllegalArgumentException("Backoff must not be negative");
+        this.eliminationArray = new Exchanger[eliminationArraySize];
+        for (int i = 0; i < eliminationArraySize; i++) {
+            eliminationArray[i] = new Exchanger();
+        }
+        this.backoffNanos = unit.toNanos(backoff);
+    }
+
+    /**
+     * Check if the stack contains no elements.
+     * @return boolean - true if stack is considered empty
+     */
+    @Override
+    public boolean isEmpty() {
+        return Objects.isNull(top.get());
+    }
+
+    /**
+     * Returns the number of elements in this stack.
+     * @implNote the counter is updated after each push and pop, so the value is approximate while other threads are modifying the stack
+     * @return int - number of elements
+     */
+    @Override
+    public int size() {
+        return Math.max(0, size.intValue());
+    }
+
+    /**
+     * Add element to the top of the stack, or hand it over to a concurrent pop
+     * @param e - element to be added
+     */
+    @Override
+    public void push(E e) {
+        Node<E> newTop = new Node<>(e);
+        while(true) {
+            Node<E> oldTop = top.get();
+            newTop.next = oldTop;
+            if(top.compareAndSet(oldTop, newTop)) {
+                size.increment();
+                return;
+            }
+            if(visitEliminationArray(e) == POP) return;
+        }
+    }
+
+    /**
+     * Removes and retrieves the top element of the stack, or takes the element of a concurrent push
+     * @throws EmptyStackException if stack is empty
+     * @return top element
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public E pop() {
+        while(true) {
+            Node<E> oldTop = top.get();
+            if(Objects.isNull(oldTop)) throw new EmptyStackException();
+            if(top.compareAndSet(oldTop, oldTop.next)) {
+                size.decrement();
+                return oldTop.data;
+            }
+            Object other = visitEliminationArray(POP);
+            if(other != POP && other != TIMED_OUT) return (E) other;
+        }
+    }
+
+    /**
+     * Retrieves the top element of the stack
+     * @throws EmptyStackException if stack is empty
+     * @return top element
+     */
+    @Override
+    public E peek() {
+        Node<E> currentTop = top.get();
+        if(Objects.isNull(currentTop)) throw new EmptyStackException();
+
+        return currentTop.data;
+    }
+
+    private Object visitEliminationArray(Object item) {
+        int slot = ThreadLocalRandom.current().nextInt(eliminationArray.length);
+        return eliminationArray[slot].exchange(item, backoffNanos);
+    }
+
+    /**
+     * Slot of the elimination array where two threads can swap their items.
+     * The first thread to arrive moves the slot from EMPTY to WAITING with its item, the second one takes that item
+     * and moves the slot to BUSY with its own, which the first thread then takes before freeing the slot.
+     */
+    private static class Exchanger {
+        private static final int EMPTY = 0;
+        private static final int WAITING = 1;
+        private static final int BUSY = 2;
+
+        private final AtomicStampedReference<Object> slot = new AtomicStampedReference<>(null, EMPTY);
+
+        /**
+         * Returns the item of the thread met in the slot, or TIMED_OUT if no other thread came in time.
+         */
+        Object exchange(Object myItem, long timeoutNanos) {
+            long deadline = System.nanoTime() + timeoutNanos;
+            int[] stampHolder = {EMPTY};
+            while(System.nanoTime() < deadline) {
+                Object yourItem = slot.get(stampHolder);
+                switch (stampHolder[0]) {
+                    case EMPTY:
+                        if(slot.compareAndSet(yourItem, myItem, EMPTY, WAITING)) {
+                            return awaitPartner(myItem, deadline, stampHolder);
+                        }
+                        break;
+                    case WAITING:
+                        if(slot.compareAndSet(yourItem, myItem, WAITING, BUSY)) {
+                            return yourItem;
+                        }
+                        break;
+                    default:
+                        Thread.onSpinWait();
+                }
+            }
+            return TIMED_OUT;
+        }
+
+        private Object awaitPartner(Object myItem, long deadline, int[] stampHolder) {
+            while(System.nanoTime() < deadline) {
+                Object yourItem = slot.get(stampHolder);
+                if(stampHolder[0] == BUSY) {
+                    slot.set(null, EMPTY);
+                    return yourItem;
+                }
+                Thread.onSpinWait();
+            }
+            if(slot.compareAndSet(myItem, null, WAITING, EMPTY)) {
+                return TIMED_OUT;
+            }
+            //A partner arrived right before giving up
+            Object yourItem = slot.getReference();
+            slot.set(null, EMPTY);
+            return yourItem;
+        }
+    }
+
+    /**
+     * Class representation of a node.
+     * The next reference is only written before the node is published by the compare-and-set.
+     * @param <E> Element - any object
+     */
+    private static class Node<E> {
+        final E data;
+        Node<E> next;
+
+        Node(E data) {
+            this.data = data;
+        }
+    }
+}
@@ -0,0 +1,78 @@
+package io.github.jaymorelli.stack;
+
+import java.util.Arrays;
+import java.util.EmptyStackException;
+
+/**
+ * Stack of int values, with the same operations as StackLL.
+ * Values are kept in an int array that doubles when full, so push and pop never box nor allocate per element.
+ * @author Jean Morelli
+ */
+public class IntStack {
+    private static final int DEFAULT_CAPACITY = 16;
+
+    private int[] elements;
+    private int size = 0;
+
+    public IntStack() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * @throws IllegalArgumentException if initialCapacity is less than 1
+     * @param initialCapacity - number of elements the stack can hold before growing
+     */
+    public IntStack(int initialCapacity) {
+        if(initialCapacity < 1) throw new IllegalArgumentException("Initial capacity must be at least 1");
+        this.elements = new int[initialCapacity];
+    }
+
+    /**
+     * Check if the stack contains no elements.
+     * @return boolean - true if stack is considered empty
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Returns the number of elements in this stack
+     * @return int - number of elements
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Add element to the top of the stack, doubling the array if it is full
+     * @param e - element to be added
+     */
+    public void push(int e) {
+        if(size == elements.length) {
+            elements = Arrays.copyOf(elements, elements.length * 2);
+        }
+        elements[size++] = e;
+    }
+
+    /**
+     * Removes and retrieves the top element of the stack
+     * @throws EmptyStackException if stack is empty
+     * @return top element
+     */
+    public int pop() {
+        if(isEmpty()) throw new EmptyStackException();
+
+        return elements[--size];
+    }
+
+    /**
+     * Retrieves the top element of the stack
+     * @throws EmptyStackException if stack is empty
+     * @return top element
+     */
+    public int peek() {
+        if(isEmpty()) throw new EmptyStackException();
+
+        return elements[size - 1];
+    }
+}
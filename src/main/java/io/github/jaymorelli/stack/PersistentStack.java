@@ -0,0 +1,312 @@
+package io.github.jaymorelli.stack;
+
+import io.github.jaymorelli.serialization.ElementCodec;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.EmptyStackException;
+import java.util.zip.CRC32;
+
+/**
+ * Stack whose elements live in a memory-mapped file, so they survive a restart of the process or a crash.
+ * The file starts with two header slots, each one holding a sequence number, the offset of the top of the stack,
+ * the size, the low water mark, the sequence number of the last sync and a CRC32 of those values.
+ * One slot holds the state written at the last sync and is left untouched until the next one; every other push or
+ * pop writes the other slot, which only becomes the synced one once the records and it have been forced.
+ * After the header, elements are appended as records framed as [length][stamp][element][CRC32][length]: the stamp is
+ * the sequence number of the push, the CRC32 covers the length, the stamp and the element, and the trailing length
+ * lets pop find where the top record starts. A push after a pop overwrites the popped records, but never the records
+ * the synced slot points at: a push below the top of the last sync syncs first, so the synced state stays readable.
+ * The low water mark is the lowest top since the last sync: records under it were synced and have not changed since.
+ * Opening the file picks the newest valid slot. Records above its low water mark must be intact and stamped after the
+ * last sync, so a header that reached the disk before its records is rejected in favor of the synced one; the record
+ * under the mark is checked too. Recovery is therefore O(syncEvery) whatever the size of the stack, and records below
+ * are checked when they are read.
+ * Changes are forced to the storage device every syncEvery operations (and by sync and close): with syncEvery = 1
+ * every operation is durable once it returns, with larger values a crash can lose up to the last syncEvery - 1 operations.
+ * The file grows by doubling and is limited to 2 GiB. Not thread-safe.
+ * @param <E> Element - any object the codec can write
+ * @author Jean Morelli
+ */
+public class PersistentStack<E> implements Stack<E>, AutoCloseable {
+    private static final int SLOT_SIZE = 6 * Long.BYTES;
+    private static final int HEADER_SIZE = 2 * SLOT_SIZE;
+    //length before and after the element, its stamp and its CRC32
+    private static final int RECORD_OVERHEAD = 3 * Integer.BYTES + Long.BYTES;
+    private static final int PAYLOAD_OFFSET = Integer.BYTES + Long.BYTES;
+    private static final int INITIAL_CAPACITY = 1 << 20;
+
+    private final FileChannel channel;
+    private final ElementCodec<E> codec;
+    private final int syncEvery;
+    private final CRC32 crc = new CRC32();
+    private final ByteBuffer slotValues = ByteBuffer.allocate(5 * Long.BYTES);
+    private MappedByteBuffer buffer;
+    private long sequence;
+    private long syncedSequence;
+    //Index of the slot written at the last sync, the other one receives the unsynced states
+    private int syncedSlot;
+    //Offset right after the top record, HEADER_SIZE when the stack is empty
+    private int top;
+    //Top at the last sync, the records under it must not be overwritten before the next one
+    private int syncedTop;
+    private int lowWater;
+    private int size;
+    private int unsyncedOperations;
+
+    /**
+     * Opens the stack stored in the file, creating an empty one if the file does not exist or is empty.
+     * @throws IOException if the file cannot be opened or holds no valid stack
+     * @throws IllegalArgumentException if syncEvery is less than 1
+     * @param file - file holding the stack
+     * @param codec - encoding of the elements
+     * @param syncEvery - number of operations between two syncs to the storage device
+     */
+    public PersistentStack(Path file, ElementCodec<E> codec, int syncEvery) throws IOException {
+        if(syncEvery < 1) throw new IllegalArgumentException("Sync interval must be at least 1");
+        this.codec = codec;
+        this.syncEvery = syncEvery;
+        this.channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        try {
+            if(channel.size() == 0) {
+                map(INITIAL_CAPACITY);
+                top = HEADER_SIZE;
+                syncedSlot = 1;
+                commit();
+            } else {
+                map((int) Math.min(channel.size(), Integer.MAX_VALUE));
+                recover();
+            }
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Check if the stack contains no elements.
+     * @return boolean - true if stack is considered empty
+     */
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Returns the number of elements in this stack
+     * @return int - number of elements
+     */
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Append the element as a new record and move the top of the stack after it.
+     * If pops went below the top of the last sync, the stack is synced first, since the record overwrites synced ones.
+     * @throws UncheckedIOException if the file cannot grow
+     * @throws IllegalStateException if the file would exceed 2 GiB
+     * @param e - element to be added
+     */
+    @Override
+    public void push(E e) {
+        int length = codec.size(e);
+        long end = (long) top + length + RECORD_OVERHEAD;
+        if(end > Integer.MAX_VALUE) throw new IllegalStateException("Stack file is limited to 2 GiB");
+        if(end > buffer.capacity()) grow(end);
+        if(top < syncedTop) commit();
+
+        buffer.putInt(top, length);
+        buffer.putLong(top + Integer.BYTES, sequence + 1);
+        buffer.position(top + PAYLOAD_OFFSET);
+        codec.write(e, buffer);
+        buffer.putInt(top + PAYLOAD_OFFSET + length, checksum(top, PAYLOAD_OFFSET + length));
+        buffer.putInt(top + PAYLOAD_OFFSET + Integer.BYTES + length, length);
+
+        top = (int) end;
+        size++;
+        afterOperation();
+    }
+
+    /**
+     * Removes and retrieves the top element of the stack, moving the top of the stack before its record.
+     * @throws EmptyStackException if stack is empty
+     * @throws UncheckedIOException if the top record is corrupted
+     * @return top element
+     */
+    @Override
+    public E pop() {
+        E result = peek();
+        top -= buffer.getInt(top - Integer.BYTES) + RECORD_OVERHEAD;
+        lowWater = Math.min(lowWater, top);
+        size--;
+        afterOperation();
+        return result;
+    }
+
+    /**
+     * Retrieves the top element of the stack without removing it
+     * @throws EmptyStackException if stack is empty
+     * @throws UncheckedIOException if the top record is corrupted
+     * @return top element
+     */
+    @Override
+    public E peek() {
+        if(isEmpty()) throw new EmptyStackException();
+
+        int start = recordStart(top);
+        if(start < 0) throw new UncheckedIOException(new IOException("Corrupted record before offset " + top));
+        buffer.position(start + PAYLOAD_OFFSET);
+        return codec.read(buffer);
+    }
+
+    /**
+     * Force every change to the storage device.
+     */
+    public void sync() {
+        if(unsyncedOperations > 0) commit();
+    }
+
+    /**
+     * Force the records, then the header slot pointing at them, which becomes the synced slot.
+     */
+    private void commit() {
+        buffer.force();
+        int slot = 1 - syncedSlot;
+        sequence++;
+        syncedSequence = sequence;
+        lowWater = top;
+        syncedTop = top;
+        writeHeader(slot);
+        buffer.force(0, HEADER_SIZE);
+        syncedSlot = slot;
+        unsyncedOperations = 0;
+    }
+
+    /**
+     * Sync and close the file.
+     * @throws IOException if the file cannot be closed
+     */
+    @Override
+    public void close() throws IOException {
+        sync();
+        channel.close();
+    }
+
+    /**
+     * Publish the new top of the stack in the unsynced slot, syncing every syncEvery operations.
+     */
+    private void afterOperation() {
+        if(++unsyncedOperations >= syncEvery) {
+            commit();
+            return;
+        }
+        sequence++;
+        writeHeader(1 - syncedSlot);
+    }
+
+    private void writeHeader(int slot) {
+        int offset = slot * SLOT_SIZE;
+        buffer.putLong(offset, sequence);
+        buffer.putLong(offset + Long.BYTES, top);
+        buffer.putLong(offset + 2 * Long.BYTES, size);
+        buffer.putLong(offset + 3 * Long.BYTES, lowWater);
+        buffer.putLong(offset + 4 * Long.BYTES, syncedSequence);
+        buffer.putLong(offset + 5 * Long.BYTES, slotChecksum(sequence, top, size, lowWater, syncedSequence));
+    }
+
+    /**
+     * Restore the state of the newest slot that is valid and whose unsynced records reached the disk,
+     * then commit it so it becomes the synced state.
+     */
+    private void recover() throws IOException {
+        long bestSequence = -1;
+        for (int slot = 0; slot < 2; slot++) {
+            int offset = slot * SLOT_SIZE;
+            long slotSequence = buffer.getLong(offset);
+            long slotTop = buffer.getLong(offset + Long.BYTES);
+            long slotSize = buffer.getLong(offset + 2 * Long.BYTES);
+            long slotLowWater = buffer.getLong(offset + 3 * Long.BYTES);
+            long slotSyncedSequence = buffer.getLong(offset + 4 * Long.BYTES);
+            if(buffer.getLong(offset + 5 * Long.BYTES) != slotChecksum(slotSequence, slotTop, slotSize, slotLowWater, slotSyncedSequence)) continue;
+            if(slotSequence <= bestSequence || !isValidState(slotSequence, slotTop, slotSize, slotLowWater, slotSyncedSequence)) continue;
+
+            bestSequence = slotSequence;
+            sequence = slotSequence;
+            top = (int) slotTop;
+            size = (int) slotSize;
+            syncedSlot = slot;
+        }
+        if(bestSequence < 0) throw new IOException("No valid stack header");
+        commit();
+    }
+
+    /**
+     * Check the records above the low water mark, each one pushed after the last sync, and the record under it.
+     */
+    private boolean isValidState(long slotSequence, long slotTop, long slotSize, long slotLowWater, long slotSyncedSequence) {
+        if(slotTop > buffer.capacity() || slotLowWater < HEADER_SIZE || slotLowWater > slotTop) return false;
+        if(slotSize < 0 || slotSize > Integer.MAX_VALUE || (slotSize == 0) != (slotTop == HEADER_SIZE)) return false;
+
+        int offset = (int) slotTop;
+        while(offset > slotLowWater) {
+            int start = recordStart(offset);
+            if(start < 0) return false;
+            long stamp = buffer.getLong(start + Integer.BYTES);
+            if(stamp <= slotSyncedSequence || stamp > slotSequence) return false;
+            offset = start;
+        }
+        if(offset != slotLowWater) return false;
+        return offset == HEADER_SIZE || recordStart(offset) >= 0;
+    }
+
+    /**
+     * Returns the offset of the record ending at end, or -1 if its framing or CRC32 is wrong.
+     */
+    private int recordStart(int end) {
+        if(end < HEADER_SIZE + RECORD_OVERHEAD) return -1;
+
+        int length = buffer.getInt(end - Integer.BYTES);
+        int start = end - RECORD_OVERHEAD - length;
+        if(length < 0 || start < HEADER_SIZE || buffer.getInt(start) != length) return -1;
+        return buffer.getInt(end - 2 * Integer.BYTES) == checksum(start, PAYLOAD_OFFSET + length) ? start : -1;
+    }
+
+    private int checksum(int offset, int length) {
+        ByteBuffer record = buffer.duplicate();
+        record.limit(offset + length).position(offset);
+        crc.reset();
+        crc.update(record);
+        return (int) crc.getValue();
+    }
+
+    private long slotChecksum(long slotSequence, long slotTop, long slotSize, long slotLowWater, long slotSyncedSequence) {
+        slotValues.clear();
+        slotValues.putLong(slotSequence).putLong(slotTop).putLong(slotSize).putLong(slotLowWater).putLong(slotSyncedSequence).flip();
+        crc.reset();
+        crc.update(slotValues);
+        return crc.getValue();
+    }
+
+    private void grow(long minimumCapacity) {
+        long capacity = buffer.capacity();
+        while(capacity < minimumCapacity) {
+            capacity *= 2;
+        }
+        try {
+            buffer.force();
+            map((int) Math.min(capacity, Integer.MAX_VALUE));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void map(int capacity) throws IOException {
+        buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, capacity);
+    }
+}
@@ -0,0 +1,256 @@
+package io.github.jaymorelli.stack;
+
+import io.github.jaymorelli.serialization.ElementCodec;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.EmptyStackException;
+import java.util.Objects;
+
+/**
+ * Stack for very deep workloads (e.g. iterative DFS over a huge graph) whose memory use is bounded.
+ * Elements are kept in segments, arrays of segmentSize elements. At most maxSegmentsInMemory of them stay on the heap;
+ * when one more is needed, the bottom segment is spilled to a temporary file as a single sequential block.
+ * Spilled blocks form a stack themselves, so the file is only ever appended to and read back from its end.
+ * Once popping leaves a single segment in memory, the most recently spilled block is loaded back under it, so pop
+ * never waits for the disk when the top segment runs out.
+ * Spilling needs a full segment of pushes and loading a full segment of pops, so push and pop are amortized O(1);
+ * keeping at least 3 segments in memory guarantees the two never alternate at a segment boundary.
+ * Emptied segments are reused, so a stack going up and down does not allocate.
+ * A spill or load that fails (I/O error, codec exception) leaves the stack unchanged, so the operation can be retried.
+ * Null elements are rejected, since they could not be spilled. Not thread-safe.
+ * @param <E> Element - any non-null object the codec can write
+ * @author Jean Morelli
+ */
+public class SpillingStack<E> implements Stack<E>, AutoCloseable {
+    private static final int DEFAULT_SEGMENT_SIZE = 1 << 16;
+    private static final int DEFAULT_SEGMENTS_IN_MEMORY = 16;
+
+    private final ElementCodec<E> codec;
+    private final int segmentSize;
+    private final int maxSegmentsInMemory;
+    private final Path directory;
+    //Segments on the heap, from the bottom to the top of the stack; all full except the last one
+    private final ArrayDeque<Object[]> segments = new ArrayDeque<>();
+    //Offset in the file where each spilled block starts, the last spilled on top
+    private final LongStack spilledBlocks = new LongStack();
+    private Object[] top;
+    private int topCount;
+    //Emptied segment kept to be reused by the next push or load
+    private Object[] spare;
+    private int size;
+    private FileChannel channel;
+    private long fileEnd;
+    private ByteBuffer ioBuffer;
+
+    /**
+     * Stack keeping up to 16 segments of 65536 elements in memory and spilling to the default temporary directory.
+     * @param codec - encoding of the spilled elements
+     */
+    public SpillingStack(ElementCodec<E> codec) {
+        this(codec, DEFAULT_SEGMENT_SIZE, DEFAULT_SEGMENTS_IN_MEMORY, Paths.get(System.getProperty("java.io.tmpdir")));
+    }
+
+    /**
+     * The heap holds at most segmentSize * maxSegmentsInMemory elements.
+     * @throws IllegalArgumentException if segmentSize is less than 1 or maxSegmentsInMemory is less than 3
+     * @param codec - encoding of the spilled elements
+     * @param segmentSize - number of elements per segment, spilled and loaded together
+     * @param maxSegmentsInMemory - number of segments kept on the heap
+     * @param directory - directory of the temporary file, created on the first spill
+     */
+    public SpillingStack(ElementCodec<E> codec, int segmentSize, int maxSegmentsInMemory, Path directory) {
+        if(segmentSize < 1) throw new IllegalArgumentException("Segment size must be at least 1");
+        if(maxSegmentsInMemory < 3) throw new IllegalArgumentException("At least 3 segments must be kept in memory");
+        this.codec = codec;
+        this.segmentSize = segmentSize;
+        this.maxSegmentsInMemory = maxSegmentsInMemory;
+        this.directory = directory;
+        this.top = new Object[segmentSize];
+        segments.addLast(top);
+    }
+
+    /**
+     * Check if the stack contains no elements.
+     * @return boolean - true if stack is considered empty
+     */
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Returns the number of elements in this stack, in memory and on disk
+     * @return int - number of elements
+     */
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns the number of segments currently spilled to disk
+     * @return int - number of spilled segments
+     */
+    public int spilledSegments() {
+        return spilledBlocks.size();
+    }
+
+    /**
+     * Add element to the top of the stack, spilling the bottom segment in memory if a new segment is needed and
+     * maxSegmentsInMemory are already there.
+     * @throws NullPointerException if the element is null
+     * @throws UncheckedIOException if the spill file cannot be written
+     * @param e - element to be added
+     */
+    @Override
+    public void push(E e) {
+        Objects.requireNonNull(e);
+        if(topCount == segmentSize) {
+            Object[] segment;
+            if(segments.size() == maxSegmentsInMemory) {
+                //Only drop the bottom segment once it is safely in the file
+                segment = segments.peekFirst();
+                spill(segment);
+                segments.pollFirst();
+                Arrays.fill(segment, null);
+            } else {
+                segment = takeSegment();
+            }
+            segments.addLast(segment);
+            top = segment;
+            topCount = 0;
+        }
+        top[topCount++] = e;
+        size++;
+    }
+
+    /**
+     * Removes and retrieves the top element of the stack, loading the last spilled segment back when the pop leaves a
+     * single segment in memory.
+     * @throws EmptyStackException if stack is empty
+     * @throws UncheckedIOException if the spill file cannot be read
+     * @return top element
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public E pop() {
+        if(isEmpty()) throw new EmptyStackException();
+
+        //Load before removing anything, so a failed load leaves the stack as it was
+        if(topCount == 1 && segments.size() == 2 && !spilledBlocks.isEmpty()) {
+            segments.addFirst(load(takeSegment()));
+        }
+        E result = (E) top[--topCount];
+        top[topCount] = null;
+        size--;
+        if(topCount == 0 && segments.size() > 1) {
+            spare = segments.pollLast();
+            top = segments.peekLast();
+            topCount = segmentSize;
+        }
+        return result;
+    }
+
+    /**
+     * Retrieves the top element of the stack without removing it
+     * @throws EmptyStackException if stack is empty
+     * @return top element
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public E peek() {
+        if(isEmpty()) throw new EmptyStackException();
+
+        return (E) top[topCount - 1];
+    }
+
+    /**
+     * Close and delete the spill file. The stack must not be used afterwards.
+     * @throws IOException if the file cannot be closed
+     */
+    @Override
+    public void close() throws IOException {
+        if(Objects.nonNull(channel)) channel.close();
+    }
+
+    private Object[] takeSegment() {
+        Object[] segment = Objects.nonNull(spare) ? spare : new Object[segmentSize];
+        spare = null;
+        return segment;
+    }
+
+    /**
+     * Write the full segment as one block at the end of the file.
+     */
+    @SuppressWarnings("unchecked")
+    private void spill(Object[] segment) {
+        long length = 0;
+        for (Object e : segment) {
+            length += codec.size((E) e);
+        }
+        if(length > Integer.MAX_VALUE) throw new IllegalStateException("Segment too large to be spilled, use a smaller segment size");
+
+        ByteBuffer buffer = ioBuffer((int) length);
+        for (Object e : segment) {
+            codec.write((E) e, buffer);
+        }
+        buffer.flip();
+        try {
+            if(Objects.isNull(channel)) {
+                Path file = Files.createTempFile(directory, "spilling-stack", ".bin");
+                channel = FileChannel.open(file, StandardOpenOption.READ, StandardOpenOption.WRITE, StandardOpenOption.DELETE_ON_CLOSE);
+            }
+            for (long position = fileEnd; buffer.hasRemaining(); ) {
+                position += channel.write(buffer, position);
+            }
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+        spilledBlocks.push(fileEnd);
+        fileEnd += length;
+    }
+
+    /**
+     * Read the last spilled block into the segment, the space it took in the file becoming free once it is decoded.
+     */
+    private Object[] load(Object[] segment) {
+        long start = spilledBlocks.peek();
+        ByteBuffer buffer = ioBuffer((int) (fileEnd - start));
+        try {
+            for (long position = start; buffer.hasRemaining(); ) {
+                int read = channel.read(buffer, position);
+                if(read < 0) throw new IOException("Spill file truncated");
+                position += read;
+            }
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+        buffer.flip();
+        for (int i = 0; i < segmentSize; i++) {
+            segment[i] = codec.read(buffer);
+        }
+        spilledBlocks.pop();
+        fileEnd = start;
+        return segment;
+    }
+
+    /**
+     * Returns the reusable direct buffer, cleared and limited to length bytes, growing it if needed.
+     */
+    private ByteBuffer ioBuffer(int length) {
+        if(Objects.isNull(ioBuffer) || ioBuffer.capacity() < length) {
+            ioBuffer = ByteBuffer.allocateDirect(Math.max(length, Objects.isNull(ioBuffer) ? 0 : ioBuffer.capacity() * 2));
+        }
+        ioBuffer.clear().limit(length);
+        return ioBuffer;
+    }
+}
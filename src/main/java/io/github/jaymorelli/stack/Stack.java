@@ -0,0 +1,42 @@
+package io.github.jaymorelli.stack;
+
+import java.util.EmptyStackException;
+
+/**
+ * LIFO (Last In First Out) contract shared by the stacks of this project, so callers can swap implementations.
+ * @param <E> Element - any object
+ * @author Jean Morelli
+ */
+public interface Stack<E> {
+    /**
+     * Check if the stack contains no elements.
+     * @return boolean - true if stack is considered empty
+     */
+    boolean isEmpty();
+
+    /**
+     * Returns the number of elements in this stack
+     * @return int - number of elements
+     */
+    int size();
+
+    /**
+     * Add element to the top of the stack
+     * @param e - element to be added
+     */
+    void push(E e);
+
+    /**
+     * Removes and retrieves the top element of the stack
+     * @throws EmptyStackException if stack is empty
+     * @return top element
+     */
+    E pop();
+
+    /**
+     * Retrieves the top element of the stack without removing it
+     * @throws EmptyStackException if stack is empty
+     * @return top element
+     */
+    E peek();
+}
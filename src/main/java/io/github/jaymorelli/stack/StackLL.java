@@ -2,8 +2,17 @@ package io.github.jaymorelli.stack;
 
 import io.github.jaymorelli.linkedList.DoublyLinkedList;
 import io.github.jaymorelli.linkedList.LinkedList;
+import io.github.jaymorelli.metrics.MetricsListener;
+import io.github.jaymorelli.metrics.Operation;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.EmptyStackException;
+import java.util.List;
+import java.util.ListIterator;
+import java.util.Objects;
 
 /**
  * Implementation of a Stack data structure using a Linked List (same one implemented in this project).
@@ -12,25 +21,53 @@ import java.util.EmptyStackException;
  * @param <E>
  * @author Jean Morelli
  */
-public class StackLL<E> {
+public class StackLL<E> implements Stack<E> {
 
-    DoublyLinkedList<E> listOfElements = new DoublyLinkedList<>();
+    DoublyLinkedList<E> listOfElements;
 
 
     private int size = 0;
+    private MetricsListener metrics = MetricsListener.NOOP;
+
+    /**
+     * Creates an empty stack without node pool.
+     */
+    public StackLL() {
+        this(0);
+    }
+
+    /**
+     * Creates an empty stack that keeps up to nodePoolCapacity popped nodes to reuse them on the next pushes,
+     * so a stack going up and down around the same depth stops allocating.
+     * @throws IllegalArgumentException if nodePoolCapacity is negative
+     * @param nodePoolCapacity - maximum number of pooled nodes, 0 to disable pooling
+     */
+    public StackLL(int nodePoolCapacity) {
+        listOfElements = new DoublyLinkedList<>(nodePoolCapacity);
+    }
+
+    /**
+     * Report push, pop and peek to the listener.
+     * @param listener - listener to report to, or null to stop reporting
+     */
+    public void setMetricsListener(MetricsListener listener) {
+        this.metrics = Objects.isNull(listener) ? MetricsListener.NOOP : listener;
+    }
 
     /**
      * Check if the list contains no elements.
      * @return boolean - true if list is considered empty
      */
+    @Override
     public boolean isEmpty() {
-        return true;
+        return size == 0;
     }
 
     /**
      * Returns the number of elements in this list
      * @return int - number of elements
      */
+    @Override
     public int size() {
         return size;
     }
@@ -39,31 +76,111 @@ public class StackLL<E> {
      * Add element to the top of the stack
      * @param e - element to be added
      */
+    @Override
     public void push(E e) {
         listOfElements.add(e);
         size++;
+        metrics.onOperation(Operation.PUSH, size);
     }
 
     /**
      * Removes and retrieves the top element of the stack
      * @return last element
      */
+    @Override
     public E pop() {
         if(isEmpty()) throw new EmptyStackException();
 
         E result = listOfElements.getLast();
         listOfElements.removeLast();
         size--;
+        metrics.onOperation(Operation.POP, size);
         return result;
     }
 
+    /**
+     * Push every element of the array, in order, so the last one ends up on top.
+     * The whole batch is linked at once and reported as a single push.
+     * @param elements - elements to be added
+     */
+    public void pushAll(E[] elements) {
+        if(elements.length == 0) return;
+
+        listOfElements.addAll(elements);
+        size += elements.length;
+        metrics.onOperation(Operation.PUSH, size);
+    }
+
+    /**
+     * Push every element returned by the iterable, in order, so the last one ends up on top.
+     * The elements are gathered before anything is linked, so an iterator failing partway leaves the stack unchanged;
+     * the batch is then linked at once and reported as a single push.
+     * @param elements - elements to be added
+     */
+    @SuppressWarnings("unchecked")
+    public void pushAll(Iterable<? extends E> elements) {
+        Object[] batch;
+        if(elements instanceof Collection) {
+            batch = ((Collection<? extends E>) elements).toArray();
+        } else {
+            List<E> buffer = new ArrayList<>();
+            for (E e : elements) {
+                buffer.add(e);
+            }
+            batch = buffer.toArray();
+        }
+        pushAll((E[]) batch);
+    }
+
+    /**
+     * Removes the top n elements of the stack, writing them into dest in the order pop would return them:
+     * dest[0] gets the top element. The batch is unlinked at once and reported as a single pop; nothing is allocated.
+     * @throws IllegalArgumentException if n is negative or dest is shorter than n
+     * @throws EmptyStackException if the stack has fewer than n elements, in which case nothing is removed
+     * @param n - number of elements to be removed
+     * @param dest - array receiving the removed elements
+     */
+    public void popN(int n, E[] dest) {
+        if(n < 0) throw new IllegalArgumentException("Number of elements must not be negative");
+        if(n > size) throw new EmptyStackException();
+        if(dest.length < n) throw new IllegalArgumentException("Destination array is shorter than " + n);
+        if(n == 0) return;
+
+        listOfElements.removeLast(n, dest);
+        size -= n;
+        metrics.onOperation(Operation.POP, size);
+    }
+
+    /**
+     * Retrieves the top n elements of the stack without removing them, top first.
+     * @throws IllegalArgumentException if n is negative
+     * @throws EmptyStackException if the stack has fewer than n elements
+     * @param n - number of elements to be returned
+     * @return List - unmodifiable list of the top n elements, top first
+     */
+    @SuppressWarnings("unchecked")
+    public List<E> peekN(int n) {
+        if(n < 0) throw new IllegalArgumentException("Number of elements must not be negative");
+        if(n > size) throw new EmptyStackException();
+
+        Object[] result = new Object[n];
+        ListIterator<E> iterator = listOfElements.listIterator(size);
+        for (int i = 0; i < n; i++) {
+            result[i] = iterator.previous();
+        }
+        metrics.onOperation(Operation.PEEK, size);
+        return Collections.unmodifiableList(Arrays.asList((E[]) result));
+    }
+
     /**
      * Retrieves the top element of the stack
      * @return last element
      */
+    @Override
     public E peek() {
         if(isEmpty()) throw new EmptyStackException();
 
+        metrics.onOperation(Operation.PEEK, size);
         return listOfElements.getLast();
     }
 }
@@ -0,0 +1,71 @@
+package io.github.jaymorelli.cache;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LfuCacheTest {
+
+    @Test
+    void givenAFullCache_whenANewKeyIsPut_thenTheLeastFrequentlyUsedIsEvicted() {
+        List<String> evicted = new ArrayList<>();
+        LfuCache<String, Integer> cache = new LfuCache<>(3, Weigher.singleton(), (key, value) -> evicted.add(key));
+        cache.put("a", 1);
+        cache.put("b", 2);
+        cache.put("c", 3);
+        cache.get("a");
+        cache.get("a");
+        cache.get("b");
+        cache.get("c");
+
+        cache.put("d", 4);
+        cache.put("e", 5);
+
+        assertEquals(List.of("b", "d"), evicted);
+        assertTrue(cache.containsKey("a"));
+        assertTrue(cache.containsKey("c"));
+        assertTrue(cache.containsKey("e"));
+    }
+
+    @Test
+    void givenACache_whenEntriesAreRemovedAndReinserted_thenTheirCountStartsOver() {
+        LfuCache<String, Integer> cache = new LfuCache<>(2);
+        cache.put("a", 1);
+        cache.put("b", 2);
+        cache.get("a");
+        cache.get("a");
+        cache.get("b");
+
+        cache.remove("a");
+        cache.put("a", 1);
+        cache.put("c", 3);
+
+        assertFalse(cache.containsKey("a"));
+        assertTrue(cache.containsKey("b"));
+        assertEquals(2, cache.size());
+        cache.clear();
+        cache.put("d", 4);
+        assertEquals(4, cache.get("d"));
+    }
+
+    @Test
+    void givenManyAccesses_whenTheCacheIsFull_thenTheHotKeysStay() {
+        LfuCache<Integer, Integer> cache = new LfuCache<>(10);
+        for (int round = 0; round < 100; round++) {
+            for (int hot = 0; hot < 5; hot++) {
+                if(cache.get(hot) == null) cache.put(hot, hot);
+            }
+            int cold = 1000 + round;
+            cache.put(cold, cold);
+        }
+
+        for (int hot = 0; hot < 5; hot++) {
+            assertTrue(cache.containsKey(hot));
+        }
+        assertEquals(10, cache.size());
+        assertEquals(95, cache.stats().evictionCount());
+    }
+}
@@ -0,0 +1,83 @@
+package io.github.jaymorelli.cache;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LruCacheTest {
+
+    @Test
+    void givenAFullCache_whenANewKeyIsPut_thenTheLeastRecentlyUsedIsEvicted() {
+        List<String> evicted = new ArrayList<>();
+        LruCache<String, Integer> cache = new LruCache<>(3, Weigher.singleton(), (key, value) -> evicted.add(key));
+        cache.put("a", 1);
+        cache.put("b", 2);
+        cache.put("c", 3);
+
+        assertEquals(1, cache.get("a"));
+        cache.put("d", 4);
+
+        assertEquals(List.of("b"), evicted);
+        assertFalse(cache.containsKey("b"));
+        assertTrue(cache.containsKey("a"));
+        assertEquals(3, cache.size());
+    }
+
+    @Test
+    void givenACache_whenKeysAreReadAndMissed_thenCountersAreUpdated() {
+        LruCache<String, Integer> cache = new LruCache<>(1);
+        cache.put("a", 1);
+
+        assertEquals(1, cache.get("a"));
+        assertNull(cache.get("b"));
+        cache.put("b", 2);
+        assertNull(cache.get("a"));
+
+        CacheStats stats = cache.stats();
+        assertEquals(1, stats.hitCount());
+        assertEquals(2, stats.missCount());
+        assertEquals(1, stats.evictionCount());
+        assertEquals(1.0 / 3, stats.hitRate(), 1e-9);
+    }
+
+    @Test
+    void givenAWeightBoundedCache_whenHeavyEntriesArePut_thenEntriesAreEvictedUntilTheWeightFits() {
+        LruCache<String, String> cache = new LruCache<>(10, (key, value) -> value.length(), EvictionListener.none());
+        cache.put("a", "1234");
+        cache.put("b", "1234");
+        cache.put("c", "12");
+
+        assertEquals(10, cache.weightedSize());
+        cache.put("a", "123456");
+
+        assertEquals(8, cache.weightedSize());
+        assertFalse(cache.containsKey("b"));
+        cache.put("d", "12345678901");
+
+        assertFalse(cache.containsKey("d"));
+        assertEquals(8, cache.weightedSize());
+        assertEquals(2, cache.stats().evictionCount());
+    }
+
+    @Test
+    void givenACache_whenKeysAreRemovedOrCleared_thenTheyAreNotEvictions() {
+        List<String> evicted = new ArrayList<>();
+        LruCache<String, Integer> cache = new LruCache<>(3, Weigher.singleton(), (key, value) -> evicted.add(key));
+        cache.put("a", 1);
+        cache.put("b", 2);
+
+        assertEquals(1, cache.remove("a"));
+        assertNull(cache.remove("a"));
+        cache.clear();
+        cache.put("c", 3);
+
+        assertTrue(evicted.isEmpty());
+        assertEquals(1, cache.size());
+        assertEquals(1, cache.weightedSize());
+        assertEquals(0, cache.stats().evictionCount());
+        assertThrows(NullPointerException.class, () -> cache.put("d", null));
+    }
+}
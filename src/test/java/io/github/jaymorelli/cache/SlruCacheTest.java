@@ -0,0 +1,70 @@
+package io.github.jaymorelli.cache;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SlruCacheTest {
+
+    @Test
+    void givenProtectedEntries_whenAScanOfNewKeysIsPut_thenOnlyProbationIsEvicted() {
+        SlruCache<Integer, Integer> cache = new SlruCache<>(10);
+        for (int i = 0; i < 5; i++) {
+            cache.put(i, i);
+            cache.get(i);
+        }
+
+        for (int i = 100; i < 200; i++) {
+            cache.put(i, i);
+        }
+
+        for (int i = 0; i < 5; i++) {
+            assertTrue(cache.containsKey(i));
+        }
+        assertEquals(10, cache.size());
+    }
+
+    @Test
+    void givenAFullProtectedSegment_whenAnotherEntryIsPromoted_thenTheLeastRecentlyUsedIsDemoted() {
+        List<String> evicted = new ArrayList<>();
+        SlruCache<String, Integer> cache = new SlruCache<>(3, 0.34, Weigher.singleton(), (key, value) -> evicted.add(key));
+        cache.put("a", 1);
+        cache.put("b", 2);
+        cache.put("c", 3);
+        cache.get("a");
+        cache.get("b");
+
+        cache.put("d", 4);
+        cache.put("e", 5);
+
+        assertEquals(List.of("c", "a"), evicted);
+        assertTrue(cache.containsKey("b"));
+    }
+
+    @Test
+    void givenAnInvalidProtectedShare_whenCacheIsCreated_thenExceptionIsThrown() {
+        assertThrows(IllegalArgumentException.class, () -> new SlruCache<>(10, 1.5, Weigher.singleton(), EvictionListener.none()));
+        assertThrows(IllegalArgumentException.class, () -> new SlruCache<>(-1));
+    }
+
+    @Test
+    void givenACache_whenKeysAreReadRemovedAndCleared_thenCountersAndSizeAreConsistent() {
+        SlruCache<String, Integer> cache = new SlruCache<>(2);
+        cache.put("a", 1);
+        cache.get("a");
+        cache.put("b", 2);
+        cache.get("c");
+
+        assertEquals(2, cache.remove("b"));
+        assertEquals(1, cache.weightedSize());
+        assertEquals(1, cache.stats().hitCount());
+        assertEquals(1, cache.stats().missCount());
+        cache.clear();
+        assertEquals(0, cache.size());
+        cache.put("c", 3);
+        assertEquals(3, cache.get("c"));
+    }
+}
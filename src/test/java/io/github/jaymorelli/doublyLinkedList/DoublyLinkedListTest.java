@@ -4,7 +4,19 @@ import io.github.jaymorelli.linkedList.DoublyLinkedList;
 import org.junit.jupiter.api.Test;
 
 import java.nio.file.DirectoryStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.ListIterator;
+import java.util.List;
 import java.util.NoSuchElementException;
+import java.util.Random;
+import java.util.Spliterator;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -287,4 +299,599 @@ class DoublyLinkedListTest {
         assertEquals("3", linkedList.get(1));
     }
 
-}
\ No newline at end of file
+    @Test
+    void givenANonEmptyList_whenListIsCleared_thenListIsEmptyAndCanBeReused() {
+        DoublyLinkedList<String> linkedList = new DoublyLinkedList<>();
+        linkedList.add("0");
+        linkedList.add("1");
+
+        linkedList.clear();
+        assertTrue(linkedList.isEmpty());
+        assertThrows(NoSuchElementException.class, linkedList::getFirst);
+
+        linkedList.add("2");
+        assertEquals("2", linkedList.getFirst());
+        assertEquals("2", linkedList.getLast());
+    }
+
+    @Test
+    void givenAList_whenElementIsAddedAtIndex0_thenSizeIsIncreasedByOne() {
+        DoublyLinkedList<String> linkedList = new DoublyLinkedList<>();
+        linkedList.add("1");
+
+        linkedList.add(0, "0");
+
+        assertEquals(2, linkedList.size());
+        assertEquals("0", linkedList.get(0));
+        assertEquals("1", linkedList.get(1));
+    }
+
+    @Test
+    void givenAList_whenFirstAndLastIndexAreRemoved_thenHeadAndTailAreUpdated() {
+        DoublyLinkedList<String> linkedList = new DoublyLinkedList<>();
+        linkedList.add("0");
+        linkedList.add("1");
+        linkedList.add("2");
+
+        linkedList.remove(0);
+        linkedList.remove(1);
+
+        assertEquals(1, linkedList.size());
+        assertEquals("1", linkedList.getFirst());
+        assertEquals("1", linkedList.getLast());
+    }
+
+    @Test
+    void givenAStackLikeUsage_whenElementsArePushedAndPopped_thenListStaysConsistent() {
+        DoublyLinkedList<String> linkedList = new DoublyLinkedList<>();
+        linkedList.add("0");
+        linkedList.removeLast();
+        linkedList.add("1");
+        linkedList.addFirst("0");
+
+        assertEquals(2, linkedList.size());
+        assertEquals("0", linkedList.getFirst());
+        assertEquals("1", linkedList.getLast());
+        assertEquals("0", linkedList.get(0));
+    }
+
+    @Test
+    void givenList_whenLastElementIsRemovedByValue_thenTailIsUpdated() {
+        DoublyLinkedList<String> linkedList = new DoublyLinkedList<>();
+        linkedList.add("0");
+        linkedList.add("1");
+
+        assertTrue(linkedList.remove("1"));
+        assertFalse(linkedList.remove("1"));
+
+        assertEquals(1, linkedList.size());
+        assertEquals("0", linkedList.getLast());
+    }
+
+    @Test
+    void givenAList_whenIteratedWithForEach_thenElementsAreReturnedInOrder() {
+        DoublyLinkedList<String> linkedList = new DoublyLinkedList<>();
+        linkedList.add("0");
+        linkedList.add("1");
+        linkedList.add("2");
+
+        StringBuilder result = new StringBuilder();
+        for (String e : linkedList) {
+            result.append(e);
+        }
+
+        assertEquals("012", result.toString());
+    }
+
+    @Test
+    void givenAListIterator_whenWalkingBackwards_thenElementsAreReturnedInReverseOrder() {
+        DoublyLinkedList<String> linkedList = new DoublyLinkedList<>();
+        linkedList.add("0");
+        linkedList.add("1");
+        linkedList.add("2");
+
+        ListIterator<String> iterator = linkedList.listIterator(linkedList.size());
+
+        assertFalse(iterator.hasNext());
+        assertEquals("2", iterator.previous());
+        assertEquals("1", iterator.previous());
+        assertEquals("0", iterator.previous());
+        assertFalse(iterator.hasPrevious());
+        assertThrows(NoSuchElementException.class, iterator::previous);
+    }
+
+    @Test
+    void givenAListIterator_whenElementsAreRemovedSetAndAddedAtTheCursor_thenListIsUpdated() {
+        DoublyLinkedList<String> linkedList = new DoublyLinkedList<>();
+        linkedList.add("0");
+        linkedList.add("1");
+        linkedList.add("2");
+        linkedList.add("3");
+
+        ListIterator<String> iterator = linkedList.listIterator();
+        iterator.next();
+        iterator.remove();
+        iterator.add("A");
+        iterator.next();
+        iterator.set("B");
+        iterator.next();
+        iterator.remove();
+        iterator.next();
+        iterator.add("C");
+        assertEquals("C", iterator.previous());
+        iterator.remove();
+
+        assertEquals(3, linkedList.size());
+        assertEquals("A", linkedList.getFirst());
+        assertEquals("B", linkedList.get(1));
+        assertEquals("3", linkedList.getLast());
+    }
+
+    @Test
+    void givenAListIterator_whenRemoveIsCalledTwice_thenExceptionIsThrown() {
+        DoublyLinkedList<String> linkedList = new DoublyLinkedList<>();
+        linkedList.add("0");
+
+        ListIterator<String> iterator = linkedList.listIterator();
+        iterator.next();
+        iterator.remove();
+
+        assertThrows(IllegalStateException.class, iterator::remove);
+        assertTrue(linkedList.isEmpty());
+    }
+
+    @Test
+    void givenAnIterator_whenListIsModifiedOutsideOfIt_thenExceptionIsThrown() {
+        DoublyLinkedList<String> linkedList = new DoublyLinkedList<>();
+        linkedList.add("0");
+        linkedList.add("1");
+
+        Iterator<String> iterator = linkedList.iterator();
+        iterator.next();
+        linkedList.add("2");
+
+        assertThrows(ConcurrentModificationException.class, iterator::next);
+    }
+
+    @Test
+    void givenALargeList_whenSpliteratorIsSplit_thenBothPartsCoverTheWholeListInOrder() {
+        DoublyLinkedList<Integer> linkedList = new DoublyLinkedList<>();
+        for (int i = 0; i < 5000; i++) {
+            linkedList.add(i);
+        }
+
+        Spliterator<Integer> suffix = linkedList.spliterator();
+        Spliterator<Integer> prefix = suffix.trySplit();
+
+        assertNotNull(prefix);
+        assertEquals(5000, prefix.estimateSize() + suffix.estimateSize());
+        List<Integer> result = new ArrayList<>();
+        prefix.forEachRemaining(result::add);
+        suffix.forEachRemaining(result::add);
+        for (int i = 0; i < 5000; i++) {
+            assertEquals(i, result.get(i));
+        }
+    }
+
+    @Test
+    void givenAList_whenStreamedSequentiallyAndInParallel_thenResultsAreTheSame() {
+        DoublyLinkedList<Integer> linkedList = new DoublyLinkedList<>();
+        for (int i = 0; i < 100_000; i++) {
+            linkedList.add(i);
+        }
+
+        long sequential = linkedList.stream().filter(i -> i % 3 == 0).mapToLong(i -> i).sum();
+        long parallel = linkedList.parallelStream().filter(i -> i % 3 == 0).mapToLong(i -> i).sum();
+        List<Integer> collected = linkedList.parallelStream().collect(Collectors.toList());
+
+        assertEquals(sequential, parallel);
+        assertEquals(100_000, collected.size());
+        assertEquals(99_999, collected.get(99_999));
+    }
+
+    @Test
+    void givenAnEmptyList_whenStreamed_thenStreamIsEmpty() {
+        DoublyLinkedList<String> linkedList = new DoublyLinkedList<>();
+
+        assertEquals(0, linkedList.stream().count());
+        assertNull(linkedList.spliterator().trySplit());
+    }
+
+    @Test
+    void givenAList_whenGetIsCalledSequentiallyBetweenModifications_thenElementsAreCorrect() {
+        DoublyLinkedList<Integer> linkedList = new DoublyLinkedList<>();
+        for (int i = 0; i < 100; i++) {
+            linkedList.add(i);
+        }
+
+        assertEquals(40, linkedList.get(40));
+        linkedList.remove(40);
+        assertEquals(41, linkedList.get(40));
+        linkedList.add(10, -1);
+        assertEquals(41, linkedList.get(41));
+        linkedList.addFirst(-2);
+        assertEquals(41, linkedList.get(42));
+        linkedList.remove(Integer.valueOf(41));
+        assertEquals(42, linkedList.get(42));
+        linkedList.removeFirst();
+        assertEquals(42, linkedList.get(41));
+        linkedList.removeLast();
+        assertEquals(98, linkedList.get(linkedList.size() - 1));
+        linkedList.clear();
+        linkedList.add(7);
+        assertEquals(7, linkedList.get(0));
+    }
+
+    @Test
+    void givenRandomModifications_whenGetIsCalled_thenListMatchesArrayList() {
+        DoublyLinkedList<Integer> linkedList = new DoublyLinkedList<>();
+        List<Integer> expected = new ArrayList<>();
+        Random random = new Random(42);
+        for (int step = 0; step < 20_000; step++) {
+            int operation = random.nextInt(6);
+            if(operation == 0 || expected.isEmpty()) {
+                int i = random.nextInt(expected.size() + 1);
+                linkedList.add(i, step);
+                expected.add(i, step);
+            } else if(operation == 1) {
+                int i = random.nextInt(expected.size());
+                linkedList.remove(i);
+                expected.remove(i);
+            } else if(operation == 2) {
+                ListIterator<Integer> iterator = linkedList.listIterator(random.nextInt(expected.size()));
+                ListIterator<Integer> expectedIterator = expected.listIterator(iterator.nextIndex());
+                iterator.next();
+                expectedIterator.next();
+                iterator.remove();
+                expectedIterator.remove();
+                iterator.add(-step);
+                expectedIterator.add(-step);
+            } else {
+                int i = random.nextInt(expected.size());
+                assertEquals(expected.get(i), linkedList.get(i));
+            }
+        }
+
+        assertEquals(expected.size(), linkedList.size());
+        for (int i = 0; i < expected.size(); i++) {
+            assertEquals(expected.get(i), linkedList.get(i));
+        }
+    }
+
+    @Test
+    void givenTwoLists_whenAppended_thenElementsAreMovedToTheEndAndOtherIsEmpty() {
+        DoublyLinkedList<Integer> linkedList = new DoublyLinkedList<>();
+        DoublyLinkedList<Integer> other = new DoublyLinkedList<>();
+        for (int i = 0; i < 3; i++) {
+            linkedList.add(i);
+            other.add(i + 3);
+        }
+
+        linkedList.get(2);
+        linkedList.append(other);
+
+        assertEquals(6, linkedList.size());
+        assertTrue(other.isEmpty());
+        for (int i = 0; i < 6; i++) {
+            assertEquals(i, linkedList.get(i));
+        }
+        assertEquals(5, linkedList.getLast());
+        linkedList.removeLast();
+        assertEquals(4, linkedList.getLast());
+        other.add(9);
+        assertEquals(9, other.getFirst());
+        assertEquals(5, linkedList.size());
+    }
+
+    @Test
+    void givenTwoLists_whenPrepended_thenElementsAreMovedToTheFrontAndOtherIsEmpty() {
+        DoublyLinkedList<Integer> linkedList = new DoublyLinkedList<>();
+        DoublyLinkedList<Integer> other = new DoublyLinkedList<>();
+        for (int i = 0; i < 3; i++) {
+            linkedList.add(i + 3);
+            other.add(i);
+        }
+
+        assertEquals(4, linkedList.get(1));
+        linkedList.prepend(other);
+
+        assertEquals(6, linkedList.size());
+        assertTrue(other.isEmpty());
+        assertEquals(4, linkedList.get(4));
+        for (int i = 0; i < 6; i++) {
+            assertEquals(i, linkedList.get(i));
+        }
+        assertEquals(0, linkedList.getFirst());
+        linkedList.removeFirst();
+        assertEquals(1, linkedList.getFirst());
+    }
+
+    @Test
+    void givenAnEmptyList_whenAppendedOrPrependedToItself_thenExceptionIsThrownOtherwiseItIsANoOp() {
+        DoublyLinkedList<Integer> linkedList = new DoublyLinkedList<>();
+        DoublyLinkedList<Integer> other = new DoublyLinkedList<>();
+        other.add(1);
+
+        assertThrows(IllegalArgumentException.class, () -> linkedList.append(linkedList));
+        assertThrows(IllegalArgumentException.class, () -> linkedList.prepend(linkedList));
+        linkedList.append(new DoublyLinkedList<>());
+        assertTrue(linkedList.isEmpty());
+        linkedList.prepend(other);
+        assertEquals(1, linkedList.getFirst());
+        assertEquals(1, linkedList.getLast());
+    }
+
+    @Test
+    void givenAList_whenSplitAtAnIndex_thenEachPartKeepsItsElements() {
+        DoublyLinkedList<Integer> linkedList = new DoublyLinkedList<>();
+        for (int i = 0; i < 10; i++) {
+            linkedList.add(i);
+        }
+
+        DoublyLinkedList<Integer> suffix = linkedList.splitAt(4);
+
+        assertEquals(4, linkedList.size());
+        assertEquals(6, suffix.size());
+        assertEquals(3, linkedList.getLast());
+        assertEquals(4, suffix.getFirst());
+        assertEquals(9, suffix.getLast());
+        for (int i = 0; i < 4; i++) {
+            assertEquals(i, linkedList.get(i));
+        }
+        for (int i = 0; i < 6; i++) {
+            assertEquals(i + 4, suffix.get(i));
+        }
+        linkedList.add(-1);
+        suffix.addFirst(-2);
+        assertEquals(-1, linkedList.get(4));
+        assertEquals(4, suffix.get(1));
+
+        assertThrows(IndexOutOfBoundsException.class, () -> linkedList.splitAt(6));
+        assertTrue(linkedList.splitAt(5).isEmpty());
+        DoublyLinkedList<Integer> all = linkedList.splitAt(0);
+        assertTrue(linkedList.isEmpty());
+        assertEquals(5, all.size());
+        assertEquals(-1, all.getLast());
+    }
+
+    @Test
+    void givenAList_whenAddAllIsCalledAtTheHeadMiddleAndTail_thenElementsAreInsertedInOrder() {
+        DoublyLinkedList<Integer> linkedList = DoublyLinkedList.fromArray(2, 5);
+
+        assertTrue(linkedList.addAll(1, Arrays.asList(3, 4)));
+        assertTrue(linkedList.addAll(0, Arrays.asList(0, 1)));
+        assertTrue(linkedList.addAll(Arrays.asList(6, 7)));
+        assertFalse(linkedList.addAll(3, Collections.emptyList()));
+
+        assertEquals(8, linkedList.size());
+        assertArrayEquals(new Object[]{0, 1, 2, 3, 4, 5, 6, 7}, linkedList.toArray());
+        assertEquals(0, linkedList.getFirst());
+        assertEquals(7, linkedList.getLast());
+        for (int i = 7; i >= 0; i--) {
+            assertEquals(i, linkedList.get(i));
+        }
+        assertThrows(IndexOutOfBoundsException.class, () -> linkedList.addAll(9, Arrays.asList(1)));
+    }
+
+    @Test
+    void givenAList_whenRemoveRangeIsCalled_thenOnlyThatRangeIsRemoved() {
+        DoublyLinkedList<Integer> linkedList = DoublyLinkedList.fromArray(0, 1, 2, 3, 4, 5, 6, 7);
+
+        linkedList.removeRange(2, 4);
+        assertEquals(4, linkedList.get(2));
+        assertArrayEquals(new Object[]{0, 1, 4, 5, 6, 7}, linkedList.toArray());
+        linkedList.removeRange(0, 1);
+        assertEquals(1, linkedList.getFirst());
+        linkedList.removeRange(3, 5);
+        assertArrayEquals(new Object[]{1, 4, 5}, linkedList.toArray());
+        assertEquals(5, linkedList.getLast());
+        assertEquals(4, linkedList.get(1));
+        assertThrows(IndexOutOfBoundsException.class, () -> linkedList.removeRange(2, 4));
+        linkedList.removeRange(0, 3);
+        assertTrue(linkedList.isEmpty());
+        linkedList.add(9);
+        assertEquals(9, linkedList.getFirst());
+        assertEquals(9, linkedList.getLast());
+    }
+
+    @Test
+    void givenAPooledList_whenNodesAreRemovedAndAddedAgain_thenListStaysConsistent() {
+        DoublyLinkedList<Integer> linkedList = new DoublyLinkedList<>(8);
+        List<Integer> expected = new ArrayList<>();
+        Random random = new Random(7);
+        for (int step = 0; step < 5_000; step++) {
+            int operation = random.nextInt(4);
+            if(operation == 0 || expected.size() < 2) {
+                int i = random.nextInt(expected.size() + 1);
+                linkedList.add(i, step);
+                expected.add(i, step);
+            } else if(operation == 1) {
+                linkedList.removeFirst();
+                expected.remove(0);
+            } else if(operation == 2) {
+                int i = random.nextInt(expected.size());
+                linkedList.remove(i);
+                expected.remove(i);
+            } else {
+                Iterator<Integer> iterator = linkedList.iterator();
+                iterator.next();
+                iterator.remove();
+                linkedList.addFirst(-step);
+                expected.set(0, -step);
+            }
+        }
+
+        assertArrayEquals(expected.toArray(), linkedList.toArray());
+        assertThrows(IllegalArgumentException.class, () -> new DoublyLinkedList<>(-1));
+    }
+
+    @Test
+    void givenAnArray_whenAddedToTheBack_thenElementsAreLinkedInOrder() {
+        DoublyLinkedList<Integer> linkedList = DoublyLinkedList.fromArray(1, 2);
+
+        assertTrue(linkedList.addAll(new Integer[]{ 3, 4, 5 }));
+        assertFalse(linkedList.addAll(new Integer[0]));
+
+        assertArrayEquals(new Object[]{ 1, 2, 3, 4, 5 }, linkedList.toArray());
+        assertEquals(5, linkedList.getLast());
+        assertEquals(4, linkedList.get(3));
+    }
+
+    @Test
+    void givenAPooledList_whenLastElementsAreRemovedInBatch_thenTheyAreWrittenFromTheTail() {
+        DoublyLinkedList<Integer> linkedList = new DoublyLinkedList<>(4);
+        linkedList.addAll(new Integer[]{ 1, 2, 3, 4, 5, 6 });
+        assertEquals(2, linkedList.get(1));
+        Integer[] dest = new Integer[5];
+
+        linkedList.removeLast(3, dest);
+
+        assertArrayEquals(new Integer[]{ 6, 5, 4, null, null }, dest);
+        assertArrayEquals(new Object[]{ 1, 2, 3 }, linkedList.toArray());
+        assertEquals(3, linkedList.getLast());
+        assertEquals(2, linkedList.get(1));
+
+        linkedList.removeLast(3, dest);
+        assertTrue(linkedList.isEmpty());
+        assertArrayEquals(new Integer[]{ 3, 2, 1, null, null }, dest);
+        //Nodes come back from the pool
+        linkedList.addAll(new Integer[]{ 7, 8 });
+        assertArrayEquals(new Object[]{ 7, 8 }, linkedList.toArray());
+
+        assertThrows(IndexOutOfBoundsException.class, () -> linkedList.removeLast(3, dest));
+        assertThrows(IllegalArgumentException.class, () -> linkedList.removeLast(2, new Integer[1]));
+    }
+
+    @Test
+    void givenAListWithEqualKeys_whenSorted_thenOrderIsStableAndLinksAreConsistent() {
+        Random random = new Random(11);
+        DoublyLinkedList<int[]> linkedList = new DoublyLinkedList<>();
+        List<int[]> expected = new ArrayList<>();
+        for (int i = 0; i < 10_000; i++) {
+            //Key in [0], insertion order in [1]
+            int[] element = { random.nextInt(100), i };
+            linkedList.add(element);
+            expected.add(element);
+        }
+        assertEquals(expected.get(5000), linkedList.get(5000));
+
+        linkedList.sort(Comparator.comparingInt(e -> e[0]));
+        expected.sort(Comparator.comparingInt(e -> e[0]));
+
+        assertArrayEquals(expected.toArray(), linkedList.toArray());
+        assertSame(expected.get(9_999), linkedList.getLast());
+        assertSame(expected.get(5000), linkedList.get(5000));
+        List<int[]> backward = new ArrayList<>();
+        for (ListIterator<int[]> iterator = linkedList.listIterator(linkedList.size()); iterator.hasPrevious(); ) {
+            backward.add(iterator.previous());
+        }
+        Collections.reverse(backward);
+        assertEquals(expected, backward);
+    }
+
+    @Test
+    void givenSortedReversedAndShortLists_whenSortedByNaturalOrder_thenElementsAreAscending() {
+        DoublyLinkedList<Integer> sorted = DoublyLinkedList.fromArray(1, 2, 2, 3, 4);
+        DoublyLinkedList<Integer> reversed = DoublyLinkedList.fromArray(5, 4, 3, 2, 1);
+        DoublyLinkedList<Integer> single = DoublyLinkedList.fromArray(1);
+        DoublyLinkedList<Integer> empty = new DoublyLinkedList<>();
+
+        sorted.sort();
+        reversed.sort();
+        single.sort();
+        empty.sort(Comparator.reverseOrder());
+
+        assertArrayEquals(new Object[]{ 1, 2, 2, 3, 4 }, sorted.toArray());
+        assertArrayEquals(new Object[]{ 1, 2, 3, 4, 5 }, reversed.toArray());
+        assertEquals(1, reversed.getFirst());
+        assertEquals(5, reversed.getLast());
+        assertArrayEquals(new Object[]{ 1 }, single.toArray());
+        assertTrue(empty.isEmpty());
+    }
+
+    @Test
+    void givenALargeList_whenSortedInParallel_thenResultMatchesASequentialSort() {
+        Random random = new Random(5);
+        DoublyLinkedList<Integer> linkedList = new DoublyLinkedList<>();
+        List<Integer> expected = new ArrayList<>();
+        for (int i = 0; i < 200_000; i++) {
+            int e = random.nextInt(1_000);
+            linkedList.add(e);
+            expected.add(e);
+        }
+        Iterator<Integer> iterator = linkedList.iterator();
+
+        linkedList.parallelSort(Comparator.reverseOrder());
+        expected.sort(Comparator.reverseOrder());
+
+        assertArrayEquals(expected.toArray(), linkedList.toArray());
+        assertEquals(expected.get(expected.size() - 1), linkedList.getLast());
+        assertThrows(ConcurrentModificationException.class, iterator::next);
+    }
+
+    @Test
+    void givenElementsThatAreNotComparable_whenSortedByNaturalOrder_thenListIsUnchanged() {
+        DoublyLinkedList<Object> linkedList = DoublyLinkedList.fromArray(3, 1, 2, "x", 0, 5);
+        assertEquals(2, linkedList.get(2));
+
+        assertThrows(ClassCastException.class, linkedList::sort);
+
+        assertArrayEquals(new Object[]{ 3, 1, 2, "x", 0, 5 }, linkedList.toArray());
+        assertEquals(6, linkedList.size());
+        assertEquals(5, linkedList.getLast());
+        assertEquals("x", linkedList.get(3));
+    }
+
+    @Test
+    void givenAComparatorThatThrows_whenSorted_thenListIsUnchangedInBothDirections() {
+        Random random = new Random(23);
+        Integer[] elements = new Integer[2_000];
+        for (int i = 0; i < elements.length; i++) {
+            elements[i] = random.nextInt(500);
+        }
+
+        for (int failure : new int[]{ 1, 2, 7, 500, 1_500, 10_000, 19_000 }) {
+            DoublyLinkedList<Integer> linkedList = DoublyLinkedList.fromArray(elements);
+
+            assertThrows(IllegalStateException.class, () -> linkedList.sort(failingAt(failure)));
+
+            assertArrayEquals(elements, linkedList.toArray());
+            List<Integer> backward = new ArrayList<>();
+            for (ListIterator<Integer> iterator = linkedList.listIterator(linkedList.size()); iterator.hasPrevious(); ) {
+                backward.add(iterator.previous());
+            }
+            Collections.reverse(backward);
+            assertEquals(Arrays.asList(elements), backward);
+        }
+    }
+
+    @Test
+    void givenAComparatorThatThrows_whenSortedInParallel_thenListIsUnchanged() {
+        Random random = new Random(24);
+        Integer[] elements = new Integer[100_000];
+        for (int i = 0; i < elements.length; i++) {
+            elements[i] = random.nextInt();
+        }
+
+        for (int failure : new int[]{ 1, 50_000, 1_000_000, 1_500_000 }) {
+            DoublyLinkedList<Integer> linkedList = DoublyLinkedList.fromArray(elements);
+
+            assertThrows(IllegalStateException.class, () -> linkedList.parallelSort(failingAt(failure)));
+
+            assertArrayEquals(elements, linkedList.toArray());
+            assertEquals(elements[elements.length - 1], linkedList.getLast());
+        }
+    }
+
+    /**
+     * Returns a comparator that throws an IllegalStateException at its nth call.
+     */
+    private static Comparator<Integer> failingAt(int n) {
+        AtomicInteger calls = new AtomicInteger();
+        return (a, b) -> {
+            if(calls.incrementAndGet() == n) throw new IllegalStateException("Comparator failure");
+            return Integer.compare(a, b);
+        };
+    }
+
+}
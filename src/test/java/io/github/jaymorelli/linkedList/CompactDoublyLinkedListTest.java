@@ -0,0 +1,160 @@
+package io.github.jaymorelli.linkedList;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.List;
+import java.util.ListIterator;
+import java.util.NoSuchElementException;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CompactDoublyLinkedListTest {
+
+    @Test
+    void givenNoInput_whenNewListIsCreated_thenListIsEmpty() {
+        CompactDoublyLinkedList<String> list = new CompactDoublyLinkedList<>();
+        assertEquals(0, list.size());
+        assertTrue(list.isEmpty());
+        assertThrows(NoSuchElementException.class, list::getLast);
+        assertThrows(IndexOutOfBoundsException.class, list::removeLast);
+    }
+
+    @Test
+    void givenMoreElementsThanTheInitialCapacity_whenTheyAreAdded_thenTheyAreReturnedInOrder() {
+        CompactDoublyLinkedList<Integer> list = new CompactDoublyLinkedList<>(2);
+        for (int i = 0; i < 10; i++) {
+            list.add(i);
+        }
+        list.addFirst(-1);
+        list.add(5, 100);
+
+        assertEquals(12, list.size());
+        assertEquals(-1, list.getFirst());
+        assertEquals(9, list.getLast());
+        assertEquals(100, list.get(5));
+        assertEquals(4, list.get(6));
+    }
+
+    @Test
+    void givenAHandle_whenElementIsRemovedByHandle_thenItIsOutOfTheListAndTheHandleIsRejected() {
+        CompactDoublyLinkedList<String> list = new CompactDoublyLinkedList<>();
+        list.add("0");
+        int handle = list.addAndGetHandle("1");
+        list.add("2");
+
+        assertEquals("1", list.getByHandle(handle));
+        assertEquals(handle, list.handleOf(1));
+        assertTrue(list.removeByHandle(handle));
+
+        assertEquals(2, list.size());
+        assertEquals("2", list.get(1));
+        assertThrows(IllegalArgumentException.class, () -> list.getByHandle(handle));
+        assertThrows(IllegalArgumentException.class, () -> list.removeByHandle(42));
+    }
+
+    @Test
+    void givenRemovedSlots_whenNewElementsAreAdded_thenSlotsAreReused() {
+        CompactDoublyLinkedList<String> list = new CompactDoublyLinkedList<>();
+        int first = list.addAndGetHandle("0");
+        list.add("1");
+        list.removeFirst();
+
+        int reused = list.addFirstAndGetHandle("-1");
+
+        assertEquals(first, reused);
+        assertEquals("-1", list.getFirst());
+        assertEquals("1", list.getLast());
+    }
+
+    @Test
+    void givenAFragmentedList_whenCompacted_thenElementsKeepTheirOrder() {
+        CompactDoublyLinkedList<Integer> list = new CompactDoublyLinkedList<>();
+        for (int i = 0; i < 10; i++) {
+            list.addFirst(i);
+        }
+        list.remove(Integer.valueOf(5));
+        list.remove(0);
+
+        list.compact();
+
+        assertEquals(8, list.size());
+        assertEquals(0, list.handleOf(0));
+        assertEquals(7, list.handleOf(7));
+        assertEquals(8, list.getFirst());
+        assertEquals(0, list.getLast());
+        list.add(-1);
+        assertEquals(-1, list.getLast());
+    }
+
+    @Test
+    void givenAListIterator_whenEditingAtTheCursor_thenListMatchesExpectedContent() {
+        CompactDoublyLinkedList<Integer> list = new CompactDoublyLinkedList<>();
+        List<Integer> expected = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            list.add(i);
+            expected.add(i);
+        }
+
+        ListIterator<Integer> iterator = list.listIterator();
+        ListIterator<Integer> expectedIterator = expected.listIterator();
+        while (iterator.hasNext()) {
+            int e = iterator.next();
+            expectedIterator.next();
+            if(e % 3 == 0) {
+                iterator.remove();
+                expectedIterator.remove();
+            } else if(e % 3 == 1) {
+                iterator.add(-e);
+                expectedIterator.add(-e);
+            } else {
+                iterator.set(e * 10);
+                expectedIterator.set(e * 10);
+            }
+        }
+        while (iterator.hasPrevious()) {
+            assertEquals(expectedIterator.previous(), iterator.previous());
+        }
+
+        List<Integer> result = new ArrayList<>();
+        list.forEach(result::add);
+        assertEquals(expected, result);
+    }
+
+    @Test
+    void givenAnIterator_whenListIsModifiedOutsideOfIt_thenExceptionIsThrown() {
+        CompactDoublyLinkedList<String> list = new CompactDoublyLinkedList<>();
+        list.add("0");
+
+        Iterator<String> iterator = list.iterator();
+        list.clear();
+
+        assertThrows(ConcurrentModificationException.class, iterator::next);
+    }
+
+    @Test
+    void givenRandomOperations_whenAppliedToListAndArrayList_thenBothHoldTheSameElements() {
+        CompactDoublyLinkedList<Integer> list = new CompactDoublyLinkedList<>(4);
+        List<Integer> expected = new ArrayList<>();
+        Random random = new Random(7);
+
+        for (int op = 0; op < 10_000; op++) {
+            if(expected.isEmpty() || random.nextInt(3) < 2) {
+                int i = random.nextInt(expected.size() + 1);
+                list.add(i, op);
+                expected.add(i, op);
+            } else {
+                int i = random.nextInt(expected.size());
+                list.remove(i);
+                expected.remove(i);
+            }
+        }
+
+        List<Integer> result = new ArrayList<>();
+        list.forEach(result::add);
+        assertEquals(expected, result);
+    }
+}
@@ -0,0 +1,125 @@
+package io.github.jaymorelli.linkedList;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ConcurrentDoublyLinkedListTest {
+
+    @Test
+    void givenAnEmptyList_whenElementsAreRead_thenExceptionIsThrown() {
+        ConcurrentDoublyLinkedList<String> list = new ConcurrentDoublyLinkedList<>();
+
+        assertTrue(list.isEmpty());
+        assertThrows(NoSuchElementException.class, list::getFirst);
+        assertThrows(IndexOutOfBoundsException.class, list::removeLast);
+        assertNull(list.pollFirst());
+    }
+
+    @Test
+    void givenElementsAddedAtBothEnds_whenRemovedFromBothEnds_thenOrderIsKept() {
+        ConcurrentDoublyLinkedList<String> list = new ConcurrentDoublyLinkedList<>();
+        list.add("1");
+        list.add("2");
+        list.addFirst("0");
+
+        assertEquals(3, list.size());
+        assertEquals("0", list.getFirst());
+        assertEquals("2", list.getLast());
+        assertTrue(list.remove("1"));
+        assertEquals("2", list.pollLast());
+        assertTrue(list.removeFirst());
+        assertTrue(list.isEmpty());
+    }
+
+    @Test
+    void givenAnIterator_whenListIsModifiedDuringIteration_thenNoExceptionIsThrown() {
+        ConcurrentDoublyLinkedList<Integer> list = new ConcurrentDoublyLinkedList<>();
+        list.add(0);
+        list.add(1);
+
+        Iterator<Integer> iterator = list.iterator();
+        list.removeFirst();
+        list.add(2);
+
+        List<Integer> seen = new ArrayList<>();
+        iterator.forEachRemaining(seen::add);
+        assertTrue(seen.contains(1));
+    }
+
+    @Test
+    void givenProducersAndConsumersOnBothEnds_whenRunConcurrently_thenEveryElementIsConsumedExactlyOnceAndInProducerOrder() throws Exception {
+        ConcurrentDoublyLinkedList<long[]> list = new ConcurrentDoublyLinkedList<>();
+        int producers = 4;
+        int consumers = 4;
+        int perProducer = 50_000;
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicBoolean producing = new AtomicBoolean(true);
+        ExecutorService executor = Executors.newFixedThreadPool(producers + consumers);
+
+        List<Future<?>> producerFutures = new ArrayList<>();
+        for (int p = 0; p < producers; p++) {
+            long producer = p;
+            producerFutures.add(executor.submit(() -> {
+                start.await();
+                for (long i = 0; i < perProducer; i++) {
+                    list.add(new long[]{producer, i});
+                }
+                return null;
+            }));
+        }
+        //Elements are added at the tail, so a consumer taking from the head must see each producer's sequence in increasing order
+        List<Future<long[]>> consumerFutures = new ArrayList<>();
+        for (int c = 0; c < consumers; c++) {
+            boolean fromHead = c % 2 == 0;
+            consumerFutures.add(executor.submit(() -> {
+                start.await();
+                long[] counts = new long[producers];
+                long[] lastSeen = new long[producers];
+                Arrays.fill(lastSeen, fromHead ? -1 : Long.MAX_VALUE);
+                while (producing.get() || !list.isEmpty()) {
+                    long[] e = fromHead ? list.pollFirst() : list.pollLast();
+                    if(e == null) continue;
+                    int producer = (int) e[0];
+                    if(fromHead) {
+                        assertTrue(e[1] > lastSeen[producer]);
+                    }
+                    lastSeen[producer] = e[1];
+                    counts[producer]++;
+                }
+                return counts;
+            }));
+        }
+
+        start.countDown();
+        for (Future<?> future : producerFutures) {
+            future.get(30, TimeUnit.SECONDS);
+        }
+        producing.set(false);
+        long[] total = new long[producers];
+        for (Future<long[]> future : consumerFutures) {
+            long[] counts = future.get(30, TimeUnit.SECONDS);
+            for (int p = 0; p < producers; p++) {
+                total[p] += counts[p];
+            }
+        }
+        executor.shutdown();
+
+        for (int p = 0; p < producers; p++) {
+            assertEquals(perProducer, total[p]);
+        }
+        assertTrue(list.isEmpty());
+    }
+}
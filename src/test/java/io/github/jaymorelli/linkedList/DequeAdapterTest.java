@@ -0,0 +1,147 @@
+package io.github.jaymorelli.linkedList;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.ListIterator;
+import java.util.NoSuchElementException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DequeAdapterTest {
+
+    @Test
+    void givenADequeView_whenUsedOnBothEnds_thenUnderlyingListChanges() {
+        DoublyLinkedList<Integer> list = new DoublyLinkedList<>();
+        Deque<Integer> deque = list.asDeque();
+
+        deque.offerFirst(2);
+        deque.addFirst(1);
+        deque.offerLast(3);
+        deque.push(0);
+
+        assertArrayEquals(new Object[]{ 0, 1, 2, 3 }, list.toArray());
+        assertEquals(0, deque.peek());
+        assertEquals(3, deque.peekLast());
+        assertEquals(0, deque.pop());
+        assertEquals(3, deque.pollLast());
+        assertEquals(1, deque.removeFirst());
+        assertEquals(2, deque.remove());
+        assertTrue(list.isEmpty());
+        assertNull(deque.poll());
+        assertNull(deque.peekLast());
+        assertThrows(NoSuchElementException.class, deque::removeFirst);
+        assertThrows(NoSuchElementException.class, deque::element);
+    }
+
+    @Test
+    void givenRepeatedElements_whenRemovingOccurrences_thenTheRightOnesAreRemoved() {
+        DoublyLinkedList<String> list = DoublyLinkedList.fromArray("a", "b", "a", "c", "a");
+        Deque<String> deque = list.asDeque();
+
+        assertTrue(deque.removeLastOccurrence("a"));
+        assertTrue(deque.removeFirstOccurrence("a"));
+        assertFalse(deque.removeLastOccurrence("z"));
+
+        assertArrayEquals(new Object[]{ "b", "a", "c" }, list.toArray());
+        assertEquals(1, ((List<String>) deque).lastIndexOf("a"));
+    }
+
+    @Test
+    void givenADequeView_whenIteratedDescending_thenElementsComeFromTailToHead() {
+        DoublyLinkedList<Integer> list = DoublyLinkedList.fromArray(1, 2, 3, 4);
+        Iterator<Integer> iterator = list.asDeque().descendingIterator();
+
+        assertEquals(4, iterator.next());
+        assertEquals(3, iterator.next());
+        iterator.remove();
+        assertEquals(2, iterator.next());
+        assertEquals(1, iterator.next());
+        assertFalse(iterator.hasNext());
+        assertThrows(NoSuchElementException.class, iterator::next);
+        assertArrayEquals(new Object[]{ 1, 2, 4 }, list.toArray());
+    }
+
+    @Test
+    void givenAReversedView_whenUsedAsADeque_thenEndsAreSwapped() {
+        DoublyLinkedList<Integer> list = DoublyLinkedList.fromArray(1, 2, 3);
+        DequeAdapter<Integer> reversed = ((DequeAdapter<Integer>) list.asDeque()).reversed();
+
+        assertEquals(3, reversed.getFirst());
+        assertEquals(1, reversed.peekLast());
+        reversed.addFirst(4);
+        reversed.offerLast(0);
+        reversed.push(5);
+
+        assertArrayEquals(new Object[]{ 0, 1, 2, 3, 4, 5 }, list.toArray());
+        assertArrayEquals(new Object[]{ 5, 4, 3, 2, 1, 0 }, reversed.toArray());
+        assertEquals(5, reversed.pop());
+        assertEquals(0, reversed.pollLast());
+        assertEquals(4, reversed.removeFirst());
+        assertTrue(reversed.removeLastOccurrence(1));
+        assertArrayEquals(new Object[]{ 3, 2 }, reversed.toArray(new Integer[0]));
+        assertEquals(2, reversed.descendingIterator().next());
+        assertSame(list.asDeque().getClass(), reversed.reversed().getClass());
+        assertArrayEquals(new Object[]{ 2, 3 }, reversed.reversed().toArray());
+    }
+
+    @Test
+    void givenAReversedView_whenUsedAsAList_thenIndexesAreMirrored() {
+        DoublyLinkedList<String> list = DoublyLinkedList.fromArray("a", "b", "c", "b");
+        List<String> reversed = ((DequeAdapter<String>) list.asDeque()).reversed();
+
+        assertEquals(List.of("b", "c", "b", "a"), reversed);
+        assertEquals("c", reversed.get(1));
+        assertEquals(0, reversed.indexOf("b"));
+        assertEquals(2, reversed.lastIndexOf("b"));
+        assertEquals(-1, reversed.indexOf("z"));
+
+        reversed.add(1, "x");
+        reversed.add("y");
+        reversed.addAll(0, List.of("1", "2"));
+        assertEquals(List.of("1", "2", "b", "x", "c", "b", "a", "y"), reversed);
+        assertArrayEquals(new Object[]{ "y", "a", "b", "c", "x", "b", "2", "1" }, list.toArray());
+
+        assertEquals("x", reversed.remove(3));
+        assertTrue(reversed.remove("b"));
+        reversed.subList(0, 2).clear();
+        assertEquals(List.of("c", "b", "a", "y"), reversed);
+        assertArrayEquals(new Object[]{ "y", "a", "b", "c" }, list.toArray());
+        assertThrows(IndexOutOfBoundsException.class, () -> reversed.get(4));
+    }
+
+    @Test
+    void givenAReversedView_whenWalkedWithAListIterator_thenItMovesTheOtherWay() {
+        DoublyLinkedList<Integer> list = DoublyLinkedList.fromArray(1, 2, 3);
+        List<Integer> reversed = ((DequeAdapter<Integer>) list.asDeque()).reversed();
+        ListIterator<Integer> iterator = reversed.listIterator();
+
+        assertEquals(0, iterator.nextIndex());
+        assertEquals(3, iterator.next());
+        iterator.set(30);
+        iterator.add(25);
+        assertThrows(IllegalStateException.class, iterator::remove);
+        assertEquals(2, iterator.nextIndex());
+        assertEquals(2, iterator.next());
+        iterator.remove();
+        assertEquals(25, iterator.previous());
+        assertEquals(1, iterator.nextIndex());
+
+        assertEquals(List.of(30, 25, 1), reversed);
+        assertArrayEquals(new Object[]{ 1, 25, 30 }, list.toArray());
+    }
+
+    @Test
+    void givenAReversedView_whenSorted_thenTheViewIsInOrderAndEqualElementsKeepTheirOrder() {
+        DoublyLinkedList<String> list = DoublyLinkedList.fromArray("b2", "a", "b1", "c");
+        List<String> reversed = ((DequeAdapter<String>) list.asDeque()).reversed();
+
+        reversed.sort(Comparator.comparing(e -> e.charAt(0)));
+
+        assertEquals(List.of("a", "b1", "b2", "c"), reversed);
+        assertArrayEquals(new Object[]{ "c", "b2", "b1", "a" }, list.toArray());
+    }
+}
@@ -0,0 +1,154 @@
+package io.github.jaymorelli.linkedList;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.List;
+import java.util.ListIterator;
+import java.util.NoSuchElementException;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class IndexableSkipListTest {
+
+    @Test
+    void givenNoInput_whenNewListIsCreated_thenListIsEmpty() {
+        IndexableSkipList<String> list = new IndexableSkipList<>();
+        assertEquals(0, list.size());
+        assertTrue(list.isEmpty());
+        assertThrows(NoSuchElementException.class, list::getLast);
+        assertThrows(IndexOutOfBoundsException.class, () -> list.get(0));
+    }
+
+    @Test
+    void givenElementsAddedAtBothEndsAndInTheMiddle_whenGetIsCalled_thenElementsAreInOrder() {
+        IndexableSkipList<String> list = new IndexableSkipList<>();
+        list.add("1");
+        list.add("3");
+        list.addFirst("0");
+        list.add(2, "2");
+
+        assertEquals(4, list.size());
+        assertEquals("0", list.getFirst());
+        assertEquals("1", list.get(1));
+        assertEquals("2", list.get(2));
+        assertEquals("3", list.getLast());
+    }
+
+    @Test
+    void givenAList_whenElementsAreRemoved_thenTheyAreOutOfTheList() {
+        IndexableSkipList<Integer> list = new IndexableSkipList<>();
+        for (int i = 0; i < 10; i++) {
+            list.add(i);
+        }
+
+        assertTrue(list.remove(Integer.valueOf(5)));
+        assertFalse(list.remove(Integer.valueOf(5)));
+        list.remove(4);
+        list.removeFirst();
+        list.removeLast();
+
+        assertEquals(6, list.size());
+        assertEquals(1, list.getFirst());
+        assertEquals(8, list.getLast());
+        assertEquals(6, list.get(3));
+    }
+
+    @Test
+    void givenAClearedList_whenElementsAreAdded_thenListIsUsable() {
+        IndexableSkipList<Integer> list = new IndexableSkipList<>();
+        for (int i = 0; i < 100; i++) {
+            list.add(i);
+        }
+        list.clear();
+
+        list.add(1);
+        list.addFirst(0);
+
+        assertEquals(2, list.size());
+        assertEquals(0, list.get(0));
+        assertEquals(1, list.get(1));
+    }
+
+    @Test
+    void givenAListIterator_whenEditingAtTheCursor_thenListMatchesExpectedContent() {
+        IndexableSkipList<Integer> list = new IndexableSkipList<>();
+        List<Integer> expected = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            list.add(i);
+            expected.add(i);
+        }
+
+        ListIterator<Integer> iterator = list.listIterator();
+        ListIterator<Integer> expectedIterator = expected.listIterator();
+        while (iterator.hasNext()) {
+            int e = iterator.next();
+            expectedIterator.next();
+            if(e % 3 == 0) {
+                iterator.remove();
+                expectedIterator.remove();
+            } else if(e % 3 == 1) {
+                iterator.add(-e);
+                expectedIterator.add(-e);
+            } else {
+                iterator.set(e * 10);
+                expectedIterator.set(e * 10);
+            }
+        }
+        while (iterator.hasPrevious()) {
+            assertEquals(expectedIterator.previous(), iterator.previous());
+            if(iterator.nextIndex() % 4 == 0) {
+                iterator.remove();
+                expectedIterator.remove();
+            }
+        }
+
+        List<Integer> result = new ArrayList<>();
+        list.forEach(result::add);
+        assertEquals(expected, result);
+    }
+
+    @Test
+    void givenAnIterator_whenListIsModifiedOutsideOfIt_thenExceptionIsThrown() {
+        IndexableSkipList<String> list = new IndexableSkipList<>();
+        list.add("0");
+
+        Iterator<String> iterator = list.iterator();
+        list.add("1");
+
+        assertThrows(ConcurrentModificationException.class, iterator::next);
+    }
+
+    @Test
+    void givenRandomOperations_whenAppliedToListAndArrayList_thenBothHoldTheSameElements() {
+        IndexableSkipList<Integer> list = new IndexableSkipList<>();
+        List<Integer> expected = new ArrayList<>();
+        Random random = new Random(11);
+
+        for (int op = 0; op < 20_000; op++) {
+            int choice = random.nextInt(4);
+            if(expected.isEmpty() || choice < 2) {
+                int i = random.nextInt(expected.size() + 1);
+                list.add(i, op);
+                expected.add(i, op);
+            } else if(choice == 2) {
+                int i = random.nextInt(expected.size());
+                list.remove(i);
+                expected.remove(i);
+            } else {
+                int i = random.nextInt(expected.size());
+                assertEquals(expected.get(i), list.get(i));
+            }
+        }
+
+        List<Integer> result = new ArrayList<>();
+        list.forEach(result::add);
+        assertEquals(expected, result);
+        for (int i = 0; i < expected.size(); i++) {
+            assertEquals(expected.get(i), list.get(i));
+        }
+    }
+}
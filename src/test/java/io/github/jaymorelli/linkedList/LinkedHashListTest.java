@@ -0,0 +1,144 @@
+package io.github.jaymorelli.linkedList;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.List;
+import java.util.ListIterator;
+import java.util.NoSuchElementException;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LinkedHashListTest {
+
+    @Test
+    void givenNoInput_whenNewListIsCreated_thenListIsEmpty() {
+        LinkedHashList<String> list = new LinkedHashList<>();
+
+        assertTrue(list.isEmpty());
+        assertFalse(list.contains("a"));
+        assertEquals(-1, list.indexOf("a"));
+        assertFalse(list.remove("a"));
+        assertThrows(NoSuchElementException.class, list::getFirst);
+        assertThrows(IndexOutOfBoundsException.class, list::removeLast);
+    }
+
+    @Test
+    void givenRepeatedElements_whenRemovedByValue_thenFirstOrLastOccurrenceIsRemoved() {
+        LinkedHashList<String> list = new LinkedHashList<>();
+        for (String s : new String[]{"a", "b", "a", "c", "a"}) {
+            list.add(s);
+        }
+
+        assertEquals(3, list.count("a"));
+        assertEquals(0, list.indexOf("a"));
+        assertEquals(4, list.lastIndexOf("a"));
+        assertTrue(list.remove("a"));
+        assertEquals(1, list.indexOf("a"));
+        assertTrue(list.removeLastOccurrence("a"));
+        assertEquals(List.of("b", "a", "c"), toList(list));
+        assertTrue(list.remove("a"));
+        assertFalse(list.contains("a"));
+        assertEquals(0, list.count("a"));
+        assertEquals(List.of("b", "c"), toList(list));
+    }
+
+    @Test
+    void givenElementsInsertedInTheMiddle_whenRemovedByValue_thenOccurrencesFollowListOrder() {
+        LinkedHashList<Integer> list = new LinkedHashList<>();
+        list.add(1);
+        list.add(2);
+        list.add(3);
+        list.add(2, 1);
+        list.add(1, 1);
+        list.addFirst(null);
+        list.add(null);
+
+        assertEquals(Arrays.asList(null, 1, 1, 2, 1, 3, null), toList(list));
+        assertEquals(1, list.indexOf(1));
+        assertEquals(4, list.lastIndexOf(1));
+        assertTrue(list.removeLastOccurrence(1));
+        assertTrue(list.remove(null));
+        assertEquals(Arrays.asList(1, 1, 2, 3, null), toList(list));
+        assertEquals(4, list.indexOf(null));
+    }
+
+    @Test
+    void givenAListIterator_whenElementsAreSetAddedAndRemoved_thenIndexIsUpdated() {
+        LinkedHashList<String> list = new LinkedHashList<>();
+        list.add("a");
+        list.add("b");
+        list.add("c");
+
+        ListIterator<String> iterator = list.listIterator(1);
+        iterator.next();
+        iterator.set("a");
+        iterator.add("d");
+        iterator.next();
+        iterator.remove();
+
+        assertEquals(List.of("a", "a", "d"), toList(list));
+        assertEquals(2, list.count("a"));
+        assertFalse(list.contains("b"));
+        assertFalse(list.contains("c"));
+        assertEquals(2, list.indexOf("d"));
+        assertTrue(list.removeLastOccurrence("a"));
+        assertEquals(List.of("a", "d"), toList(list));
+    }
+
+    @Test
+    void givenAnIterator_whenListIsModifiedOutsideOfIt_thenExceptionIsThrown() {
+        LinkedHashList<String> list = new LinkedHashList<>();
+        list.add("a");
+        list.add("b");
+        Iterator<String> iterator = list.iterator();
+        iterator.next();
+
+        list.remove("b");
+
+        assertThrows(ConcurrentModificationException.class, iterator::next);
+    }
+
+    @Test
+    void givenRandomOperations_whenComparedToAnArrayList_thenBothHoldTheSameElements() {
+        LinkedHashList<Integer> list = new LinkedHashList<>();
+        List<Integer> expected = new ArrayList<>();
+        Random random = new Random(42);
+        for (int step = 0; step < 20_000; step++) {
+            Integer value = random.nextInt(50);
+            int operation = random.nextInt(6);
+            if(operation <= 1 || expected.isEmpty()) {
+                int i = random.nextInt(expected.size() + 1);
+                list.add(i, value);
+                expected.add(i, value);
+            } else if(operation == 2) {
+                assertEquals(expected.remove(value), list.remove(value));
+            } else if(operation == 3) {
+                int i = expected.lastIndexOf(value);
+                if(i >= 0) expected.remove(i);
+                assertEquals(i >= 0, list.removeLastOccurrence(value));
+            } else if(operation == 4) {
+                int i = random.nextInt(expected.size());
+                list.remove(i);
+                expected.remove(i);
+            } else {
+                assertEquals(expected.indexOf(value), list.indexOf(value));
+                assertEquals(expected.lastIndexOf(value), list.lastIndexOf(value));
+                assertEquals(Collections.frequency(expected, value), list.count(value));
+            }
+        }
+
+        assertEquals(expected, toList(list));
+    }
+
+    private static <E> List<E> toList(LinkedHashList<E> list) {
+        List<E> result = new ArrayList<>();
+        list.forEach(result::add);
+        return result;
+    }
+}
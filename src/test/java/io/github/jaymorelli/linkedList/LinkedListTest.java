@@ -5,7 +5,17 @@ import static org.junit.jupiter.api.Assertions.*;
 import io.github.jaymorelli.linkedList.LinkedList;
 import org.junit.jupiter.api.Test;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.List;
+import java.util.ListIterator;
 import java.util.NoSuchElementException;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicInteger;
 
 
 class LinkedListTest {
@@ -199,4 +209,244 @@ class LinkedListTest {
     }
 
 
-}
\ No newline at end of file
+    @Test
+    void add_givenIndexOfLastElement_elementIsInsertedBeforeLastElement() {
+        LinkedList<String> linkedList = new LinkedList<>();
+        linkedList.add("Element 1");
+        linkedList.add("Element 3");
+        linkedList.add(1, "Element 2");
+        assertEquals(3, linkedList.size());
+        assertEquals("Element 2", linkedList.get(1));
+        assertEquals("Element 3", linkedList.getLast());
+    }
+
+    @Test
+    void remove_givenHeadElement_removeHeadFromList() {
+        LinkedList<String> linkedList = new LinkedList<>();
+        linkedList.add("Element 1");
+        linkedList.add("Element 2");
+        assertTrue(linkedList.remove("Element 1"));
+        assertEquals(1, linkedList.size());
+        assertEquals("Element 2", linkedList.getFirst());
+    }
+
+    @Test
+    void iterator_givenList_returnsElementsInOrder() {
+        LinkedList<String> linkedList = new LinkedList<>();
+        linkedList.add("Element 1");
+        linkedList.add("Element 2");
+        linkedList.add("Element 3");
+
+        StringBuilder result = new StringBuilder();
+        for (String e : linkedList) {
+            result.append(e).append(';');
+        }
+
+        assertEquals("Element 1;Element 2;Element 3;", result.toString());
+    }
+
+    @Test
+    void listIterator_walkingBackwards_returnsElementsInReverseOrder() {
+        LinkedList<String> linkedList = new LinkedList<>();
+        linkedList.add("Element 1");
+        linkedList.add("Element 2");
+
+        ListIterator<String> iterator = linkedList.listIterator(2);
+
+        assertEquals("Element 2", iterator.previous());
+        assertEquals("Element 1", iterator.previous());
+        assertFalse(iterator.hasPrevious());
+        assertEquals("Element 1", iterator.next());
+    }
+
+    @Test
+    void listIterator_removeSetAndAddAtCursor_updatesList() {
+        LinkedList<String> linkedList = new LinkedList<>();
+        linkedList.add("Element 1");
+        linkedList.add("Element 2");
+        linkedList.add("Element 3");
+
+        ListIterator<String> iterator = linkedList.listIterator();
+        iterator.next();
+        iterator.remove();
+        iterator.add("New Head");
+        iterator.next();
+        iterator.set("New Element 2");
+        assertEquals("New Element 2", iterator.previous());
+        iterator.remove();
+        iterator.next();
+        iterator.add("Last Element");
+
+        assertEquals(3, linkedList.size());
+        assertEquals("New Head", linkedList.getFirst());
+        assertEquals("Element 3", linkedList.get(1));
+        assertEquals("Last Element", linkedList.getLast());
+    }
+
+    @Test
+    void iterator_listModifiedOutsideOfIterator_throwsException() {
+        LinkedList<String> linkedList = new LinkedList<>();
+        linkedList.add("Element 1");
+        linkedList.add("Element 2");
+
+        Iterator<String> iterator = linkedList.iterator();
+        iterator.next();
+        linkedList.removeFirst();
+
+        assertThrows(ConcurrentModificationException.class, iterator::next);
+    }
+
+    @Test
+    void givenAList_whenAddAllIsCalledAtTheHeadMiddleAndTail_thenElementsAreInsertedInOrder() {
+        LinkedList<Integer> linkedList = LinkedList.fromArray(2, 5);
+
+        assertTrue(linkedList.addAll(1, Arrays.asList(3, 4)));
+        assertTrue(linkedList.addAll(0, Arrays.asList(0, 1)));
+        assertTrue(linkedList.addAll(Arrays.asList(6, 7)));
+        assertFalse(linkedList.addAll(3, Collections.emptyList()));
+
+        assertEquals(8, linkedList.size());
+        assertArrayEquals(new Object[]{0, 1, 2, 3, 4, 5, 6, 7}, linkedList.toArray());
+        assertThrows(IndexOutOfBoundsException.class, () -> linkedList.addAll(9, Arrays.asList(1)));
+    }
+
+    @Test
+    void givenAList_whenRemoveRangeIsCalled_thenOnlyThatRangeIsRemoved() {
+        LinkedList<Integer> linkedList = LinkedList.fromArray(0, 1, 2, 3, 4, 5, 6, 7);
+
+        linkedList.removeRange(2, 4);
+        assertArrayEquals(new Object[]{0, 1, 4, 5, 6, 7}, linkedList.toArray());
+        linkedList.removeRange(0, 1);
+        assertArrayEquals(new Object[]{1, 4, 5, 6, 7}, linkedList.toArray());
+        linkedList.removeRange(3, 5);
+        assertArrayEquals(new Object[]{1, 4, 5}, linkedList.toArray());
+        linkedList.removeRange(1, 1);
+        assertEquals(3, linkedList.size());
+        assertEquals(5, linkedList.getLast());
+        assertThrows(IndexOutOfBoundsException.class, () -> linkedList.removeRange(2, 1));
+        linkedList.removeRange(0, 3);
+        assertTrue(linkedList.isEmpty());
+        assertEquals(0, linkedList.toArray().length);
+    }
+
+    @Test
+    void givenAListWithEqualKeys_whenSorted_thenOrderIsStable() {
+        Random random = new Random(3);
+        LinkedList<int[]> linkedList = new LinkedList<>();
+        List<int[]> expected = new ArrayList<>();
+        for (int i = 0; i < 10_000; i++) {
+            //Key in [0], insertion order in [1]
+            int[] element = { random.nextInt(100), i };
+            linkedList.add(element);
+            expected.add(element);
+        }
+
+        linkedList.sort(Comparator.comparingInt(e -> e[0]));
+        expected.sort(Comparator.comparingInt(e -> e[0]));
+
+        assertArrayEquals(expected.toArray(), linkedList.toArray());
+        assertSame(expected.get(9_999), linkedList.getLast());
+    }
+
+    @Test
+    void givenNearlySortedAndReversedLists_whenSortedByNaturalOrder_thenElementsAreAscending() {
+        LinkedList<Integer> nearlySorted = LinkedList.fromArray(1, 2, 3, 7, 4, 5, 6, 8);
+        LinkedList<Integer> reversed = LinkedList.fromArray(4, 3, 2, 1);
+
+        nearlySorted.sort();
+        reversed.sort(null);
+
+        assertArrayEquals(new Object[]{ 1, 2, 3, 4, 5, 6, 7, 8 }, nearlySorted.toArray());
+        assertArrayEquals(new Object[]{ 1, 2, 3, 4 }, reversed.toArray());
+        assertThrows(ClassCastException.class, () -> LinkedList.<Object>fromArray(1, "a").sort());
+    }
+
+    @Test
+    void givenALargeList_whenSortedInParallel_thenResultMatchesASequentialSort() {
+        Random random = new Random(9);
+        LinkedList<Integer> linkedList = new LinkedList<>();
+        List<Integer> expected = new ArrayList<>();
+        for (int i = 0; i < 100_000; i++) {
+            int e = random.nextInt();
+            linkedList.addFirst(e);
+            expected.add(0, e);
+        }
+
+        linkedList.parallelSort();
+        Collections.sort(expected);
+
+        assertArrayEquals(expected.toArray(), linkedList.toArray());
+    }
+
+    @Test
+    void givenElementsThatAreNotComparable_whenSortedByNaturalOrder_thenListKeepsAllItsElements() {
+        LinkedList<Object> linkedList = LinkedList.fromArray(3, 1, 2, "x", 0, 5);
+
+        assertThrows(ClassCastException.class, linkedList::sort);
+
+        assertEquals(6, linkedList.size());
+        List<Object> elements = new ArrayList<>(Arrays.asList(linkedList.toArray()));
+        assertEquals(6, elements.size());
+        assertTrue(elements.containsAll(List.of(3, 1, 2, "x", 0, 5)));
+    }
+
+    @Test
+    void givenAComparatorThatThrows_whenSorted_thenListKeepsAllItsElementsAndCanBeSortedAgain() {
+        Random random = new Random(21);
+        List<Integer> expected = new ArrayList<>();
+        for (int i = 0; i < 2_000; i++) {
+            expected.add(random.nextInt(500));
+        }
+        List<Integer> sorted = new ArrayList<>(expected);
+        Collections.sort(sorted);
+
+        for (int failure : new int[]{ 1, 2, 7, 500, 1_500, 10_000, 19_000 }) {
+            LinkedList<Integer> linkedList = LinkedList.fromArray(expected.toArray(new Integer[0]));
+            Iterator<Integer> iterator = linkedList.iterator();
+
+            assertThrows(IllegalStateException.class, () -> linkedList.sort(failingAt(failure)));
+
+            assertEquals(2_000, linkedList.size());
+            Object[] elements = linkedList.toArray();
+            Arrays.sort(elements);
+            assertArrayEquals(sorted.toArray(), elements);
+            assertThrows(ConcurrentModificationException.class, iterator::next);
+            linkedList.sort();
+            assertArrayEquals(sorted.toArray(), linkedList.toArray());
+        }
+    }
+
+    @Test
+    void givenAComparatorThatThrows_whenSortedInParallel_thenListKeepsAllItsElements() {
+        Random random = new Random(22);
+        Integer[] elements = new Integer[100_000];
+        for (int i = 0; i < elements.length; i++) {
+            elements[i] = random.nextInt();
+        }
+        Integer[] sorted = elements.clone();
+        Arrays.sort(sorted);
+
+        for (int failure : new int[]{ 1, 50_000, 1_000_000, 1_500_000 }) {
+            LinkedList<Integer> linkedList = LinkedList.fromArray(elements);
+
+            assertThrows(IllegalStateException.class, () -> linkedList.parallelSort(failingAt(failure)));
+
+            assertEquals(elements.length, linkedList.size());
+            Object[] remaining = linkedList.toArray();
+            Arrays.sort(remaining);
+            assertArrayEquals(sorted, remaining);
+        }
+    }
+
+    /**
+     * Returns a comparator that throws an IllegalStateException at its nth call.
+     */
+    private static Comparator<Integer> failingAt(int n) {
+        AtomicInteger calls = new AtomicInteger();
+        return (a, b) -> {
+            if(calls.incrementAndGet() == n) throw new IllegalStateException("Comparator failure");
+            return Integer.compare(a, b);
+        };
+    }
+
+}
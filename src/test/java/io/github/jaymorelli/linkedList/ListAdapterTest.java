@@ -0,0 +1,82 @@
+package io.github.jaymorelli.linkedList;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ListAdapterTest {
+
+    @Test
+    void givenAnAdaptedLinkedList_whenSortedWithCollections_thenUnderlyingListIsSorted() {
+        LinkedList<Integer> list = LinkedList.fromArray(5, 3, 9, 1, 7);
+
+        Collections.sort(list.asList());
+
+        assertArrayEquals(new Object[]{ 1, 3, 5, 7, 9 }, list.toArray());
+    }
+
+    @Test
+    void givenAnAdaptedDoublyLinkedList_whenUsedByJdkApis_thenResultsMatchAnArrayList() {
+        DoublyLinkedList<String> list = DoublyLinkedList.fromArray("b", "a", "c", "a");
+        List<String> view = list.asList();
+
+        assertEquals(List.of("b", "a", "c", "a"), view);
+        assertEquals(List.of("b", "a", "c", "a").hashCode(), view.hashCode());
+        assertEquals(new ArrayList<>(view), view);
+        assertEquals("b,a,c,a", view.stream().collect(Collectors.joining(",")));
+        assertEquals("c", Collections.max(view, Comparator.naturalOrder()));
+        assertEquals(1, view.indexOf("a"));
+        assertEquals(3, view.lastIndexOf("a"));
+        assertEquals(-1, view.indexOf("z"));
+        assertTrue(view.contains("c"));
+        assertFalse(view.contains("z"));
+        assertArrayEquals(new String[]{ "b", "a", "c", "a" }, view.toArray(new String[0]));
+    }
+
+    @Test
+    void givenAnAdaptedList_whenModifiedThroughTheView_thenUnderlyingListChanges() {
+        LinkedList<Integer> list = LinkedList.fromArray(1, 2, 3, 4, 5, 6);
+        List<Integer> view = list.asList();
+
+        assertTrue(view.removeIf(e -> e % 2 == 0));
+        assertEquals(3, list.size());
+        assertEquals(Integer.valueOf(3), view.remove(1));
+        view.add(0, 0);
+        view.addAll(List.of(7, 8));
+        assertTrue(view.remove(Integer.valueOf(8)));
+        view.set(1, 10);
+
+        assertArrayEquals(new Object[]{ 0, 10, 5, 7 }, list.toArray());
+        assertThrows(IndexOutOfBoundsException.class, () -> view.get(4));
+        assertThrows(IndexOutOfBoundsException.class, () -> view.add(5, 1));
+    }
+
+    @Test
+    void givenASubList_whenCleared_thenRangeIsRemovedFromUnderlyingList() {
+        DoublyLinkedList<Integer> list = DoublyLinkedList.fromArray(0, 1, 2, 3, 4, 5);
+        List<Integer> view = list.asList();
+
+        List<Integer> middle = view.subList(1, 4);
+        assertEquals(List.of(1, 2, 3), middle);
+        middle.clear();
+
+        assertArrayEquals(new Object[]{ 0, 4, 5 }, list.toArray());
+        assertThrows(IndexOutOfBoundsException.class, () -> view.subList(2, 4));
+    }
+
+    @Test
+    void givenAJdkList_whenAdaptedListIsAddedToIt_thenElementsAreCopiedInOrder() {
+        LinkedList<Integer> list = LinkedList.fromArray(1, 2, 3);
+        List<Integer> copy = new ArrayList<>(List.of(0));
+
+        copy.addAll(list.asList());
+
+        assertEquals(List.of(0, 1, 2, 3), copy);
+    }
+}
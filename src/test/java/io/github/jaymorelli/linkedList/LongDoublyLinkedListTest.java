@@ -0,0 +1,81 @@
+package io.github.jaymorelli.linkedList;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ConcurrentModificationException;
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LongDoublyLinkedListTest {
+
+    @Test
+    void givenNoInput_whenNewListIsCreated_thenListIsEmpty() {
+        LongDoublyLinkedList list = new LongDoublyLinkedList();
+        assertEquals(0, list.size());
+        assertTrue(list.isEmpty());
+        assertThrows(NoSuchElementException.class, list::getFirst);
+        assertThrows(IndexOutOfBoundsException.class, list::removeFirst);
+    }
+
+    @Test
+    void givenElementsAddedAtBothEndsAndInTheMiddle_whenGetIsCalled_thenElementsAreInOrder() {
+        LongDoublyLinkedList list = new LongDoublyLinkedList();
+        list.add(2);
+        list.add(4);
+        list.addFirst(1);
+        list.add(2, 3);
+        list.add(0, 0);
+
+        assertEquals(5, list.size());
+        assertEquals(0, list.getFirst());
+        assertEquals(4, list.getLast());
+        assertArrayEquals(new long[]{0, 1, 2, 3, 4}, list.toArray());
+    }
+
+    @Test
+    void givenAList_whenElementsAreRemovedByIndexAndByValue_thenTheyAreOutOfTheList() {
+        LongDoublyLinkedList list = new LongDoublyLinkedList();
+        for (int i = 0; i < 6; i++) {
+            list.add(i * 10);
+        }
+
+        list.remove(1);
+        assertTrue(list.removeValue(40));
+        assertFalse(list.removeValue(40));
+        list.removeFirst();
+        list.removeLast();
+
+        assertArrayEquals(new long[]{20, 30}, list.toArray());
+        assertEquals(30, list.get(1));
+    }
+
+    @Test
+    void givenAList_whenIteratedAndStreamed_thenAllValuesAreVisited() {
+        LongDoublyLinkedList list = new LongDoublyLinkedList();
+        for (int i = 1; i <= 100; i++) {
+            list.add(i);
+        }
+
+        long sum = 0;
+        PrimitiveIterator.OfLong iterator = list.iterator();
+        while (iterator.hasNext()) {
+            sum += iterator.nextLong();
+        }
+
+        assertEquals(5050, sum);
+        assertEquals(5050, list.stream().sum());
+    }
+
+    @Test
+    void givenAnIterator_whenListIsModifiedOutsideOfIt_thenExceptionIsThrown() {
+        LongDoublyLinkedList list = new LongDoublyLinkedList();
+        list.add(1);
+
+        PrimitiveIterator.OfLong iterator = list.iterator();
+        list.add(2);
+
+        assertThrows(ConcurrentModificationException.class, iterator::nextLong);
+    }
+}
@@ -0,0 +1,163 @@
+package io.github.jaymorelli.linkedList;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.util.ListIterator;
+import java.util.NoSuchElementException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class OffHeapDoublyLinkedListTest {
+
+    @Test
+    void givenNoInput_whenNewListIsCreated_thenListIsEmptyAndNothingIsAllocated() {
+        try (OffHeapDoublyLinkedList<long[]> list = new OffHeapDoublyLinkedList<>(RecordCodec.ofLongs(2))) {
+            assertTrue(list.isEmpty());
+            assertEquals(0, list.allocatedBytes());
+            assertThrows(NoSuchElementException.class, list::getFirst);
+        }
+    }
+
+    @Test
+    void givenRecords_whenTheyAreAddedAtBothEndsAndInTheMiddle_thenTheyAreReadBackInOrder() {
+        try (OffHeapDoublyLinkedList<long[]> list = new OffHeapDoublyLinkedList<>(RecordCodec.ofLongs(2))) {
+            list.add(new long[]{2, 20});
+            list.addFirst(new long[]{0, 0});
+            list.add(1, new long[]{1, 10});
+
+            assertEquals(3, list.size());
+            assertArrayEquals(new long[]{0, 0}, list.getFirst());
+            assertArrayEquals(new long[]{1, 10}, list.get(1));
+            assertArrayEquals(new long[]{2, 20}, list.getLast());
+        }
+    }
+
+    @Test
+    void givenARecord_whenRemovedByValue_thenRecordWithTheSameContentIsRemoved() {
+        try (OffHeapDoublyLinkedList<long[]> list = new OffHeapDoublyLinkedList<>(RecordCodec.ofLongs(1))) {
+            list.add(new long[]{1});
+            list.add(new long[]{2});
+            list.add(new long[]{3});
+
+            assertTrue(list.remove(new long[]{2}));
+            assertFalse(list.remove(new long[]{2}));
+            list.removeFirst();
+
+            assertEquals(1, list.size());
+            assertArrayEquals(new long[]{3}, list.getFirst());
+        }
+    }
+
+    @Test
+    void givenMoreRecordsThanAChunkHolds_whenTheyAreAddedAndRemoved_thenSlotsAreReused() {
+        try (OffHeapDoublyLinkedList<long[]> list = new OffHeapDoublyLinkedList<>(RecordCodec.ofLongs(4))) {
+            for (long i = 0; i < 100_000; i++) {
+                list.add(new long[]{i, i, i, i});
+            }
+            long allocated = list.allocatedBytes();
+            for (int i = 0; i < 50_000; i++) {
+                list.removeFirst();
+            }
+            for (long i = 0; i < 50_000; i++) {
+                list.add(new long[]{i, 0, 0, 0});
+            }
+
+            assertEquals(allocated, list.allocatedBytes());
+            assertEquals(100_000, list.size());
+            assertEquals(50_000, list.getFirst()[0]);
+            assertEquals(49_999, list.getLast()[0]);
+        }
+    }
+
+    @Test
+    void givenRecordsTheCodecRejects_whenTheyAreAdded_thenNoSlotIsLeaked() {
+        try (OffHeapDoublyLinkedList<long[]> list = new OffHeapDoublyLinkedList<>(RecordCodec.ofLongs(2))) {
+            list.add(new long[]{1, 2});
+            long allocated = list.allocatedBytes();
+
+            //Far more failures than a chunk has slots
+            for (int i = 0; i < 200_000; i++) {
+                assertThrows(IllegalArgumentException.class, () -> list.add(new long[]{3}));
+            }
+            list.add(new long[]{4, 5});
+
+            assertEquals(allocated, list.allocatedBytes());
+            assertEquals(2, list.size());
+            assertArrayEquals(new long[]{1, 2}, list.getFirst());
+            assertArrayEquals(new long[]{4, 5}, list.getLast());
+        }
+    }
+
+    @Test
+    void givenAListIterator_whenRecordsAreSetAndRemovedAtTheCursor_thenListIsUpdated() {
+        try (OffHeapDoublyLinkedList<long[]> list = new OffHeapDoublyLinkedList<>(RecordCodec.ofLongs(1))) {
+            for (long i = 0; i < 4; i++) {
+                list.add(new long[]{i});
+            }
+
+            ListIterator<long[]> iterator = list.listIterator();
+            iterator.next();
+            iterator.remove();
+            iterator.next();
+            iterator.set(new long[]{10});
+            iterator.add(new long[]{15});
+            assertArrayEquals(new long[]{15}, iterator.previous());
+
+            assertEquals(4, list.size());
+            assertArrayEquals(new long[]{10}, list.get(0));
+            assertArrayEquals(new long[]{15}, list.get(1));
+            assertArrayEquals(new long[]{3}, list.getLast());
+        }
+    }
+
+    @Test
+    void givenAClosedList_whenItIsUsed_thenExceptionIsThrown() {
+        OffHeapDoublyLinkedList<long[]> list = new OffHeapDoublyLinkedList<>(RecordCodec.ofLongs(1));
+        list.add(new long[]{1});
+        ListIterator<long[]> iterator = list.listIterator(0);
+        list.close();
+
+        assertThrows(IllegalStateException.class, () -> list.add(new long[]{2}));
+        assertThrows(IllegalStateException.class, () -> list.get(0));
+        assertThrows(IllegalStateException.class, list::size);
+        assertThrows(IllegalStateException.class, list::isEmpty);
+        assertThrows(IllegalStateException.class, iterator::hasNext);
+        assertThrows(IllegalStateException.class, iterator::nextIndex);
+    }
+
+    @Test
+    void givenACodecFailingPartway_whenSetThroughTheIterator_thenThePreviousRecordIsKept() {
+        //Writes the first long, then rejects records whose second long is negative
+        RecordCodec<long[]> codec = new RecordCodec<>() {
+            private final RecordCodec<long[]> longs = RecordCodec.ofLongs(2);
+
+            @Override
+            public int recordSize() {
+                return longs.recordSize();
+            }
+
+            @Override
+            public void write(long[] record, ByteBuffer buffer, int offset) {
+                buffer.putLong(offset, record[0]);
+                if(record[1] < 0) throw new IllegalArgumentException("Negative second value");
+                buffer.putLong(offset + Long.BYTES, record[1]);
+            }
+
+            @Override
+            public long[] read(ByteBuffer buffer, int offset) {
+                return longs.read(buffer, offset);
+            }
+        };
+        try (OffHeapDoublyLinkedList<long[]> list = new OffHeapDoublyLinkedList<>(codec)) {
+            list.add(new long[]{1, 2});
+            ListIterator<long[]> iterator = list.listIterator(0);
+            iterator.next();
+
+            assertThrows(IllegalArgumentException.class, () -> iterator.set(new long[]{7, -1}));
+            assertArrayEquals(new long[]{1, 2}, list.getFirst());
+            iterator.set(new long[]{3, 4});
+            assertArrayEquals(new long[]{3, 4}, list.getFirst());
+        }
+    }
+}
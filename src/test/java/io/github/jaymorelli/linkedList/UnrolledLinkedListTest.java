@@ -0,0 +1,211 @@
+package io.github.jaymorelli.linkedList;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.List;
+import java.util.ListIterator;
+import java.util.NoSuchElementException;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class UnrolledLinkedListTest {
+
+    @Test
+    void givenNoInput_whenNewListIsCreated_thenListIsEmpty() {
+        UnrolledLinkedList<String> list = new UnrolledLinkedList<>();
+        assertEquals(0, list.size());
+        assertTrue(list.isEmpty());
+        assertThrows(NoSuchElementException.class, list::getFirst);
+        assertThrows(IndexOutOfBoundsException.class, list::removeLast);
+    }
+
+    @Test
+    void givenANodeCapacityLessThan2_whenListIsCreated_thenExceptionIsThrown() {
+        assertThrows(IllegalArgumentException.class, () -> new UnrolledLinkedList<String>(1));
+    }
+
+    @Test
+    void givenMoreElementsThanANodeHolds_whenTheyAreAdded_thenTheyAreReturnedInOrder() {
+        UnrolledLinkedList<Integer> list = new UnrolledLinkedList<>(4);
+        for (int i = 0; i < 10; i++) {
+            list.add(i);
+        }
+
+        assertEquals(10, list.size());
+        assertEquals(0, list.getFirst());
+        assertEquals(9, list.getLast());
+        for (int i = 0; i < 10; i++) {
+            assertEquals(i, list.get(i));
+        }
+    }
+
+    @Test
+    void givenAFullNode_whenElementIsInsertedInTheMiddle_thenNodeIsSplit() {
+        UnrolledLinkedList<String> list = new UnrolledLinkedList<>(4);
+        list.add("0");
+        list.add("1");
+        list.add("3");
+        list.add("4");
+
+        list.add(2, "2");
+        list.addFirst("-1");
+
+        assertEquals(6, list.size());
+        assertEquals("-1", list.get(0));
+        assertEquals("2", list.get(3));
+        assertEquals("4", list.getLast());
+    }
+
+    @Test
+    void givenAList_whenElementsAreRemoved_thenNodesAreMergedAndListStaysConsistent() {
+        UnrolledLinkedList<Integer> list = new UnrolledLinkedList<>(4);
+        for (int i = 0; i < 12; i++) {
+            list.add(i);
+        }
+
+        assertTrue(list.remove(Integer.valueOf(5)));
+        assertFalse(list.remove(Integer.valueOf(5)));
+        list.remove(4);
+        list.removeFirst();
+        list.removeLast();
+
+        assertEquals(8, list.size());
+        assertEquals(1, list.getFirst());
+        assertEquals(10, list.getLast());
+        assertEquals(6, list.get(3));
+    }
+
+    @Test
+    void givenAList_whenAllElementsAreRemoved_thenListIsEmptyAndCanBeReused() {
+        UnrolledLinkedList<Integer> list = new UnrolledLinkedList<>(2);
+        for (int i = 0; i < 5; i++) {
+            list.add(i);
+        }
+        while (!list.isEmpty()) {
+            list.removeLast();
+        }
+
+        list.add(7);
+        assertEquals(7, list.getFirst());
+        assertEquals(7, list.getLast());
+    }
+
+    @Test
+    void givenAListIterator_whenEditingAtTheCursorAcrossNodes_thenListMatchesExpectedContent() {
+        UnrolledLinkedList<Integer> list = new UnrolledLinkedList<>(4);
+        List<Integer> expected = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            list.add(i);
+            expected.add(i);
+        }
+
+        ListIterator<Integer> iterator = list.listIterator();
+        ListIterator<Integer> expectedIterator = expected.listIterator();
+        while (iterator.hasNext()) {
+            int e = iterator.next();
+            expectedIterator.next();
+            if(e % 3 == 0) {
+                iterator.remove();
+                expectedIterator.remove();
+            } else if(e % 3 == 1) {
+                iterator.add(-e);
+                expectedIterator.add(-e);
+            } else {
+                iterator.set(e * 10);
+                expectedIterator.set(e * 10);
+            }
+        }
+        while (iterator.hasPrevious()) {
+            assertEquals(expectedIterator.previous(), iterator.previous());
+        }
+
+        assertListEquals(expected, list);
+    }
+
+    @Test
+    void givenAnIterator_whenListIsModifiedOutsideOfIt_thenExceptionIsThrown() {
+        UnrolledLinkedList<String> list = new UnrolledLinkedList<>();
+        list.add("0");
+
+        Iterator<String> iterator = list.iterator();
+        list.add("1");
+
+        assertThrows(ConcurrentModificationException.class, iterator::next);
+    }
+
+    @Test
+    void givenRandomOperations_whenAppliedToListAndArrayList_thenBothHoldTheSameElements() {
+        UnrolledLinkedList<Integer> list = new UnrolledLinkedList<>(8);
+        List<Integer> expected = new ArrayList<>();
+        Random random = new Random(42);
+
+        for (int op = 0; op < 10_000; op++) {
+            int choice = random.nextInt(4);
+            if(expected.isEmpty() || choice < 2) {
+                int i = random.nextInt(expected.size() + 1);
+                list.add(i, op);
+                expected.add(i, op);
+            } else if(choice == 2) {
+                int i = random.nextInt(expected.size());
+                list.remove(i);
+                expected.remove(i);
+            } else {
+                int i = random.nextInt(expected.size());
+                assertEquals(expected.get(i), list.get(i));
+            }
+        }
+
+        assertListEquals(expected, list);
+    }
+
+    private static void assertListEquals(List<Integer> expected, SimpleList<Integer> actual) {
+        assertEquals(expected.size(), actual.size());
+        List<Integer> result = new ArrayList<>();
+        actual.forEach(result::add);
+        assertEquals(expected, result);
+    }
+
+    @Test
+    void givenAList_whenBulkOperationsAreCalled_thenTheDefaultImplementationsKeepOrder() {
+        UnrolledLinkedList<Integer> list = new UnrolledLinkedList<>();
+        List<Integer> expected = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            list.add(i);
+            expected.add(i);
+        }
+        List<Integer> batch = new ArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            batch.add(-i);
+        }
+
+        list.addAll(30, batch);
+        expected.addAll(30, batch);
+        list.removeRange(10, 90);
+        expected.subList(10, 90).clear();
+
+        assertArrayEquals(expected.toArray(), list.toArray());
+    }
+
+    @Test
+    void givenAList_whenSortedWithTheDefaultSort_thenElementsFollowTheComparator() {
+        UnrolledLinkedList<Integer> list = new UnrolledLinkedList<>();
+        List<Integer> expected = new ArrayList<>();
+        Random random = new Random(1);
+        for (int i = 0; i < 500; i++) {
+            int e = random.nextInt(50);
+            list.add(e);
+            expected.add(e);
+        }
+
+        list.sort(Comparator.reverseOrder());
+        expected.sort(Comparator.reverseOrder());
+
+        assertArrayEquals(expected.toArray(), list.toArray());
+    }
+
+}
@@ -0,0 +1,113 @@
+package io.github.jaymorelli.metrics;
+
+import io.github.jaymorelli.linkedList.DoublyLinkedList;
+import io.github.jaymorelli.linkedList.LinkedList;
+import io.github.jaymorelli.stack.StackLL;
+import org.junit.jupiter.api.Test;
+
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class OperationMetricsTest {
+
+    @Test
+    void givenAnInstrumentedDoublyLinkedList_whenOperationsArePerformed_thenTheyAreCountedWithTheirHops() {
+        OperationMetrics metrics = new OperationMetrics();
+        DoublyLinkedList<Integer> list = new DoublyLinkedList<>();
+        list.setMetricsListener(metrics);
+        for (int i = 0; i < 10; i++) {
+            list.add(i);
+        }
+
+        list.get(3);
+        list.get(4);
+        list.remove(Integer.valueOf(9));
+        list.removeFirst();
+
+        assertEquals(10, metrics.getOperationCount(Operation.ADD));
+        assertEquals(2, metrics.getOperationCount(Operation.GET));
+        assertEquals(1, metrics.getOperationCount(Operation.REMOVE_ELEMENT));
+        assertEquals(1, metrics.getOperationCount(Operation.REMOVE_FIRST));
+        assertEquals(3, metrics.getTraversalCount());
+        //3 hops from the head, 1 from the finger, 9 scanning for the element
+        assertEquals(13.0 / 3, metrics.getAverageHops(), 1e-9);
+        long[] histogram = metrics.getHopHistogram();
+        assertEquals(1, histogram[1]);
+        assertEquals(1, histogram[2]);
+        assertEquals(1, histogram[4]);
+        assertEquals(10, metrics.getMaxSize());
+        assertEquals((55.0 + 10 + 10 + 9 + 8) / 14, metrics.getAverageSize(), 1e-9);
+    }
+
+    @Test
+    void givenAnInstrumentedDoublyLinkedList_whenSplit_thenTheSuffixReportsToTheSameListener() {
+        OperationMetrics metrics = new OperationMetrics();
+        DoublyLinkedList<Integer> list = DoublyLinkedList.fromArray(0, 1, 2, 3);
+        list.setMetricsListener(metrics);
+
+        DoublyLinkedList<Integer> suffix = list.splitAt(2);
+        suffix.add(4);
+        list.add(2);
+
+        assertEquals(2, metrics.getOperationCount(Operation.ADD));
+        assertEquals(3, metrics.getMaxSize());
+    }
+
+    @Test
+    void givenAnInstrumentedLinkedList_whenElementsAreAdded_thenTheWalkToTheLastNodeIsReported() {
+        OperationMetrics metrics = new OperationMetrics();
+        LinkedList<Integer> list = new LinkedList<>();
+        list.setMetricsListener(metrics);
+        list.add(0);
+        list.add(1);
+        list.add(2);
+
+        assertEquals(3, metrics.getOperationCount(Operation.ADD));
+        //Walks of 0 and 1 hops to the last node, the first add needs none
+        assertEquals(2, metrics.getTraversalCount());
+        assertEquals(0.5, metrics.getAverageHops(), 1e-9);
+    }
+
+    @Test
+    void givenAnInstrumentedStack_whenListenerIsRemoved_thenOperationsAreNoLongerCounted() {
+        OperationMetrics metrics = new OperationMetrics();
+        StackLL<String> stack = new StackLL<>();
+        stack.setMetricsListener(metrics);
+        stack.push("a");
+        stack.push("b");
+        stack.peek();
+        stack.pop();
+
+        stack.setMetricsListener(null);
+        stack.push("c");
+
+        assertEquals(2, metrics.getOperationCount(Operation.PUSH));
+        assertEquals(1, metrics.getOperationCount(Operation.PEEK));
+        assertEquals(1, metrics.getOperationCount(Operation.POP));
+        assertEquals(2, metrics.getMaxSize());
+        metrics.reset();
+        assertEquals(0, metrics.getOperationCounts().values().stream().mapToLong(Long::longValue).sum());
+        assertEquals(0, metrics.getMaxSize());
+    }
+
+    @Test
+    void givenRegisteredMetrics_whenReadOverJmx_thenCountersAreExposed() throws Exception {
+        OperationMetrics metrics = new OperationMetrics();
+        ObjectName name = metrics.register("test-list");
+        try {
+            metrics.onOperation(Operation.GET, 5);
+            metrics.onTraversal(4);
+            MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+
+            assertEquals(5L, server.getAttribute(name, "MaxSize"));
+            assertEquals(1L, server.getAttribute(name, "TraversalCount"));
+            assertThrows(IllegalStateException.class, () -> metrics.register("test-list"));
+        } finally {
+            OperationMetrics.unregister("test-list");
+        }
+        assertFalse(ManagementFactory.getPlatformMBeanServer().isRegistered(name));
+    }
+}
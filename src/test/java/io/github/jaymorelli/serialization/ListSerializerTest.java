@@ -0,0 +1,189 @@
+package io.github.jaymorelli.serialization;
+
+import io.github.jaymorelli.linkedList.DoublyLinkedList;
+import io.github.jaymorelli.linkedList.IntDoublyLinkedList;
+import io.github.jaymorelli.linkedList.LinkedList;
+import io.github.jaymorelli.linkedList.LongDoublyLinkedList;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ListSerializerTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void givenAListSpanningSeveralChunks_whenWrittenAndReadBack_thenElementsAreTheSame() throws IOException {
+        DoublyLinkedList<Integer> list = new DoublyLinkedList<>();
+        for (int i = 0; i < 600_000; i++) {
+            list.add(i);
+        }
+        Path file = directory.resolve("integers.bin");
+
+        long written;
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE)) {
+            written = ListSerializer.write(list, ElementCodec.ofIntegers(), channel);
+        }
+        DoublyLinkedList<Integer> copy = new DoublyLinkedList<>();
+        copy.add(-1);
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            assertEquals(600_000, ListSerializer.read(channel, ElementCodec.ofIntegers(), copy));
+        }
+
+        assertEquals(Files.size(file), written);
+        assertEquals(600_001, copy.size());
+        assertEquals(-1, copy.getFirst());
+        assertEquals(0, copy.get(1));
+        assertEquals(599_999, copy.getLast());
+    }
+
+    @Test
+    void givenStringsOfDifferentLengths_whenWrittenAndReadBack_thenElementsAreTheSame() throws IOException {
+        LinkedList<String> list = new LinkedList<>();
+        list.addFirst("y".repeat(2 << 20));
+        list.addFirst("x".repeat(3 << 20));
+        list.addFirst("\uD83D\uDE00 é \uD800");
+        list.addFirst("");
+        list.addFirst("z".repeat(2 << 20));
+        Path file = directory.resolve("strings.bin");
+
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE)) {
+            ListSerializer.write(list, ElementCodec.ofStrings(), channel);
+        }
+        DoublyLinkedList<String> copy = new DoublyLinkedList<>();
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            ListSerializer.read(channel, ElementCodec.ofStrings(), copy);
+        }
+
+        assertEquals(5, copy.size());
+        assertEquals("z".repeat(2 << 20), copy.get(0));
+        assertEquals("", copy.get(1));
+        assertEquals("\uD83D\uDE00 é ?", copy.get(2));
+        assertEquals(3 << 20, copy.get(3).length());
+        assertEquals(2 << 20, copy.get(4).length());
+    }
+
+    @Test
+    void givenPrimitiveLists_whenWrittenAndReadBack_thenElementsAreTheSame() throws IOException {
+        IntDoublyLinkedList ints = new IntDoublyLinkedList();
+        LongDoublyLinkedList longs = new LongDoublyLinkedList();
+        for (int i = 0; i < 300_000; i++) {
+            ints.add(i * 3);
+            longs.add((long) i << 32);
+        }
+        Path intFile = directory.resolve("ints.bin");
+        Path longFile = directory.resolve("longs.bin");
+
+        try (FileChannel intChannel = FileChannel.open(intFile, StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+             FileChannel longChannel = FileChannel.open(longFile, StandardOpenOption.CREATE, StandardOpenOption.WRITE)) {
+            ListSerializer.write(ints, intChannel);
+            ListSerializer.write(longs, longChannel);
+        }
+        IntDoublyLinkedList intCopy = new IntDoublyLinkedList();
+        LongDoublyLinkedList longCopy = new LongDoublyLinkedList();
+        try (FileChannel intChannel = FileChannel.open(intFile, StandardOpenOption.READ);
+             FileChannel longChannel = FileChannel.open(longFile, StandardOpenOption.READ)) {
+            ListSerializer.readInts(intChannel, intCopy);
+            ListSerializer.readLongs(longChannel, longCopy);
+        }
+
+        assertArrayEquals(ints.toArray(), intCopy.toArray());
+        assertArrayEquals(longs.toArray(), longCopy.toArray());
+    }
+
+    @Test
+    void givenAnInvalidOrTruncatedFile_whenRead_thenExceptionIsThrown() throws IOException {
+        IntDoublyLinkedList ints = new IntDoublyLinkedList();
+        for (int i = 0; i < 10; i++) {
+            ints.add(i);
+        }
+        Path file = directory.resolve("ints.bin");
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE)) {
+            ListSerializer.write(ints, channel);
+        }
+
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            assertThrows(IOException.class, () -> ListSerializer.readLongs(channel, new LongDoublyLinkedList()));
+        }
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+            channel.truncate(Files.size(file) - 4);
+        }
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            assertThrows(EOFException.class, () -> ListSerializer.readInts(channel, new IntDoublyLinkedList()));
+        }
+        Files.write(file, new byte[]{1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 11, 12, 13, 14, 15, 16});
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            assertThrows(IOException.class, () -> ListSerializer.readInts(channel, new IntDoublyLinkedList()));
+        }
+    }
+
+    @Test
+    void givenALargeList_whenReadIntoALinkedList_thenElementsAreAppendedInOrder() throws IOException {
+        DoublyLinkedList<Integer> list = new DoublyLinkedList<>();
+        for (int i = 0; i < 600_000; i++) {
+            list.add(i);
+        }
+        Path file = directory.resolve("integers.bin");
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE)) {
+            ListSerializer.write(list, ElementCodec.ofIntegers(), channel);
+        }
+
+        //One add per element walks the whole singly linked list each time, this would not finish in time
+        LinkedList<Integer> copy = new LinkedList<>();
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            assertTimeoutPreemptively(Duration.ofSeconds(10), () -> ListSerializer.read(channel, ElementCodec.ofIntegers(), copy));
+        }
+
+        assertEquals(600_000, copy.size());
+        assertEquals(0, copy.getFirst());
+        assertEquals(599_999, copy.get(599_999));
+    }
+
+    @Test
+    void givenAChunkWhoseLengthDoesNotMatchItsElements_whenRead_thenIOExceptionIsThrown() throws IOException {
+        DoublyLinkedList<Integer> list = DoublyLinkedList.fromArray(1, 2, 3);
+        Path file = directory.resolve("integers.bin");
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE)) {
+            ListSerializer.write(list, ElementCodec.ofIntegers(), channel);
+        }
+        byte[] bytes = Files.readAllBytes(file);
+
+        //One element fewer than the 12 bytes of the chunk: 4 bytes are left over
+        ByteBuffer.wrap(bytes).putInt(16, 2);
+        Files.write(file, bytes);
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            assertThrows(IOException.class, () -> ListSerializer.read(channel, ElementCodec.ofIntegers(), new DoublyLinkedList<>()));
+        }
+
+        //One element more than the chunk holds
+        ByteBuffer.wrap(bytes).putInt(16, 4).putLong(8, 4);
+        Files.write(file, bytes);
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            assertThrows(IOException.class, () -> ListSerializer.read(channel, ElementCodec.ofIntegers(), new DoublyLinkedList<>()));
+        }
+
+        IntDoublyLinkedList ints = new IntDoublyLinkedList();
+        ints.add(1);
+        ints.add(2);
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            ListSerializer.write(ints, channel);
+        }
+        bytes = Files.readAllBytes(file);
+        ByteBuffer.wrap(bytes).putInt(16, 1).putLong(8, 1);
+        Files.write(file, bytes);
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            assertThrows(IOException.class, () -> ListSerializer.readInts(channel, new IntDoublyLinkedList()));
+        }
+    }
+}
@@ -0,0 +1,82 @@
+package io.github.jaymorelli.stack;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.EmptyStackException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ArrayStackTest {
+
+    @Test
+    void whenNewStackIsCreated_thenStackIsEmpty() {
+        Stack<String> stack = new ArrayStack<>();
+
+        assertEquals(0, stack.size());
+        assertTrue(stack.isEmpty());
+        assertThrows(EmptyStackException.class, stack::pop);
+        assertThrows(EmptyStackException.class, stack::peek);
+    }
+
+    @Test
+    void givenAStack_whenMultipleElementsArePushed_thenTheyArePoppedInReverseOrder() {
+        Stack<String> stack = new ArrayStack<>();
+        stack.push("1");
+        stack.push("2");
+        stack.push("3");
+
+        assertEquals(3, stack.size());
+        assertEquals("3", stack.peek());
+        assertEquals("3", stack.pop());
+        assertEquals("2", stack.pop());
+        assertEquals("1", stack.pop());
+        assertTrue(stack.isEmpty());
+    }
+
+    @Test
+    void givenAFullStack_whenNewElementIsPushed_thenArrayGrows() {
+        ArrayStack<Integer> stack = new ArrayStack<>(2, false);
+        for (int i = 0; i < 5; i++) {
+            stack.push(i);
+        }
+
+        assertEquals(5, stack.size());
+        assertEquals(8, stack.capacity());
+        assertEquals(4, stack.peek());
+    }
+
+    @Test
+    void givenShrinkIsEnabled_whenStackGetsAQuarterFull_thenArrayIsHalvedButNotBelowInitialCapacity() {
+        ArrayStack<Integer> stack = new ArrayStack<>(2, true);
+        for (int i = 0; i < 16; i++) {
+            stack.push(i);
+        }
+        for (int i = 0; i < 12; i++) {
+            stack.pop();
+        }
+
+        assertEquals(8, stack.capacity());
+        while (!stack.isEmpty()) {
+            stack.pop();
+        }
+        assertEquals(2, stack.capacity());
+    }
+
+    @Test
+    void givenShrinkIsDisabled_whenStackIsEmptied_thenArrayKeepsItsSize() {
+        ArrayStack<Integer> stack = new ArrayStack<>(2, false);
+        for (int i = 0; i < 16; i++) {
+            stack.push(i);
+        }
+        while (!stack.isEmpty()) {
+            stack.pop();
+        }
+
+        assertEquals(16, stack.capacity());
+    }
+
+    @Test
+    void givenAnInvalidCapacity_whenStackIsCreated_thenExceptionIsThrown() {
+        assertThrows(IllegalArgumentException.class, () -> new ArrayStack<String>(0, false));
+    }
+}
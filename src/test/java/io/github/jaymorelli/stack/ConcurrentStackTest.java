@@ -0,0 +1,81 @@
+package io.github.jaymorelli.stack;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.EmptyStackException;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ConcurrentStackTest {
+
+    @Test
+    void whenNewStackIsCreated_thenStackIsEmpty() {
+        Stack<String> stack = new ConcurrentStack<>();
+
+        assertEquals(0, stack.size());
+        assertTrue(stack.isEmpty());
+        assertThrows(EmptyStackException.class, stack::pop);
+        assertThrows(EmptyStackException.class, stack::peek);
+    }
+
+    @Test
+    void givenAStack_whenMultipleElementsArePushed_thenTheyArePoppedInReverseOrder() {
+        Stack<String> stack = new ConcurrentStack<>();
+        stack.push("1");
+        stack.push("2");
+        stack.push("3");
+
+        assertEquals(3, stack.size());
+        assertEquals("3", stack.peek());
+        assertEquals("3", stack.pop());
+        assertEquals("2", stack.pop());
+        assertEquals("1", stack.pop());
+        assertTrue(stack.isEmpty());
+    }
+
+    @Test
+    void givenManyThreads_whenTheyPushAndPopConcurrently_thenEveryElementIsPoppedExactlyOnce() throws Exception {
+        ConcurrentStack<Integer> stack = new ConcurrentStack<>();
+        int threads = 8;
+        int perThread = 20_000;
+        Set<Integer> popped = ConcurrentHashMap.newKeySet();
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+
+        Future<?>[] futures = new Future<?>[threads];
+        for (int t = 0; t < threads; t++) {
+            int offset = t * perThread;
+            futures[t] = executor.submit(() -> {
+                start.await();
+                for (int i = 0; i < perThread; i++) {
+                    stack.push(offset + i);
+                    if(i % 2 == 1) {
+                        assertTrue(popped.add(stack.pop()));
+                    }
+                }
+                return null;
+            });
+        }
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get(30, TimeUnit.SECONDS);
+        }
+        executor.shutdown();
+
+        assertEquals(threads * perThread / 2, stack.size());
+        Set<Integer> remaining = new HashSet<>();
+        while (!stack.isEmpty()) {
+            assertTrue(remaining.add(stack.pop()));
+        }
+        remaining.addAll(popped);
+        assertEquals(threads * perThread, remaining.size());
+    }
+}
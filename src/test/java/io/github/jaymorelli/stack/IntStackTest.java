@@ -0,0 +1,35 @@
+package io.github.jaymorelli.stack;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.EmptyStackException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class IntStackTest {
+
+    @Test
+    void whenNewStackIsCreated_thenStackIsEmpty() {
+        IntStack stack = new IntStack();
+
+        assertEquals(0, stack.size());
+        assertTrue(stack.isEmpty());
+        assertThrows(EmptyStackException.class, stack::pop);
+        assertThrows(EmptyStackException.class, stack::peek);
+    }
+
+    @Test
+    void givenMoreElementsThanTheInitialCapacity_whenTheyArePushed_thenTheyArePoppedInReverseOrder() {
+        IntStack stack = new IntStack(2);
+        for (int i = 0; i < 10; i++) {
+            stack.push(i);
+        }
+
+        assertEquals(10, stack.size());
+        assertEquals(9, stack.peek());
+        for (int i = 9; i >= 0; i--) {
+            assertEquals(i, stack.pop());
+        }
+        assertTrue(stack.isEmpty());
+    }
+}
@@ -0,0 +1,250 @@
+package io.github.jaymorelli.stack;
+
+import io.github.jaymorelli.serialization.ElementCodec;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.EmptyStackException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PersistentStackTest {
+    private static final int HEADER_SIZE = 96;
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void givenPushedElements_whenPopped_thenElementsComeBackInReverseOrder() throws IOException {
+        try (PersistentStack<String> stack = new PersistentStack<>(directory.resolve("stack.bin"), ElementCodec.ofStrings(), 1)) {
+            stack.push("a");
+            stack.push("bb");
+            stack.push("ccc");
+
+            assertEquals(3, stack.size());
+            assertEquals("ccc", stack.peek());
+            assertEquals("ccc", stack.pop());
+            stack.push("d");
+            assertEquals("d", stack.pop());
+            assertEquals("bb", stack.pop());
+            assertEquals("a", stack.pop());
+            assertTrue(stack.isEmpty());
+            assertThrows(EmptyStackException.class, stack::pop);
+            assertThrows(EmptyStackException.class, stack::peek);
+        }
+    }
+
+    @Test
+    void givenAClosedStack_whenReopened_thenElementsAreStillThere() throws IOException {
+        Path file = directory.resolve("stack.bin");
+        try (PersistentStack<Integer> stack = new PersistentStack<>(file, ElementCodec.ofIntegers(), 100)) {
+            for (int i = 0; i < 10; i++) {
+                stack.push(i);
+            }
+            stack.pop();
+        }
+
+        try (PersistentStack<Integer> stack = new PersistentStack<>(file, ElementCodec.ofIntegers(), 100)) {
+            assertEquals(9, stack.size());
+            for (int i = 8; i >= 0; i--) {
+                assertEquals(i, stack.pop());
+            }
+            assertTrue(stack.isEmpty());
+        }
+    }
+
+    @Test
+    void givenACorruptedHeaderSlot_whenReopened_thenThePreviousStateIsRecovered() throws IOException {
+        Path file = directory.resolve("stack.bin");
+        try (PersistentStack<Integer> stack = new PersistentStack<>(file, ElementCodec.ofIntegers(), 1)) {
+            stack.push(1);
+            stack.push(2);
+        }
+        //The push of 2 wrote the slot with the newest sequence number, tear it
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            ByteBuffer slots = ByteBuffer.allocate(HEADER_SIZE);
+            channel.read(slots, 0);
+            int newest = slots.getLong(0) > slots.getLong(HEADER_SIZE / 2) ? 0 : HEADER_SIZE / 2;
+            channel.write(ByteBuffer.wrap(new byte[]{ 42 }), newest + 20);
+        }
+
+        try (PersistentStack<Integer> stack = new PersistentStack<>(file, ElementCodec.ofIntegers(), 1)) {
+            assertEquals(1, stack.size());
+            assertEquals(1, stack.peek());
+        }
+    }
+
+    @Test
+    void givenACorruptedTopRecord_whenReopened_thenTheStateBeforeItsPushIsRecovered() throws IOException {
+        Path file = directory.resolve("stack.bin");
+        try (PersistentStack<String> stack = new PersistentStack<>(file, ElementCodec.ofStrings(), 1)) {
+            stack.push("first");
+            stack.push("second");
+        }
+        //Flip a byte of "second", the record right after "first": [length][stamp][string length][chars][CRC32][length]
+        int secondPayload = HEADER_SIZE + (20 + 4 + "first".length()) + 12 + 4;
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            channel.write(ByteBuffer.wrap(new byte[]{ 'X' }), secondPayload);
+        }
+
+        try (PersistentStack<String> stack = new PersistentStack<>(file, ElementCodec.ofStrings(), 1)) {
+            assertEquals(1, stack.size());
+            assertEquals("first", stack.pop());
+        }
+    }
+
+    @Test
+    void givenOnlyTheHeaderWrittenBackAfterUnsyncedPushes_whenReopened_thenTheLastSyncedStateIsRecovered() throws IOException {
+        Path file = directory.resolve("stack.bin");
+        Path crashed = directory.resolve("crashed.bin");
+        try (PersistentStack<Integer> stack = new PersistentStack<>(file, ElementCodec.ofIntegers(), 100)) {
+            stack.push(1);
+            stack.push(2);
+            stack.sync();
+            byte[] synced = Files.readAllBytes(file);
+            stack.push(3);
+            stack.push(4);
+            writeCrashImage(synced, Files.readAllBytes(file), crashed);
+        }
+
+        try (PersistentStack<Integer> stack = new PersistentStack<>(crashed, ElementCodec.ofIntegers(), 100)) {
+            assertEquals(2, stack.size());
+            assertEquals(2, stack.pop());
+            assertEquals(1, stack.pop());
+        }
+    }
+
+    @Test
+    void givenOnlyTheHeaderWrittenBackOverPoppedRecords_whenReopened_thenPoppedElementsAreNotRecovered() throws IOException {
+        Path file = directory.resolve("stack.bin");
+        Path crashed = directory.resolve("crashed.bin");
+        try (PersistentStack<Integer> stack = new PersistentStack<>(file, ElementCodec.ofIntegers(), 100)) {
+            for (int i = 1; i <= 4; i++) {
+                stack.push(i);
+            }
+            stack.pop();
+            stack.pop();
+            stack.sync();
+            //The records of 3 and 4 are still in the file, right where 5 and 6 go
+            byte[] synced = Files.readAllBytes(file);
+            stack.push(5);
+            stack.push(6);
+            writeCrashImage(synced, Files.readAllBytes(file), crashed);
+        }
+
+        try (PersistentStack<Integer> stack = new PersistentStack<>(crashed, ElementCodec.ofIntegers(), 100)) {
+            assertEquals(2, stack.size());
+            assertEquals(2, stack.pop());
+            assertEquals(1, stack.pop());
+        }
+    }
+
+    @Test
+    void givenAPushOverSyncedRecords_whenItsHeaderIsLost_thenAStateThatExistedIsRecovered() throws IOException {
+        Path file = directory.resolve("stack.bin");
+        Path crashed = directory.resolve("crashed.bin");
+        try (PersistentStack<String> stack = new PersistentStack<>(file, ElementCodec.ofStrings(), 100)) {
+            stack.push("a");
+            stack.push("b");
+            stack.sync();
+            stack.pop();
+            stack.pop();
+            //Goes where "a" was, which the synced slot points at
+            stack.push("c");
+            //The records reached the disk, the unsynced header slot did not
+            byte[] current = Files.readAllBytes(file);
+            ByteBuffer header = ByteBuffer.wrap(current);
+            int newest = header.getLong(0) > header.getLong(HEADER_SIZE / 2) ? 0 : HEADER_SIZE / 2;
+            Arrays.fill(current, newest, newest + HEADER_SIZE / 2, (byte) 0);
+            Files.write(crashed, current);
+        }
+
+        try (PersistentStack<String> stack = new PersistentStack<>(crashed, ElementCodec.ofStrings(), 100)) {
+            assertTrue(stack.isEmpty());
+        }
+    }
+
+    @Test
+    void givenUnsyncedPushes_whenTheProcessDiesWithTheFileIntact_thenTheyAreRecovered() throws IOException {
+        Path file = directory.resolve("stack.bin");
+        Path crashed = directory.resolve("crashed.bin");
+        try (PersistentStack<Integer> stack = new PersistentStack<>(file, ElementCodec.ofIntegers(), 100)) {
+            stack.push(1);
+            stack.sync();
+            stack.push(2);
+            stack.push(3);
+            Files.write(crashed, Files.readAllBytes(file));
+        }
+
+        try (PersistentStack<Integer> stack = new PersistentStack<>(crashed, ElementCodec.ofIntegers(), 100)) {
+            assertEquals(3, stack.size());
+            assertEquals(3, stack.pop());
+        }
+    }
+
+    @Test
+    void givenACorruptedRecordBelowTheTop_whenPopped_thenThrowsUncheckedIOException() throws IOException {
+        Path file = directory.resolve("stack.bin");
+        try (PersistentStack<Integer> stack = new PersistentStack<>(file, ElementCodec.ofIntegers(), 1)) {
+            stack.push(1);
+            stack.push(2);
+        }
+        //Flip a byte of 1, the first record: [length][stamp][int][CRC32][length]
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            channel.write(ByteBuffer.wrap(new byte[]{ 42 }), HEADER_SIZE + 12);
+        }
+
+        try (PersistentStack<Integer> stack = new PersistentStack<>(file, ElementCodec.ofIntegers(), 1)) {
+            assertEquals(2, stack.pop());
+            assertThrows(UncheckedIOException.class, stack::pop);
+        }
+    }
+
+    @Test
+    void givenMoreElementsThanTheInitialFile_whenPushed_thenFileGrowsAndKeepsThem() throws IOException {
+        Path file = directory.resolve("stack.bin");
+        try (PersistentStack<Long> stack = new PersistentStack<>(file, ElementCodec.ofLongs(), 1000)) {
+            for (long i = 0; i < 200_000; i++) {
+                stack.push(i);
+            }
+        }
+        assertTrue(Files.size(file) > 1 << 20);
+
+        try (PersistentStack<Long> stack = new PersistentStack<>(file, ElementCodec.ofLongs(), 1000)) {
+            assertEquals(200_000, stack.size());
+            for (long i = 199_999; i >= 0; i--) {
+                assertEquals(i, stack.pop());
+            }
+        }
+    }
+
+    @Test
+    void givenAFileWithoutAValidHeader_whenOpened_thenThrowsIOException() throws IOException {
+        Path file = directory.resolve("garbage.bin");
+        Files.write(file, new byte[128]);
+
+        assertThrows(IOException.class, () -> new PersistentStack<>(file, ElementCodec.ofIntegers(), 1));
+    }
+
+    /**
+     * The synced file with only the header taken from the current one, as if the OS wrote back the header page
+     * and the crash hit before the pages holding the new records.
+     */
+    private static void writeCrashImage(byte[] synced, byte[] current, Path crashed) throws IOException {
+        System.arraycopy(current, 0, synced, 0, HEADER_SIZE);
+        Files.write(crashed, synced);
+    }
+
+    @Test
+    void givenASyncIntervalBelowOne_whenCreated_thenThrowsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new PersistentStack<>(directory.resolve("stack.bin"), ElementCodec.ofIntegers(), 0));
+    }
+}
@@ -0,0 +1,200 @@
+package io.github.jaymorelli.stack;
+
+import io.github.jaymorelli.serialization.ElementCodec;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.EmptyStackException;
+import java.util.Random;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SpillingStackTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void givenMoreElementsThanFitInMemory_whenPopped_thenElementsComeBackInReverseOrder() throws IOException {
+        try (SpillingStack<Integer> stack = new SpillingStack<>(ElementCodec.ofIntegers(), 4, 3, directory)) {
+            for (int i = 0; i < 1000; i++) {
+                stack.push(i);
+            }
+
+            assertEquals(1000, stack.size());
+            assertEquals(1000 / 4 - 3, stack.spilledSegments());
+            assertEquals(999, stack.peek());
+            for (int i = 999; i >= 0; i--) {
+                assertEquals(i, stack.pop());
+            }
+            assertTrue(stack.isEmpty());
+            assertEquals(0, stack.spilledSegments());
+            assertThrows(EmptyStackException.class, stack::pop);
+            assertThrows(EmptyStackException.class, stack::peek);
+        }
+    }
+
+    @Test
+    void givenRandomPushesAndPops_whenCompared_thenBehavesLikeAnInMemoryStack() throws IOException {
+        Random random = new Random(42);
+        ArrayDeque<String> expected = new ArrayDeque<>();
+        try (SpillingStack<String> stack = new SpillingStack<>(ElementCodec.ofStrings(), 8, 3, directory)) {
+            for (int i = 0; i < 50_000; i++) {
+                //Push slightly more often than pop, so the stack keeps crossing spill boundaries while growing
+                if(random.nextInt(100) < 55 || expected.isEmpty()) {
+                    String e = "e" + i;
+                    stack.push(e);
+                    expected.push(e);
+                } else {
+                    assertEquals(expected.pop(), stack.pop());
+                }
+                assertEquals(expected.size(), stack.size());
+            }
+            assertTrue(stack.spilledSegments() > 0);
+            while(!expected.isEmpty()) {
+                assertEquals(expected.pop(), stack.pop());
+            }
+            assertTrue(stack.isEmpty());
+        }
+    }
+
+    @Test
+    void givenAStackAtASegmentBoundary_whenPushAndPopAlternate_thenNothingIsSpilledAgain() throws IOException {
+        try (SpillingStack<Integer> stack = new SpillingStack<>(ElementCodec.ofIntegers(), 4, 3, directory)) {
+            for (int i = 0; i < 13; i++) {
+                stack.push(i);
+            }
+            assertEquals(1, stack.spilledSegments());
+
+            for (int i = 0; i < 100; i++) {
+                stack.pop();
+                stack.push(12);
+            }
+            assertEquals(1, stack.spilledSegments());
+        }
+    }
+
+    @Test
+    void givenASpilledStack_whenClosed_thenNoSpillFileIsLeft() throws IOException {
+        SpillingStack<Integer> stack = new SpillingStack<>(ElementCodec.ofIntegers(), 4, 3, directory);
+        for (int i = 0; i < 100; i++) {
+            stack.push(i);
+        }
+        assertTrue(stack.spilledSegments() > 0);
+
+        stack.close();
+
+        try (Stream<Path> files = Files.list(directory)) {
+            assertEquals(0, files.count());
+        }
+    }
+
+    @Test
+    void givenAStackThatNeverSpills_whenUsed_thenNoFileIsCreated() throws IOException {
+        try (SpillingStack<Integer> stack = new SpillingStack<>(ElementCodec.ofIntegers(), 4, 3, directory)) {
+            for (int i = 0; i < 12; i++) {
+                stack.push(i);
+            }
+            assertEquals(0, stack.spilledSegments());
+            try (Stream<Path> files = Files.list(directory)) {
+                assertEquals(0, files.count());
+            }
+        }
+    }
+
+    @Test
+    void givenACodecFailingToWrite_whenASpillIsNeeded_thenPushThrowsAndTheStackIsUnchanged() throws IOException {
+        FailingCodec codec = new FailingCodec();
+        try (SpillingStack<Integer> stack = new SpillingStack<>(codec, 4, 3, directory)) {
+            for (int i = 0; i < 12; i++) {
+                stack.push(i);
+            }
+            codec.failing = true;
+
+            assertThrows(IllegalStateException.class, () -> stack.push(12));
+            assertEquals(12, stack.size());
+            assertEquals(0, stack.spilledSegments());
+
+            codec.failing = false;
+            stack.push(12);
+            assertEquals(1, stack.spilledSegments());
+            for (int i = 12; i >= 0; i--) {
+                assertEquals(i, stack.pop());
+            }
+        }
+    }
+
+    @Test
+    void givenACodecFailingToRead_whenALoadIsNeeded_thenPopThrowsAndTheStackIsUnchanged() throws IOException {
+        FailingCodec codec = new FailingCodec();
+        try (SpillingStack<Integer> stack = new SpillingStack<>(codec, 4, 3, directory)) {
+            for (int i = 0; i < 13; i++) {
+                stack.push(i);
+            }
+            codec.failing = true;
+            int expected = 12;
+            //Pops served from memory still work, until one needs the spilled segment
+            while(stack.spilledSegments() > 0) {
+                try {
+                    assertEquals(expected, stack.pop());
+                    expected--;
+                } catch (IllegalStateException e) {
+                    assertEquals(expected + 1, stack.size());
+                    assertEquals(expected, stack.peek());
+                    codec.failing = false;
+                }
+            }
+            assertFalse(codec.failing);
+
+            for (int i = expected; i >= 0; i--) {
+                assertEquals(i, stack.pop());
+            }
+            assertTrue(stack.isEmpty());
+        }
+    }
+
+    @Test
+    void givenANullElement_whenPushed_thenThrowsNullPointerException() throws IOException {
+        try (SpillingStack<Integer> stack = new SpillingStack<>(ElementCodec.ofIntegers(), 4, 3, directory)) {
+            assertThrows(NullPointerException.class, () -> stack.push(null));
+            assertTrue(stack.isEmpty());
+        }
+    }
+
+    @Test
+    void givenInvalidSizes_whenCreated_thenThrowsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new SpillingStack<>(ElementCodec.ofIntegers(), 0, 3, directory));
+        assertThrows(IllegalArgumentException.class, () -> new SpillingStack<>(ElementCodec.ofIntegers(), 4, 2, directory));
+    }
+
+    /**
+     * Integer codec throwing on write and read while failing is set.
+     */
+    private static class FailingCodec implements ElementCodec<Integer> {
+        private final ElementCodec<Integer> codec = ElementCodec.ofIntegers();
+        boolean failing;
+
+        @Override
+        public int size(Integer e) {
+            return codec.size(e);
+        }
+
+        @Override
+        public void write(Integer e, ByteBuffer buffer) {
+            if(failing) throw new IllegalStateException("Write failure");
+            codec.write(e, buffer);
+        }
+
+        @Override
+        public Integer read(ByteBuffer buffer) {
+            if(failing) throw new IllegalStateException("Read failure");
+            return codec.read(buffer);
+        }
+    }
+}
@@ -2,6 +2,10 @@ package io.github.jaymorelli.stack;
 
 import org.junit.jupiter.api.Test;
 
+import java.util.EmptyStackException;
+import java.util.Iterator;
+import java.util.List;
+
 import static org.junit.jupiter.api.Assertions.*;
 
 class StackLLTest {
@@ -85,5 +89,94 @@ class StackLLTest {
         assertEquals("3", stack.peek());
     }
 
+    @Test
+    void givenAPooledStack_whenElementsArePushedAndPoppedRepeatedly_thenElementsAreReturnedInLifoOrder() {
+        StackLL<Integer> stack = new StackLL<>(4);
+        for (int round = 0; round < 3; round++) {
+            for (int i = 0; i < 10; i++) {
+                stack.push(round * 10 + i);
+            }
+            for (int i = 9; i >= 0; i--) {
+                assertEquals(round * 10 + i, stack.pop());
+            }
+            assertTrue(stack.isEmpty());
+        }
+
+        assertThrows(IllegalArgumentException.class, () -> new StackLL<>(-1));
+    }
+
+    @Test
+    void givenElementsPushedInBatch_whenPopped_thenLastOneIsOnTop() {
+        StackLL<String> stack = new StackLL<>();
+        stack.push("0");
+        stack.pushAll(new String[]{ "1", "2" });
+        stack.pushAll(List.of("3", "4"));
+        stack.pushAll(() -> List.of("5").iterator());
+        stack.pushAll(new String[0]);
+
+        assertEquals(6, stack.size());
+        for (int i = 5; i >= 0; i--) {
+            assertEquals(String.valueOf(i), stack.pop());
+        }
+        assertTrue(stack.isEmpty());
+    }
+
+    @Test
+    void givenAnIterableFailingPartway_whenPushedInBatch_thenStackIsUnchanged() {
+        StackLL<String> stack = new StackLL<>();
+        stack.push("0");
+        Iterable<String> failing = () -> new Iterator<>() {
+            private int count;
+
+            @Override
+            public boolean hasNext() {
+                return true;
+            }
+
+            @Override
+            public String next() {
+                if(++count == 3) throw new IllegalStateException("Source failure");
+                return "x";
+            }
+        };
+
+        assertThrows(IllegalStateException.class, () -> stack.pushAll(failing));
+        assertEquals(1, stack.size());
+        assertEquals("0", stack.pop());
+        assertTrue(stack.isEmpty());
+        assertThrows(EmptyStackException.class, stack::pop);
+    }
+
+    @Test
+    void givenAStack_whenPeekNIsCalled_thenTopElementsAreReturnedTopFirstWithoutBeingRemoved() {
+        StackLL<Integer> stack = new StackLL<>();
+        stack.pushAll(new Integer[]{ 1, 2, 3, 4 });
+
+        assertEquals(List.of(4, 3, 2), stack.peekN(3));
+        assertEquals(List.of(), stack.peekN(0));
+        assertEquals(4, stack.size());
+        assertThrows(EmptyStackException.class, () -> stack.peekN(5));
+        assertThrows(IllegalArgumentException.class, () -> stack.peekN(-1));
+    }
+
+    @Test
+    void givenAStack_whenPopNIsCalled_thenTopElementsAreWrittenInPopOrder() {
+        StackLL<Integer> stack = new StackLL<>(8);
+        stack.pushAll(new Integer[]{ 1, 2, 3, 4, 5 });
+        Integer[] dest = new Integer[4];
+
+        stack.popN(3, dest);
+
+        assertArrayEquals(new Integer[]{ 5, 4, 3, null }, dest);
+        assertEquals(2, stack.size());
+        assertEquals(2, stack.peek());
+        assertThrows(EmptyStackException.class, () -> stack.popN(3, dest));
+        assertEquals(2, stack.size());
+        assertThrows(IllegalArgumentException.class, () -> stack.popN(2, new Integer[1]));
+
+        stack.popN(2, dest);
+        assertTrue(stack.isEmpty());
+        assertArrayEquals(new Integer[]{ 2, 1, 3, null }, dest);
+    }
 
 }